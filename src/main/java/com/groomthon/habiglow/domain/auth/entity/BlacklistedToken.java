@@ -7,6 +7,7 @@ import com.groomthon.habiglow.global.entity.BaseTimeEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +19,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "blacklisted_tokens")
+@Table(name = "blacklisted_tokens", indexes = {
+	@Index(name = "idx_blacklisted_tokens_created_at", columnList = "created_at"),
+	@Index(name = "idx_blacklisted_tokens_expires_at", columnList = "expires_at")
+})
 public class BlacklistedToken extends BaseTimeEntity {
 
 	@Id
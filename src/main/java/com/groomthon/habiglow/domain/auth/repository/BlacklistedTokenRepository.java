@@ -1,6 +1,7 @@
 package com.groomthon.habiglow.domain.auth.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,7 +12,20 @@ import com.groomthon.habiglow.domain.auth.entity.BlacklistedToken;
 
 public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedToken, String> {
 
+	boolean existsByTokenHashAndExpiresAtAfter(String tokenHash, LocalDateTime now);
+
+	/**
+	 * 만료된 토큰을 최대 batchSize 건만 삭제 (다른 인스턴스가 잡고 있는 행은 건너뜀)
+	 */
 	@Modifying
-	@Query("DELETE FROM BlacklistedToken bt WHERE bt.expiresAt < :now")
-	int deleteExpiredTokens(@Param("now") LocalDateTime now);
+	@Query(value = "DELETE FROM blacklisted_tokens WHERE token_hash IN ("
+		+ "SELECT token_hash FROM blacklisted_tokens WHERE expires_at < :now "
+		+ "LIMIT :batchSize FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+	int deleteExpiredTokensBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+	@Query("SELECT bt.tokenHash FROM BlacklistedToken bt WHERE bt.expiresAt > :now")
+	List<String> findActiveTokenHashes(@Param("now") LocalDateTime now);
+
+	@Query("SELECT bt.tokenHash FROM BlacklistedToken bt WHERE bt.createdAt > :since AND bt.expiresAt > :now")
+	List<String> findActiveTokenHashesCreatedAfter(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
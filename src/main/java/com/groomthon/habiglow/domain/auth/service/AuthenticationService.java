@@ -7,6 +7,7 @@ import com.groomthon.habiglow.domain.auth.dto.response.TokenResponse;
 import com.groomthon.habiglow.global.exception.BaseException;
 import com.groomthon.habiglow.global.jwt.JWTUtil;
 import com.groomthon.habiglow.global.jwt.JwtTokenService;
+import com.groomthon.habiglow.global.jwt.VerifiedToken;
 import com.groomthon.habiglow.global.response.ErrorCode;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -53,8 +54,8 @@ public class AuthenticationService {
 	public void logout(HttpServletRequest request, HttpServletResponse response) {
 		// Refresh Token 삭제
 		jwtUtil.extractRefreshToken(request)
-			.filter(jwtUtil::isRefreshToken)
-			.flatMap(jwtUtil::getId)
+			.flatMap(jwtUtil::verifyRefreshToken)
+			.map(VerifiedToken::getMemberId)
 			.ifPresent(memberId -> {
 				refreshTokenService.deleteRefreshToken(memberId);
 				log.info("Refresh token deleted for member: {}", memberId);
@@ -65,12 +66,10 @@ public class AuthenticationService {
 
 		// Access Token 블랙리스트 추가
 		jwtUtil.extractAccessToken(request)
-			.filter(jwtUtil::isAccessToken)
-			.ifPresent(accessToken -> {
-				jwtUtil.getExpiration(accessToken).ifPresent(expiration ->
-					blacklistService.addToBlacklist(accessToken, expiration)
-				);
-			});
+			.flatMap(jwtUtil::verifyAccessToken)
+			.ifPresent(verifiedToken ->
+				blacklistService.addToBlacklist(verifiedToken.getToken(), verifiedToken.getRemainingMillis())
+			);
 
 		log.info("Logout completed");
 	}
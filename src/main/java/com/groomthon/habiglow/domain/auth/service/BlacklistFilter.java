@@ -0,0 +1,138 @@
+package com.groomthon.habiglow.domain.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.groomthon.habiglow.domain.auth.repository.BlacklistedTokenRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블랙리스트 토큰 해시의 인메모리 Bloom filter 와 최근 조회 결과 캐시
+ * Bloom filter 에 없는 해시는 DB 조회 없이 미등록으로 판단
+ * 다른 인스턴스에서 등록된 토큰은 주기적인 증분 동기화로 반영
+ */
+@Slf4j
+@Component
+public class BlacklistFilter {
+
+	private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+	private final BlacklistedTokenRepository blacklistedTokenRepository;
+	private final long expectedInsertions;
+	private final double falsePositiveRate;
+	private final Cache<String, Boolean> recentLookups;
+
+	private volatile BloomFilter<CharSequence> current;
+	private volatile BloomFilter<CharSequence> building;
+	private volatile boolean ready = false;
+	private volatile LocalDateTime lastSyncedAt;
+
+	public BlacklistFilter(
+		BlacklistedTokenRepository blacklistedTokenRepository,
+		@Value("${security.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+		@Value("${security.blacklist.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+		@Value("${security.blacklist.lookup-cache-ttl:30s}") Duration lookupCacheTtl,
+		MeterRegistry meterRegistry) {
+		this.blacklistedTokenRepository = blacklistedTokenRepository;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.current = newFilter();
+		this.recentLookups = Caffeine.newBuilder()
+			.maximumSize(10_000)
+			.expireAfterWrite(lookupCacheTtl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, recentLookups, "blacklist.lookups");
+	}
+
+	/**
+	 * 등록되었을 가능성이 있는지 확인 (워밍업 전에는 항상 true 로 DB 조회 유도)
+	 */
+	public boolean mightContain(String tokenHash) {
+		return !ready || current.mightContain(tokenHash);
+	}
+
+	public Optional<Boolean> getCachedResult(String tokenHash) {
+		return Optional.ofNullable(recentLookups.getIfPresent(tokenHash));
+	}
+
+	public void cacheResult(String tokenHash, boolean blacklisted) {
+		recentLookups.put(tokenHash, blacklisted);
+	}
+
+	public void put(String tokenHash) {
+		current.put(tokenHash);
+		BloomFilter<CharSequence> rebuilding = building;
+		if (rebuilding != null) {
+			rebuilding.put(tokenHash);
+		}
+		recentLookups.put(tokenHash, Boolean.TRUE);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		rebuild();
+	}
+
+	/**
+	 * 만료된 해시를 제거하기 위해 주기적으로 전체 재구성
+	 */
+	@Scheduled(fixedDelayString = "${security.blacklist.bloom.rebuild-interval:PT1H}",
+		initialDelayString = "${security.blacklist.bloom.rebuild-interval:PT1H}")
+	public synchronized void rebuild() {
+		LocalDateTime startedAt = LocalDateTime.now();
+		building = newFilter();
+		try {
+			List<String> hashes = blacklistedTokenRepository.findActiveTokenHashes(startedAt);
+			hashes.forEach(building::put);
+			current = building;
+			lastSyncedAt = startedAt;
+			ready = true;
+			log.info("Blacklist bloom filter rebuilt with {} hashes", hashes.size());
+		} catch (RuntimeException e) {
+			log.warn("Blacklist bloom filter rebuild failed, falling back to database lookups: {}", e.getMessage());
+		} finally {
+			building = null;
+		}
+	}
+
+	/**
+	 * 다른 인스턴스에서 등록된 토큰을 반영 (커밋 지연을 고려해 구간을 겹쳐서 조회)
+	 */
+	@Scheduled(fixedDelayString = "${security.blacklist.bloom.sync-interval:PT5S}")
+	public synchronized void syncRecent() {
+		if (!ready) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			List<String> hashes = blacklistedTokenRepository
+				.findActiveTokenHashesCreatedAfter(lastSyncedAt.minus(SYNC_OVERLAP), now);
+			hashes.forEach(this::put);
+			lastSyncedAt = now;
+		} catch (RuntimeException e) {
+			log.warn("Blacklist bloom filter sync failed: {}", e.getMessage());
+		}
+	}
+
+	private BloomFilter<CharSequence> newFilter() {
+		return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+	}
+}
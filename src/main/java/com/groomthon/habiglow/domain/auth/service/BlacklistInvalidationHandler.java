@@ -0,0 +1,38 @@
+package com.groomthon.habiglow.domain.auth.service;
+
+import org.springframework.stereotype.Component;
+
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationHandler;
+import com.groomthon.habiglow.global.jwt.VerifiedTokenCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 인스턴스에서 블랙리스트에 등록된 토큰 해시를 Bloom filter / 조회 캐시에 바로 반영
+ * (주기적인 증분 동기화를 기다리지 않음, 메시지를 놓쳤으면 증분 동기화를 즉시 실행)
+ */
+@Component
+@RequiredArgsConstructor
+public class BlacklistInvalidationHandler implements CacheInvalidationHandler {
+
+	static final String CACHE_NAME = "jwt.blacklist";
+
+	private final BlacklistFilter blacklistFilter;
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	@Override
+	public String cacheName() {
+		return CACHE_NAME;
+	}
+
+	@Override
+	public void invalidate(String tokenHash) {
+		blacklistFilter.put(tokenHash);
+		verifiedTokenCache.invalidateDigest(tokenHash);
+	}
+
+	@Override
+	public void invalidateAll() {
+		blacklistFilter.syncRecent();
+	}
+}
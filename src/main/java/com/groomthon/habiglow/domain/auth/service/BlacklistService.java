@@ -1,16 +1,16 @@
 package com.groomthon.habiglow.domain.auth.service;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.groomthon.habiglow.domain.auth.entity.BlacklistedToken;
 import com.groomthon.habiglow.domain.auth.repository.BlacklistedTokenRepository;
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationPublisher;
+import com.groomthon.habiglow.global.jwt.TokenDigest;
+import com.groomthon.habiglow.global.jwt.VerifiedTokenCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,9 +22,12 @@ import lombok.extern.slf4j.Slf4j;
 public class BlacklistService {
 
 	private final BlacklistedTokenRepository blacklistedTokenRepository;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final BlacklistFilter blacklistFilter;
+	private final CacheInvalidationPublisher invalidationPublisher;
 
 	/**
-	 * Access Token을 블랙리스트에 추가
+	 * Access Token을 블랙리스트에 추가 (다른 인스턴스에는 커밋 시점에 무효화 메시지로 전달)
 	 */
 	@Transactional
 	public void addToBlacklist(String accessToken, long expirationMillis) {
@@ -37,61 +40,47 @@ public class BlacklistService {
 			.build();
 
 		blacklistedTokenRepository.save(blacklistedToken);
+		blacklistFilter.put(tokenHash);
+		verifiedTokenCache.invalidate(accessToken);
+		invalidationPublisher.publish(BlacklistInvalidationHandler.CACHE_NAME, tokenHash);
 		log.info("블랙리스트 등록: {}, 만료 시간: {}", tokenHash.substring(0, 10) + "...", expiresAt);
 	}
 
 	/**
 	 * Access Token이 블랙리스트에 존재하는지 확인
+	 * Bloom filter 에서 등록 가능성이 있는 경우에만 DB 조회
 	 */
 	public boolean isBlacklisted(String accessToken) {
-		String tokenHash = hashToken(accessToken);
-		Optional<BlacklistedToken> token = blacklistedTokenRepository.findById(tokenHash);
+		return isBlacklistedHash(hashToken(accessToken));
+	}
 
-		if (token.isEmpty()) {
+	/**
+	 * 토큰 해시(SHA-256 hex)로 블랙리스트 여부 확인
+	 */
+	public boolean isBlacklistedHash(String tokenHash) {
+		if (!blacklistFilter.mightContain(tokenHash)) {
 			return false;
 		}
 
-		// 만료된 토큰인 경우 삭제하고 false 반환
-		if (token.get().isExpired()) {
-			blacklistedTokenRepository.deleteById(tokenHash);
-			return false;
+		Optional<Boolean> cached = blacklistFilter.getCachedResult(tokenHash);
+		if (cached.isPresent()) {
+			return cached.get();
 		}
 
-		log.debug("블랙리스트 조회: {}, 결과: true", tokenHash.substring(0, 10) + "...");
-		return true;
-	}
+		// 만료 여부는 쿼리 조건으로 판단 (조회 경로에서는 쓰기 없음)
+		boolean blacklisted = blacklistedTokenRepository.existsByTokenHashAndExpiresAtAfter(tokenHash, LocalDateTime.now());
+		blacklistFilter.cacheResult(tokenHash, blacklisted);
 
-	/**
-	 * 토큰을 SHA-256으로 해시화
-	 */
-	private String hashToken(String token) {
-		try {
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hash = digest.digest(token.getBytes());
-			StringBuilder hexString = new StringBuilder();
-
-			for (byte b : hash) {
-				String hex = Integer.toHexString(0xff & b);
-				if (hex.length() == 1) {
-					hexString.append('0');
-				}
-				hexString.append(hex);
-			}
-
-			return hexString.toString();
-		} catch (NoSuchAlgorithmException e) {
-			log.error("SHA-256 algorithm not available", e);
-			throw new RuntimeException("Token hashing failed", e);
+		if (blacklisted) {
+			log.debug("블랙리스트 조회: {}, 결과: true", tokenHash.substring(0, 10) + "...");
 		}
+		return blacklisted;
 	}
 
 	/**
-	 * 만료된 블랙리스트 토큰들을 주기적으로 정리 (매일 새벽 3시)
+	 * 토큰을 SHA-256으로 해시화
 	 */
-	@Scheduled(cron = "0 0 3 * * ?")
-	@Transactional
-	public void cleanupExpiredTokens() {
-		int deletedCount = blacklistedTokenRepository.deleteExpiredTokens(LocalDateTime.now());
-		log.info("Cleaned up {} expired blacklisted tokens", deletedCount);
+	private String hashToken(String token) {
+		return TokenDigest.sha256Hex(token);
 	}
 }
\ No newline at end of file
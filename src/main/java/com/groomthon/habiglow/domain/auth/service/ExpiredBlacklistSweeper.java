@@ -0,0 +1,53 @@
+package com.groomthon.habiglow.domain.auth.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groomthon.habiglow.domain.auth.repository.BlacklistedTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 블랙리스트 토큰을 짧은 트랜잭션 단위로 나누어 정리
+ * 하루 한 번 전체 삭제 대신 주기적으로 조금씩 지워 락 점유 시간을 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredBlacklistSweeper {
+
+	private final BlacklistedTokenRepository blacklistedTokenRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${security.blacklist.sweep.batch-size:500}")
+	private int batchSize;
+
+	@Value("${security.blacklist.sweep.max-batches-per-run:20}")
+	private int maxBatchesPerRun;
+
+	@Scheduled(fixedDelayString = "${security.blacklist.sweep.interval:PT5M}")
+	public void sweepExpiredTokens() {
+		LocalDateTime now = LocalDateTime.now();
+		int totalDeleted = 0;
+
+		for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+			Integer deleted = transactionTemplate.execute(
+				status -> blacklistedTokenRepository.deleteExpiredTokensBatch(now, batchSize));
+			int deletedCount = deleted != null ? deleted : 0;
+			totalDeleted += deletedCount;
+
+			if (deletedCount < batchSize) {
+				break;
+			}
+		}
+
+		if (totalDeleted > 0) {
+			log.info("Swept {} expired blacklisted tokens", totalDeleted);
+		}
+	}
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import com.groomthon.habiglow.domain.auth.entity.RefreshToken;
 import com.groomthon.habiglow.domain.auth.repository.RefreshTokenRepository;
 import com.groomthon.habiglow.global.jwt.JWTUtil;
+import com.groomthon.habiglow.global.jwt.VerifiedToken;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -30,57 +31,63 @@ public class TokenValidator {
 	 * Refresh Token의 종합적 검증
 	 */
 	public TokenValidationResult validateRefreshToken(String refreshToken) {
-		if (!jwtUtil.isRefreshToken(refreshToken)) {
+		Optional<VerifiedToken> verifiedOpt = jwtUtil.verifyRefreshToken(refreshToken);
+		if (verifiedOpt.isEmpty()) {
 			log.warn("Invalid refresh token format or expired");
 			return TokenValidationResult.invalid("Invalid or expired refresh token");
 		}
 
-		Optional<String> memberIdOpt = jwtUtil.getId(refreshToken);
-		if (memberIdOpt.isEmpty()) {
+		VerifiedToken verified = verifiedOpt.get();
+		String memberId = verified.getMemberId();
+		if (memberId == null) {
 			log.warn("Cannot extract member ID from refresh token");
 			return TokenValidationResult.invalid("Invalid token payload");
 		}
 
-		String memberId = memberIdOpt.get();
-
 		RefreshToken storedToken = refreshTokenRepository.findById(memberId).orElse(null);
 		if (storedToken == null || !constantTimeEquals(storedToken.getToken(), refreshToken)) {
 			log.warn("Refresh token not found or mismatched for member: {}", memberId);
 			return TokenValidationResult.invalid("Token not found or mismatched");
 		}
 
-		Optional<String> emailOpt = jwtUtil.getEmail(refreshToken);
-		Optional<String> socialUniqueIdOpt = jwtUtil.getSocialUniqueId(refreshToken);
-
-		if (emailOpt.isEmpty()) {
+		if (verified.getEmail() == null) {
 			log.warn("Cannot extract email from refresh token");
 			return TokenValidationResult.invalid("Invalid token claims");
 		}
 
 		log.debug("Refresh token validation successful for member: {}", memberId);
-		return TokenValidationResult.valid(memberId, emailOpt.get(), socialUniqueIdOpt.orElse(null));
+		return TokenValidationResult.valid(memberId, verified.getEmail(), verified.getSocialUniqueId());
 	}
 
 	/**
-	 * Access Token의 종합적 검증 (형식, 만료, 블랙리스트)
+	 * Access Token의 종합적 검증 (형식, 만료)
 	 */
 	public TokenValidationResult validateAccessToken(String accessToken) {
-		if (!jwtUtil.isAccessToken(accessToken)) {
-			log.warn("Invalid access token format or expired");
+		return jwtUtil.verifyAccessToken(accessToken)
+			.map(this::validateAccessToken)
+			.orElseGet(() -> {
+				log.warn("Invalid access token format or expired");
+				return TokenValidationResult.invalid("Invalid or expired access token");
+			});
+	}
+
+	/**
+	 * 이미 서명 검증을 마친 Access Token 클레임 검증 (재파싱 없음)
+	 */
+	public TokenValidationResult validateAccessToken(VerifiedToken verifiedToken) {
+		if (!verifiedToken.isAccessToken()) {
+			log.warn("Invalid access token type");
 			return TokenValidationResult.invalid("Invalid or expired access token");
 		}
 
-		Optional<String> memberIdOpt = jwtUtil.getId(accessToken);
-		Optional<String> emailOpt = jwtUtil.getEmail(accessToken);
-		
-		if (memberIdOpt.isEmpty() || emailOpt.isEmpty()) {
+		if (verifiedToken.getMemberId() == null || verifiedToken.getEmail() == null) {
 			log.warn("Cannot extract claims from access token");
 			return TokenValidationResult.invalid("Invalid token payload");
 		}
 
-		log.debug("Access token validation successful for member: {}", memberIdOpt.get());
-		return TokenValidationResult.valid(memberIdOpt.get(), emailOpt.get(), 
-			jwtUtil.getSocialUniqueId(accessToken).orElse(null));
+		log.debug("Access token validation successful for member: {}", verifiedToken.getMemberId());
+		return TokenValidationResult.valid(verifiedToken.getMemberId(), verifiedToken.getEmail(),
+			verifiedToken.getSocialUniqueId());
 	}
 
 	/**
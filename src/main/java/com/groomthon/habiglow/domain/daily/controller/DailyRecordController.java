@@ -1,5 +1,6 @@
 package com.groomthon.habiglow.domain.daily.controller;
 
+import java.time.Clock;
 import java.time.LocalDate;
 
 import org.springframework.format.annotation.DateTimeFormat;
@@ -10,12 +11,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest;
+import com.groomthon.habiglow.domain.daily.dto.request.SyncDailyRecordsRequest;
 import com.groomthon.habiglow.domain.daily.dto.response.DailyRecordResponse;
 import com.groomthon.habiglow.domain.daily.dto.response.MonthlyStatsResponse;
+import com.groomthon.habiglow.domain.daily.dto.response.SyncDailyRecordsResponse;
+import com.groomthon.habiglow.domain.daily.dto.response.YearlyStatsResponse;
 import com.groomthon.habiglow.domain.daily.facade.DailyRecordFacade;
 import com.groomthon.habiglow.domain.daily.service.DailyRecordQueryService;
+import com.groomthon.habiglow.domain.member.service.MemberDataVersionService;
 import com.groomthon.habiglow.global.jwt.JwtMemberExtractor;
 import com.groomthon.habiglow.global.response.AutoApiResponse;
 import com.groomthon.habiglow.global.swagger.CustomExceptionDescription;
@@ -38,6 +44,8 @@ public class DailyRecordController {
     private final DailyRecordFacade dailyRecordFacade;
     private final DailyRecordQueryService dailyRecordQueryService;
     private final JwtMemberExtractor jwtMemberExtractor;
+    private final MemberDataVersionService memberDataVersionService;
+    private final Clock clock;
     
     @Operation(
         summary = "일일 기록 저장",
@@ -56,6 +64,23 @@ public class DailyRecordController {
         return dailyRecordFacade.saveDailyRecord(memberId, date, request);
     }
     
+    @Operation(
+        summary = "일일 기록 일괄 동기화",
+        description = "오프라인에서 쌓인 여러 날짜(최대 31일)의 루틴 수행 기록과 회고를 한 번에 저장하고 날짜별 결과를 반환합니다. " +
+            "미래 날짜는 저장하지 않고 결과에 사유를 표시합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "동기화 성공")
+    @CustomExceptionDescription(SwaggerResponseDescription.DAILY_RECORD_ERROR)
+    @PostMapping("/sync")
+    @PreAuthorize("hasRole('USER')")
+    public SyncDailyRecordsResponse syncDailyRecords(
+            @RequestBody @Valid SyncDailyRecordsRequest request,
+            HttpServletRequest httpRequest) {
+        
+        Long memberId = jwtMemberExtractor.extractMemberId(httpRequest);
+        return dailyRecordFacade.syncDailyRecords(memberId, request);
+    }
+    
     @Operation(
         summary = "특정 날짜 기록 조회",
         description = "특정 날짜의 루틴 수행 기록과 회고를 조회합니다."
@@ -74,31 +99,58 @@ public class DailyRecordController {
     
     @Operation(
         summary = "오늘 기록 조회",
-        description = "오늘 날짜의 루틴 수행 기록과 회고를 조회합니다. 기록되지 않은 루틴은 미수행 상태로 표시됩니다."
+        description = "오늘 날짜의 루틴 수행 기록과 회고를 조회합니다. 기록되지 않은 루틴은 미수행 상태로 표시됩니다. " +
+            "If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다."
     )
     @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "변경 없음")
     @CustomExceptionDescription(SwaggerResponseDescription.DAILY_RECORD_ERROR)
     @GetMapping("/today")
     @PreAuthorize("hasRole('USER')")
-    public DailyRecordResponse getTodayRecord(HttpServletRequest httpRequest) {
+    public DailyRecordResponse getTodayRecord(HttpServletRequest httpRequest, ServletWebRequest webRequest) {
         
         Long memberId = jwtMemberExtractor.extractMemberId(httpRequest);
-        return dailyRecordFacade.getTodayRecord(memberId, LocalDate.now());
+        LocalDate today = LocalDate.now(clock);
+        if (memberDataVersionService.checkNotModified(webRequest, "today", memberId, today)) {
+            return null;
+        }
+        return dailyRecordFacade.getTodayRecord(memberId, today);
     }
     
     @Operation(
         summary = "월별 통계 조회",
-        description = "특정 월에 대해 각 일별로 성공한 루틴(FullSuccess)/전체 루틴 수를 반환합니다."
+        description = "특정 월에 대해 각 일별로 성공한 루틴(FullSuccess)/전체 루틴 수를 반환합니다. " +
+            "If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다."
     )
     @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "변경 없음")
     @GetMapping("/monthly-stats/{year}/{month}")
     @PreAuthorize("hasRole('USER')")
     public MonthlyStatsResponse getMonthlyStats(
             @PathVariable int year,
             @PathVariable int month,
-            HttpServletRequest httpRequest) {
+            HttpServletRequest httpRequest,
+            ServletWebRequest webRequest) {
         
         Long memberId = jwtMemberExtractor.extractMemberId(httpRequest);
+        if (memberDataVersionService.checkNotModified(webRequest, "monthly-stats", memberId, year, month)) {
+            return null;
+        }
         return dailyRecordQueryService.getMonthlyStats(memberId, year, month);
     }
+    
+    @Operation(
+        summary = "연간 통계 조회",
+        description = "특정 연도의 1~12월 각 일별 성공한 루틴(FullSuccess)/전체 루틴 수를 한 번에 반환합니다. (캘린더 뷰용)"
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/yearly-stats/{year}")
+    @PreAuthorize("hasRole('USER')")
+    public YearlyStatsResponse getYearlyStats(
+            @PathVariable int year,
+            HttpServletRequest httpRequest) {
+        
+        Long memberId = jwtMemberExtractor.extractMemberId(httpRequest);
+        return dailyRecordQueryService.getYearlyStats(memberId, year);
+    }
 }
\ No newline at end of file
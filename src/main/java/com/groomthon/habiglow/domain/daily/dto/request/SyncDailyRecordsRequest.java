@@ -0,0 +1,45 @@
+package com.groomthon.habiglow.domain.daily.dto.request;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest.ReflectionRequest;
+import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest.RoutineRecordRequest;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 오프라인에서 쌓인 여러 날짜의 기록을 한 번에 업로드하는 요청
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncDailyRecordsRequest {
+    
+    public static final int MAX_DAYS = 31;
+    
+    @Valid
+    @NotEmpty
+    @Size(max = MAX_DAYS)
+    private List<DayRecordRequest> days;
+    
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DayRecordRequest {
+        @NotNull
+        private LocalDate date;
+        
+        @Valid
+        private ReflectionRequest reflection;
+        
+        @Valid
+        private List<RoutineRecordRequest> routineRecords;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 
 import com.groomthon.habiglow.domain.daily.entity.DailyReflectionEntity;
 import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.repository.TodayRoutineView;
 import com.groomthon.habiglow.domain.routine.dto.response.RoutineResponse;
 import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
 
@@ -49,4 +50,21 @@ public class DailyRecordResponse {
         
         return new DailyRecordResponse(reflectionDto, recordDtos, List.of());
     }
+    
+    public static DailyRecordResponse ofArchived(DailyReflectionEntity reflection,
+                                                List<RoutineRecordResponse> archivedRecords) {
+        
+        ReflectionResponse reflectionDto = reflection != null ? 
+            ReflectionResponse.from(reflection) : null;
+        
+        return new DailyRecordResponse(reflectionDto, archivedRecords, List.of());
+    }
+    
+    public static DailyRecordResponse of(DailyReflectionEntity reflection, TodayRoutineView view) {
+        
+        ReflectionResponse reflectionDto = reflection != null ? 
+            ReflectionResponse.from(reflection) : null;
+        
+        return new DailyRecordResponse(reflectionDto, view.routineRecords(), view.allRoutines());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.groomthon.habiglow.domain.daily.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.groomthon.habiglow.global.response.ErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SyncDailyRecordsResponse {
+    
+    private List<DayResult> results;
+    
+    /**
+     * 날짜별 처리 결과 (저장하지 않은 날짜는 errorCode 에 사유)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DayResult {
+        private LocalDate date;
+        private boolean saved;
+        private int routineRecordCount;
+        private boolean reflectionSaved;
+        private String errorCode;
+        
+        public static DayResult saved(LocalDate date, int routineRecordCount, boolean reflectionSaved) {
+            return new DayResult(date, true, routineRecordCount, reflectionSaved, null);
+        }
+        
+        public static DayResult rejected(LocalDate date, ErrorCode errorCode) {
+            return new DayResult(date, false, 0, false, errorCode.getCode());
+        }
+    }
+}
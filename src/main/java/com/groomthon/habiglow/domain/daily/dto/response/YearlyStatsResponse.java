@@ -0,0 +1,18 @@
+package com.groomthon.habiglow.domain.daily.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class YearlyStatsResponse {
+    
+    private int year;
+    private List<MonthlyStatsResponse> monthlyStats;
+}
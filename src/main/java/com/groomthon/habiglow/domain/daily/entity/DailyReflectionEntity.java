@@ -16,6 +16,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -39,7 +40,8 @@ import lombok.NoArgsConstructor;
 public class DailyReflectionEntity extends BaseTimeEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_reflection_seq")
+    @SequenceGenerator(name = "daily_reflection_seq", sequenceName = "daily_reflection_seq", allocationSize = 50)
     @Column(name = "reflection_id")
     private Long reflectionId;
     
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import com.groomthon.habiglow.domain.member.entity.MemberEntity;
 import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
 import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.entity.RoutineVersionEntity;
 import com.groomthon.habiglow.domain.routine.common.TargetType;
 import com.groomthon.habiglow.global.entity.BaseTimeEntity;
 
@@ -19,6 +20,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -43,7 +45,8 @@ import lombok.NoArgsConstructor;
 public class DailyRoutineEntity extends BaseTimeEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_routine_seq")
+    @SequenceGenerator(name = "daily_routine_seq", sequenceName = "daily_routine_seq", allocationSize = 50)
     @Column(name = "daily_routine_id")
     private Long dailyRoutineId;
     
@@ -66,28 +69,10 @@ public class DailyRoutineEntity extends BaseTimeEntity {
     @Column(name = "performed_date", nullable = false)
     private LocalDate performedDate;
     
-    @Column(name = "routine_title", length = 100)
-    private String routineTitle;
-    
-    @Enumerated(EnumType.STRING)
-    @Column(name = "routine_category")
-    private RoutineCategory routineCategory;
-    
-    @Column(name = "is_growth_mode")
-    private Boolean isGrowthMode;
-    
-    @Enumerated(EnumType.STRING)
-    @Column(name = "target_type")
-    private TargetType targetType;
-    
-    @Column(name = "target_value")
-    private Integer targetValue;
-    
-    @Column(name = "growth_cycle_days")
-    private Integer growthCycleDays;
-    
-    @Column(name = "target_increment")
-    private Integer targetIncrement;
+    // 기록 시점의 루틴 스냅샷 (같은 설정의 기록끼리 공유)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "routine_version_id")
+    private RoutineVersionEntity routineVersion;
     
     public void updatePerformance(PerformanceLevel performanceLevel, Integer consecutiveDays) {
         this.performanceLevel = performanceLevel;
@@ -106,13 +91,35 @@ public class DailyRoutineEntity extends BaseTimeEntity {
                 .performanceLevel(performance)
                 .performedDate(date)
                 .consecutiveDays(consecutiveDays)
-                .routineTitle(routine.getTitle())
-                .routineCategory(routine.getCategory())
-                .isGrowthMode(routine.getIsGrowthMode())
-                .targetType(routine.getTargetType())
-                .targetValue(routine.getTargetValue())
-                .growthCycleDays(routine.getGrowthCycleDays())
-                .targetIncrement(routine.getTargetIncrement())
+                .routineVersion(routine.getOrCreateCurrentVersion())
                 .build();
     }
+    
+    public String getRoutineTitle() {
+        return routineVersion != null ? routineVersion.getTitle() : null;
+    }
+    
+    public RoutineCategory getRoutineCategory() {
+        return routineVersion != null ? routineVersion.getCategory() : null;
+    }
+    
+    public Boolean getIsGrowthMode() {
+        return routineVersion != null ? routineVersion.getIsGrowthMode() : null;
+    }
+    
+    public TargetType getTargetType() {
+        return routineVersion != null ? routineVersion.getTargetType() : null;
+    }
+    
+    public Integer getTargetValue() {
+        return routineVersion != null ? routineVersion.getTargetValue() : null;
+    }
+    
+    public Integer getGrowthCycleDays() {
+        return routineVersion != null ? routineVersion.getGrowthCycleDays() : null;
+    }
+    
+    public Integer getTargetIncrement() {
+        return routineVersion != null ? routineVersion.getTargetIncrement() : null;
+    }
 }
\ No newline at end of file
@@ -6,7 +6,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest;
+import com.groomthon.habiglow.domain.daily.dto.request.SyncDailyRecordsRequest;
 import com.groomthon.habiglow.domain.daily.dto.response.DailyRecordResponse;
+import com.groomthon.habiglow.domain.daily.dto.response.SyncDailyRecordsResponse;
 import com.groomthon.habiglow.domain.daily.service.DailyRecordCommandService;
 import com.groomthon.habiglow.domain.daily.service.DailyRecordQueryService;
 
@@ -24,6 +26,11 @@ public class DailyRecordFacade {
         return commandService.saveDailyRecord(memberId, date, request);
     }
     
+    @Transactional
+    public SyncDailyRecordsResponse syncDailyRecords(Long memberId, SyncDailyRecordsRequest request) {
+        return commandService.syncDailyRecords(memberId, request);
+    }
+    
     @Transactional(readOnly = true)
     public DailyRecordResponse getDailyRecord(Long memberId, LocalDate date) {
         return queryService.getDailyRecord(memberId, date);
@@ -0,0 +1,34 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.common.TargetType;
+
+/**
+ * 보관된 한 달 기록 중 같은 루틴 스냅샷을 공유하는 기록 묶음 (daily_routine_archive.records 의 원소)
+ * routineId 는 보관 당시 값이라 이후 삭제된 루틴일 수 있음
+ * versionId 는 스냅샷 버전 도입 전에 보관된 묶음이면 없음
+ */
+public record ArchivedRoutineBlock(
+    Long routineId,
+    Long versionId,
+    String routineTitle,
+    RoutineCategory routineCategory,
+    Boolean growthMode,
+    TargetType targetType,
+    Integer targetValue,
+    Integer growthCycleDays,
+    Integer targetIncrement,
+    List<Day> days
+) {
+
+    public record Day(
+        @JsonProperty("d") int dayOfMonth,
+        @JsonProperty("l") PerformanceLevel performanceLevel,
+        @JsonProperty("s") int consecutiveDays
+    ) {
+    }
+}
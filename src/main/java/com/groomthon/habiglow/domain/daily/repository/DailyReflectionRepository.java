@@ -1,6 +1,7 @@
 package com.groomthon.habiglow.domain.daily.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,9 @@ public interface DailyReflectionRepository extends JpaRepository<DailyReflection
     // 단일 날짜 조회 (member.id + reflectionDate)
     Optional<DailyReflectionEntity> findByMemberIdAndReflectionDate(Long memberId, LocalDate date);
 
+    // 여러 날짜 조회 (일괄 동기화)
+    List<DailyReflectionEntity> findByMemberIdAndReflectionDateIn(Long memberId, Collection<LocalDate> dates);
+
     // 주간 범위 조회 (member.id + reflectionDate BETWEEN, ASC 정렬)
     @Query("SELECT r FROM DailyReflectionEntity r " +
             "WHERE r.member.id = :memberId " +
@@ -0,0 +1,110 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지난 달 루틴 기록 보관(daily_routine_archive) 이관/조회 (JdbcTemplate)
+ * 한 달치 원본 행을 회원별 JSONB 한 행으로 압축하고, 보관에 성공한 회원/월의 원본 행만 같은 문장에서 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyRoutineArchiveRepository {
+
+    private static final TypeReference<List<ArchivedRoutineBlock>> BLOCKS_TYPE = new TypeReference<>() {
+    };
+
+    // 같은 스냅샷 버전끼리 묶어 날짜별 값만 배열로 저장, 이미 보관된 회원/월은 건너뛰고 원본도 남김
+    // 버전 행은 삭제하지 않으므로 versionId 로 복원하고, 스냅샷 값은 보관 행만으로 조회할 수 있도록 함께 저장
+    private static final String ARCHIVE_MONTH_SQL = """
+        WITH blocks AS (
+            SELECT d.member_id, COUNT(*) AS record_count,
+                jsonb_build_object(
+                    'routineId', d.routine_id, 'versionId', d.routine_version_id,
+                    'routineTitle', v.title, 'routineCategory', v.category,
+                    'growthMode', v.is_growth_mode, 'targetType', v.target_type, 'targetValue', v.target_value,
+                    'growthCycleDays', v.growth_cycle_days, 'targetIncrement', v.target_increment,
+                    'days', jsonb_agg(jsonb_build_object(
+                        'd', EXTRACT(DAY FROM d.performed_date)::int, 'l', d.performance_level, 's', d.consecutive_days)
+                        ORDER BY d.performed_date)) AS block
+            FROM daily_routine_table d
+            LEFT JOIN routine_version v ON v.version_id = d.routine_version_id
+            WHERE d.performed_date >= ? AND d.performed_date < ?
+            GROUP BY d.member_id, d.routine_id, d.routine_version_id, v.version_id
+        ), archived AS (
+            INSERT INTO daily_routine_archive (member_id, archive_month, record_count, records, archived_at)
+            SELECT member_id, ?, SUM(record_count), jsonb_agg(block), now()
+            FROM blocks
+            GROUP BY member_id
+            ON CONFLICT (member_id, archive_month) DO NOTHING
+            RETURNING member_id
+        )
+        DELETE FROM daily_routine_table d
+        USING archived a
+        WHERE d.member_id = a.member_id AND d.performed_date >= ? AND d.performed_date < ?
+        """;
+
+    private static final String FIND_MONTH_SQL =
+        "SELECT records FROM daily_routine_archive WHERE member_id = ? AND archive_month = ?";
+
+    private static final String FIND_ARCHIVED_MONTHS_SQL = """
+        SELECT archive_month FROM daily_routine_archive
+        WHERE member_id = ? AND archive_month BETWEEN ? AND ?
+        ORDER BY archive_month
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 한 달치 기록을 모든 회원에 대해 보관하고 원본 삭제 (단일 문장이라 원자적)
+     * @return 삭제된 원본 행 수
+     */
+    public int archiveMonth(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        return jdbcTemplate.update(ARCHIVE_MONTH_SQL, from, to, from, from, to);
+    }
+
+    public Optional<LocalDate> findOldestRecordDate() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+            "SELECT MIN(performed_date) FROM daily_routine_table", LocalDate.class));
+    }
+
+    public Optional<List<ArchivedRoutineBlock>> findMonth(Long memberId, YearMonth month) {
+        return jdbcTemplate.query(FIND_MONTH_SQL, (rs, rowNum) -> readBlocks(rs.getString("records")),
+                memberId, month.atDay(1))
+            .stream()
+            .findFirst();
+    }
+
+    public List<YearMonth> findArchivedMonths(Long memberId, YearMonth from, YearMonth to) {
+        return jdbcTemplate.query(FIND_ARCHIVED_MONTHS_SQL,
+            (rs, rowNum) -> YearMonth.from(rs.getObject("archive_month", LocalDate.class)),
+            memberId, from.atDay(1), to.atDay(1));
+    }
+
+    public void deleteMonth(Long memberId, YearMonth month) {
+        jdbcTemplate.update("DELETE FROM daily_routine_archive WHERE member_id = ? AND archive_month = ?",
+            memberId, month.atDay(1));
+    }
+
+    private List<ArchivedRoutineBlock> readBlocks(String json) {
+        try {
+            return objectMapper.readValue(json, BLOCKS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("daily_routine_archive.records 역직렬화 실패", e);
+        }
+    }
+}
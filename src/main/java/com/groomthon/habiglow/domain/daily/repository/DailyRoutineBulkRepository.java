@@ -0,0 +1,111 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일일 루틴 기록 일괄 저장 (JDBC batch)
+ * 네이티브 upsert 를 한 번의 batch 로 전송하고, ID 는 엔티티와 같은 시퀀스에서 블록 단위(pooled-lo)로 할당
+ * 영속성 컨텍스트를 거치지 않으므로 호출 측에서 flush 후 바뀐 기록을 분리(detach)해 1차 캐시와의 정합성을 맞춰야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyRoutineBulkRepository {
+
+    // DailyRoutineEntity 의 @SequenceGenerator 와 동일한 시퀀스/블록 크기
+    private static final String SEQUENCE_NAME = "daily_routine_seq";
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String ALLOCATE_SQL =
+        "SELECT nextval('" + SEQUENCE_NAME + "') FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL = """
+        INSERT INTO daily_routine_table (
+            daily_routine_id, routine_id, member_id, performance_level, consecutive_days, performed_date,
+            routine_version_id, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    // 기존 기록은 수행 정도와 연속 일수만 갱신 (루틴 스냅샷 버전은 최초 기록 시점 값 유지)
+    private static final String UPSERT_SQL = INSERT_SQL + """
+        ON CONFLICT (member_id, routine_id, performed_date) DO UPDATE SET
+            performance_level = EXCLUDED.performance_level,
+            consecutive_days = EXCLUDED.consecutive_days,
+            updated_at = EXCLUDED.updated_at
+        """;
+
+    private static final String INSERT_IF_ABSENT_SQL = INSERT_SQL + """
+        ON CONFLICT (member_id, routine_id, performed_date) DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (member_id, routine_id, performed_date) 기준 upsert
+     */
+    public void upsertAll(List<DailyRoutineEntity> records) {
+        executeBatch(UPSERT_SQL, records);
+    }
+
+    /**
+     * 이미 기록이 있으면 건너뜀 (미수행 스냅샷 생성용, 동시 저장된 실제 기록을 덮어쓰지 않음)
+     */
+    public void insertAllIfAbsent(List<DailyRoutineEntity> records) {
+        executeBatch(INSERT_IF_ABSENT_SQL, records);
+    }
+
+    private void executeBatch(String sql, List<DailyRoutineEntity> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Iterator<Long> ids = allocateIds(records.size()).iterator();
+        jdbcTemplate.batchUpdate(sql, records, records.size(), (ps, record) -> bind(ps, ids.next(), record, now));
+    }
+
+    /**
+     * 필요한 ID 를 시퀀스 블록 단위로 한 번에 할당 (nextval 값 v 는 v ~ v + 49 블록을 의미)
+     * 충돌로 UPDATE 된 행의 ID 는 사용되지 않고 버려짐
+     */
+    private List<Long> allocateIds(int count) {
+        int blocks = (count + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(ALLOCATE_SQL, Long.class, blocks);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockStart : blockStarts) {
+            for (int i = 0; i < ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(blockStart + i);
+            }
+        }
+        return ids;
+    }
+
+    private void bind(PreparedStatement ps, long id, DailyRoutineEntity record, Timestamp now) throws SQLException {
+        int index = 1;
+        ps.setLong(index++, id);
+        // 삭제된 루틴의 보관 기록을 복원하는 경우 routine 이 없음
+        ps.setObject(index++, record.getRoutine() != null ? record.getRoutine().getRoutineId() : null, Types.BIGINT);
+        ps.setLong(index++, record.getMember().getId());
+        ps.setString(index++, record.getPerformanceLevel().name());
+        ps.setInt(index++, record.getConsecutiveDays());
+        ps.setObject(index++, record.getPerformedDate());
+        // 지연 로딩 프록시여도 ID 만 읽으므로 버전 조회 없음
+        ps.setObject(index++, record.getRoutineVersion() != null ? record.getRoutineVersion().getVersionId() : null,
+            Types.BIGINT);
+        ps.setTimestamp(index++, now);
+        ps.setTimestamp(index++, now);
+    }
+}
@@ -0,0 +1,141 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * daily_routine_table 월 단위 범위 파티션 관리 (JdbcTemplate, DDL)
+ * 파티션 이름은 daily_routine_table_pYYYYMM, 파티션이 없는 기간의 기록은 daily_routine_table_default 로 들어감
+ * 기본 키는 파티션 키를 포함해야 하므로 (daily_routine_id, performed_date), 엔티티의 @Id 는 그대로 daily_routine_id
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyRoutinePartitionRepository {
+
+    static final String TABLE = "daily_routine_table";
+    static final String LEGACY_TABLE = TABLE + "_unpartitioned";
+    static final String DEFAULT_PARTITION = TABLE + "_default";
+
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String IS_PARTITIONED_SQL =
+        "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('" + TABLE + "'))";
+
+    // 기본 키를 제외한 제약 조건 (유니크, 외래 키, 체크)
+    private static final String FIND_CONSTRAINTS_SQL = """
+        SELECT conname, pg_get_constraintdef(oid) AS definition
+        FROM pg_constraint
+        WHERE conrelid = '%s'::regclass AND contype IN ('u', 'f', 'c')
+        ORDER BY conname
+        """.formatted(TABLE);
+
+    // 제약 조건에 속하지 않은 일반 인덱스
+    private static final String FIND_INDEXES_SQL = """
+        SELECT pg_get_indexdef(x.indexrelid)
+        FROM pg_index x
+        WHERE x.indrelid = '%s'::regclass
+            AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = x.indexrelid)
+        ORDER BY x.indexrelid
+        """.formatted(TABLE);
+
+    private static final String FIND_PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = '%s'::regclass
+        """.formatted(TABLE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class));
+    }
+
+    public Optional<LocalDate> findMinPerformedDate() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+            "SELECT MIN(performed_date) FROM " + TABLE, LocalDate.class));
+    }
+
+    /**
+     * 일반 테이블을 같은 이름의 파티션 테이블로 전환 (호출 측 트랜잭션 안에서 실행, 전환 중 테이블 잠금)
+     * 기존 제약 조건/인덱스 정의를 읽어 두었다가 같은 이름으로 다시 만들어 엔티티 매핑과 ON CONFLICT 대상 유지
+     *
+     * @param months 미리 만들 파티션 월 (기존 기록 범위 포함)
+     */
+    public void convertToPartitioned(List<YearMonth> months) {
+        List<Map.Entry<String, String>> constraints = jdbcTemplate.query(FIND_CONSTRAINTS_SQL,
+            (rs, rowNum) -> Map.entry(rs.getString("conname"), rs.getString("definition")));
+        List<String> indexes = jdbcTemplate.queryForList(FIND_INDEXES_SQL, String.class);
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + LEGACY_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + LEGACY_TABLE
+            + " INCLUDING DEFAULTS INCLUDING STORAGE INCLUDING COMMENTS) PARTITION BY RANGE (performed_date)");
+        jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+        months.forEach(this::createPartition);
+
+        jdbcTemplate.execute("INSERT INTO " + TABLE + " SELECT * FROM " + LEGACY_TABLE);
+        // 제약 조건/인덱스 이름을 비우기 위해 기존 테이블을 먼저 삭제 (참조하는 외래 키가 있으면 실패하고 롤백)
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + TABLE
+            + "_pkey PRIMARY KEY (daily_routine_id, performed_date)");
+        for (Map.Entry<String, String> constraint : constraints) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + constraint.getKey()
+                + " " + constraint.getValue());
+        }
+        indexes.forEach(jdbcTemplate::execute);
+    }
+
+    /**
+     * 해당 월 파티션 생성 (이미 있으면 무시)
+     */
+    public void createPartition(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE
+            + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    /**
+     * 월별 파티션 목록 (기본 파티션 제외, 월 순)
+     */
+    public Map<YearMonth, String> findPartitions() {
+        Map<YearMonth, String> partitions = new TreeMap<>();
+        for (String name : jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class)) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                partitions.put(YearMonth.parse(matcher.group(1), SUFFIX), name);
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * 파티션을 분리해 독립 테이블로 남김 (조회 대상에서 빠지고, 보관/이관 후 직접 삭제)
+     */
+    public void detachPartition(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partitionName);
+    }
+
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute("DROP TABLE " + partitionName);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+}
@@ -1,6 +1,7 @@
 package com.groomthon.habiglow.domain.daily.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,7 @@ public interface DailyRoutineRepository extends JpaRepository<DailyRoutineEntity
 
     @Query("SELECT dr FROM DailyRoutineEntity dr " +
         "LEFT JOIN FETCH dr.routine " +
+        "LEFT JOIN FETCH dr.routineVersion " +
         "WHERE dr.member.id = :memberId AND dr.performedDate = :date")
     List<DailyRoutineEntity> findByMemberIdAndPerformedDateWithRoutine(@Param("memberId") Long memberId,
         @Param("date") LocalDate date);
@@ -23,6 +25,17 @@ public interface DailyRoutineRepository extends JpaRepository<DailyRoutineEntity
     Optional<DailyRoutineEntity> findByRoutine_RoutineIdAndMemberIdAndPerformedDate(
             Long routineId, Long memberId, LocalDate date);
 
+    /**
+     * 여러 루틴의 특정 날짜 기록을 한 번에 조회 (연속 일수 계산용)
+     */
+    @Query("SELECT dr FROM DailyRoutineEntity dr " +
+        "WHERE dr.member.id = :memberId AND dr.performedDate = :date " +
+        "AND dr.routine.routineId IN :routineIds")
+    List<DailyRoutineEntity> findByMemberIdAndPerformedDateAndRoutineIds(
+        @Param("memberId") Long memberId,
+        @Param("date") LocalDate date,
+        @Param("routineIds") Collection<Long> routineIds);
+
     @Modifying
     @Query("DELETE FROM DailyRoutineEntity dr WHERE dr.member.id = :memberId AND dr.performedDate = :date")
     void deleteByMemberIdAndPerformedDate(@Param("memberId") Long memberId, @Param("date") LocalDate date);
@@ -45,6 +58,13 @@ public interface DailyRoutineRepository extends JpaRepository<DailyRoutineEntity
         @Param("date") LocalDate date,
         @Param("level") PerformanceLevel level);
 
+    @Query("SELECT dr FROM DailyRoutineEntity dr WHERE dr.routine.routineId IN :routineIds " +
+        "AND dr.performedDate = :date AND dr.performanceLevel = :level")
+    List<DailyRoutineEntity> findSuccessRecordsByRoutinesAndDate(
+        @Param("routineIds") Collection<Long> routineIds,
+        @Param("date") LocalDate date,
+        @Param("level") PerformanceLevel level);
+
     @Query("SELECT dr FROM DailyRoutineEntity dr WHERE dr.routine.routineId = :routineId " +
         "AND dr.member.id = :memberId " +
         "AND dr.performedDate BETWEEN :startDate AND :endDate " +
@@ -86,19 +106,11 @@ public interface DailyRoutineRepository extends JpaRepository<DailyRoutineEntity
     boolean existsByMemberIdAndPerformedDate(Long memberId, LocalDate performedDate);
 
     /**
-     * 특정 회원의 월별 통계를 위한 일별 루틴 성공률 조회
+     * 주어진 날짜 중 기록이 이미 있는 날짜 (일괄 동기화 시 스냅샷 생성 대상 판별)
      */
-    @Query("SELECT dr.performedDate, " +
-           "COUNT(*) as totalRoutines, " +
-           "COUNT(CASE WHEN dr.performanceLevel = 'FULL_SUCCESS' THEN 1 END) as successfulRoutines " +
-           "FROM DailyRoutineEntity dr " +
-           "WHERE dr.member.id = :memberId " +
-           "AND EXTRACT(YEAR FROM dr.performedDate) = :year " +
-           "AND EXTRACT(MONTH FROM dr.performedDate) = :month " +
-           "GROUP BY dr.performedDate " +
-           "ORDER BY dr.performedDate")
-    List<Object[]> findMonthlyStatsByMemberAndYearMonth(@Param("memberId") Long memberId, 
-                                                        @Param("year") int year, 
-                                                        @Param("month") int month);
+    @Query("SELECT DISTINCT dr.performedDate FROM DailyRoutineEntity dr " +
+           "WHERE dr.member.id = :memberId AND dr.performedDate IN :dates")
+    List<LocalDate> findRecordedDates(@Param("memberId") Long memberId,
+                                      @Param("dates") Collection<LocalDate> dates);
 
 }
\ No newline at end of file
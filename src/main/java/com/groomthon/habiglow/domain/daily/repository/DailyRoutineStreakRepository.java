@@ -0,0 +1,100 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 연속 일수(consecutive_days) 재계산용 조회/일괄 갱신 (JdbcTemplate)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyRoutineStreakRepository {
+
+    private static final String FIND_FROM_SQL = """
+        SELECT daily_routine_id, routine_id, performed_date, performance_level, consecutive_days
+        FROM daily_routine_table
+        WHERE member_id = ? AND routine_id = ANY(?) AND performed_date >= ?
+        ORDER BY routine_id, performed_date
+        """;
+
+    // performed_date 조건으로 파티션 하나만 탐색
+    private static final String UPDATE_SQL =
+        "UPDATE daily_routine_table SET consecutive_days = ? WHERE daily_routine_id = ? AND performed_date = ?";
+
+    /*
+     * 완전 성공 기록만 날짜순으로 번호를 매기면, 하루도 끊기지 않은 구간은 (날짜 - 번호)가 같음
+     * 그 구간 안에서 다시 번호를 매긴 값이 연속 일수이고, 나머지 기록은 0
+     * 값이 실제로 달라지는 행만 UPDATE
+     */
+    private static final String RECOMPUTE_MEMBERS_SQL = """
+        WITH full_days AS (
+            SELECT daily_routine_id, member_id, routine_id, performed_date,
+                performed_date - (ROW_NUMBER() OVER (
+                    PARTITION BY member_id, routine_id ORDER BY performed_date))::int AS island
+            FROM daily_routine_table
+            WHERE member_id = ANY(?) AND routine_id IS NOT NULL AND performance_level = 'FULL_SUCCESS'
+        ), streaks AS (
+            SELECT daily_routine_id, ROW_NUMBER() OVER (
+                PARTITION BY member_id, routine_id, island ORDER BY performed_date) AS streak
+            FROM full_days
+        )
+        UPDATE daily_routine_table d
+        SET consecutive_days = COALESCE(s.streak, 0)
+        FROM daily_routine_table t
+        LEFT JOIN streaks s ON s.daily_routine_id = t.daily_routine_id
+        WHERE d.daily_routine_id = t.daily_routine_id AND d.performed_date = t.performed_date
+            AND t.member_id = ANY(?) AND t.routine_id IS NOT NULL
+            AND d.consecutive_days <> COALESCE(s.streak, 0)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 회원의 루틴별 fromDate 이후(포함) 기록을 루틴, 날짜 순으로 조회
+     */
+    public List<StreakRow> findFrom(Long memberId, Collection<Long> routineIds, LocalDate fromDate) {
+        return jdbcTemplate.query(FIND_FROM_SQL, (rs, rowNum) -> new StreakRow(
+                rs.getLong("daily_routine_id"),
+                rs.getLong("routine_id"),
+                rs.getObject("performed_date", LocalDate.class),
+                PerformanceLevel.valueOf(rs.getString("performance_level")),
+                rs.getInt("consecutive_days")),
+            memberId, routineIds.toArray(new Long[0]), fromDate);
+    }
+
+    public void updateConsecutiveDays(List<StreakRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, row.consecutiveDays());
+            ps.setLong(2, row.dailyRoutineId());
+            ps.setObject(3, row.performedDate());
+        });
+    }
+
+    /**
+     * 회원들의 전체 기록 연속 일수를 윈도 함수 한 번으로 다시 계산
+     * @return 값이 바뀐 행 수
+     */
+    public int recomputeMembers(List<Long> memberIds) {
+        Long[] ids = memberIds.toArray(new Long[0]);
+        return jdbcTemplate.update(RECOMPUTE_MEMBERS_SQL, ids, ids);
+    }
+
+    /**
+     * 루틴 기록이 있는 모든 회원 ID
+     */
+    public List<Long> findMemberIdsWithRecords() {
+        return jdbcTemplate.queryForList(
+            "SELECT DISTINCT member_id FROM daily_routine_table ORDER BY member_id", Long.class);
+    }
+}
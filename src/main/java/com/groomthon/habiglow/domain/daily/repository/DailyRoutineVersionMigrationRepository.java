@@ -0,0 +1,172 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기존 일일 기록의 스냅샷 컬럼을 routine_version 참조로 옮기는 1회성 이관 (JdbcTemplate)
+ * 같은 스냅샷 값은 하나의 버전으로 합치고, 기록/루틴에는 버전 ID 만 연결
+ * 스냅샷 비교는 7개 컬럼의 ROW(...)::text 로 하여 NULL 도 같은 값으로 취급하고 해시 조인 가능하게 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyRoutineVersionMigrationRepository {
+
+    static final String TABLE = "daily_routine_table";
+
+    // 버전 도입 전 엔티티가 매핑하던 스냅샷 컬럼 (ddl-auto: update 는 컬럼을 지우지 않아 기존 DB 에만 남아 있음)
+    static final String[] LEGACY_COLUMNS = {
+        "routine_title", "routine_category", "is_growth_mode", "target_type", "target_value",
+        "growth_cycle_days", "target_increment"
+    };
+
+    private static final String VERSION_KEY =
+        "ROW(v.title, v.category, v.is_growth_mode, v.target_type, v.target_value, "
+            + "v.growth_cycle_days, v.target_increment)::text";
+
+    private static final String SOURCE_KEY =
+        "ROW(s.title, s.category, s.is_growth_mode, s.target_type, s.target_value, "
+            + "s.growth_cycle_days, s.target_increment)::text";
+
+    // 스냅샷 컬럼이 모두 NULL 인 기록 (버전 도입 후 버전 없는 루틴으로 저장된 행) 은 스냅샷으로 취급하지 않음
+    private static final String HAS_SNAPSHOT =
+        "NOT (ROW(routine_title, routine_category, is_growth_mode, target_type, target_value, "
+            + "growth_cycle_days, target_increment) IS NULL)";
+
+    private static final String HAS_LEGACY_COLUMNS_SQL = """
+        SELECT EXISTS (
+            SELECT 1 FROM information_schema.columns
+            WHERE table_schema = current_schema() AND table_name = '%s' AND column_name = 'routine_title')
+        """.formatted(TABLE);
+
+    // 파티션 테이블이면 부모에는 저장 공간이 없으므로 모든 파티션 합계
+    private static final String MEASURE_SIZE_SQL = """
+        SELECT COALESCE(SUM(pg_table_size(relid)), 0) AS table_bytes,
+            COALESCE(SUM(pg_indexes_size(relid)), 0) AS index_bytes
+        FROM pg_partition_tree('%s')
+        """.formatted(TABLE);
+
+    // %s 에 (title, category, is_growth_mode, target_type, target_value, growth_cycle_days, target_increment) 원본이 들어감
+    private static final String INSERT_VERSIONS_SQL = """
+        INSERT INTO routine_version (version_id, title, category, is_growth_mode, target_type, target_value,
+            growth_cycle_days, target_increment, created_at, updated_at)
+        SELECT nextval('routine_version_seq'), s.title, s.category, s.is_growth_mode, s.target_type,
+            s.target_value, s.growth_cycle_days, s.target_increment, now(), now()
+        FROM (%s) s
+        WHERE NOT EXISTS (SELECT 1 FROM routine_version v WHERE %s = %s)
+        """;
+
+    private static final String INSERT_RECORD_VERSIONS_SQL = INSERT_VERSIONS_SQL.formatted("""
+        SELECT DISTINCT routine_title AS title, routine_category AS category, is_growth_mode, target_type,
+            target_value, growth_cycle_days, target_increment
+        FROM daily_routine_table
+        WHERE routine_version_id IS NULL AND %s
+        """.formatted(HAS_SNAPSHOT), VERSION_KEY, SOURCE_KEY);
+
+    private static final String INSERT_ROUTINE_VERSIONS_SQL = INSERT_VERSIONS_SQL.formatted("""
+        SELECT DISTINCT title, category, is_growth_mode, target_type, target_value, growth_cycle_days,
+            target_increment
+        FROM routine_table
+        WHERE current_version_id IS NULL
+        """, VERSION_KEY, SOURCE_KEY);
+
+    // 같은 값의 버전이 여러 개면 (루틴별로 따로 만들어진 경우) 가장 먼저 만든 버전으로 연결
+    private static final String VERSION_KEYS = """
+        SELECT DISTINCT ON (%1$s) %1$s AS snapshot_key, v.version_id
+        FROM routine_version v
+        ORDER BY %1$s, v.version_id
+        """.formatted(VERSION_KEY);
+
+    private static final String LINK_RECORDS_SQL = """
+        UPDATE daily_routine_table d SET routine_version_id = k.version_id
+        FROM (%s) k
+        WHERE d.routine_version_id IS NULL
+            AND NOT (ROW(d.routine_title, d.routine_category, d.is_growth_mode, d.target_type, d.target_value,
+                d.growth_cycle_days, d.target_increment) IS NULL)
+            AND ROW(d.routine_title, d.routine_category, d.is_growth_mode, d.target_type, d.target_value,
+                d.growth_cycle_days, d.target_increment)::text = k.snapshot_key
+        """.formatted(VERSION_KEYS);
+
+    // 스냅샷 없이 저장된 기록은 (루틴 연결 후) 루틴의 현재 버전으로 연결
+    private static final String LINK_RECORDS_TO_ROUTINES_SQL = """
+        UPDATE daily_routine_table d SET routine_version_id = r.current_version_id
+        FROM routine_table r
+        WHERE d.routine_version_id IS NULL AND d.routine_id = r.routine_id AND r.current_version_id IS NOT NULL
+        """;
+
+    private static final String LINK_ROUTINES_SQL = """
+        UPDATE routine_table r SET current_version_id = k.version_id
+        FROM (%s) k
+        WHERE r.current_version_id IS NULL
+            AND ROW(r.title, r.category, r.is_growth_mode, r.target_type, r.target_value,
+                r.growth_cycle_days, r.target_increment)::text = k.snapshot_key
+        """.formatted(VERSION_KEYS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean hasLegacyColumns() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_LEGACY_COLUMNS_SQL, Boolean.class));
+    }
+
+    /**
+     * 버전이 없는 기록의 스냅샷을 중복 없이 버전으로 만들고 연결 (호출 측 트랜잭션 안에서 실행)
+     * @return 연결된 기록 행 수
+     */
+    public int linkRecords() {
+        jdbcTemplate.update(INSERT_RECORD_VERSIONS_SQL);
+        return jdbcTemplate.update(LINK_RECORDS_SQL);
+    }
+
+    /**
+     * 스냅샷 없이 저장된 기록을 루틴의 현재 버전으로 연결 (linkRoutines 이후 실행)
+     * @return 연결된 기록 행 수
+     */
+    public int linkRecordsToRoutines() {
+        return jdbcTemplate.update(LINK_RECORDS_TO_ROUTINES_SQL);
+    }
+
+    /**
+     * 현재 버전이 없는 루틴(버전 도입 전 생성)의 현재 설정을 버전으로 연결
+     * @return 연결된 루틴 수
+     */
+    public int linkRoutines() {
+        jdbcTemplate.update(INSERT_ROUTINE_VERSIONS_SQL);
+        return jdbcTemplate.update(LINK_ROUTINES_SQL);
+    }
+
+    /**
+     * 스냅샷 컬럼 삭제 (파티션에도 전파, 공간은 테이블을 다시 쓸 때 회수됨)
+     */
+    public void dropLegacyColumns() {
+        StringBuilder sql = new StringBuilder("ALTER TABLE ").append(TABLE);
+        for (int i = 0; i < LEGACY_COLUMNS.length; i++) {
+            sql.append(i == 0 ? " " : ", ").append("DROP COLUMN IF EXISTS ").append(LEGACY_COLUMNS[i]);
+        }
+        jdbcTemplate.execute(sql.toString());
+    }
+
+    /**
+     * 테이블을 다시 써서 삭제된 컬럼과 이관 UPDATE 로 생긴 dead tuple 공간 회수
+     * 트랜잭션 밖에서만 실행 가능하고, 실행 중 테이블 전체가 잠김
+     */
+    public void rewriteTable() {
+        jdbcTemplate.execute("VACUUM FULL " + TABLE);
+    }
+
+    public TableSize measureSize() {
+        return jdbcTemplate.queryForObject(MEASURE_SIZE_SQL,
+            (rs, rowNum) -> new TableSize(rs.getLong("table_bytes"), rs.getLong("index_bytes")));
+    }
+
+    /**
+     * daily_routine_table 크기 (TOAST 포함 테이블 / 인덱스, byte)
+     */
+    public record TableSize(long tableBytes, long indexBytes) {
+
+        public long totalBytes() {
+            return tableBytes + indexBytes;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 회원의 하루 루틴 기록 요약 (daily_summary 한 행)
+ * done 은 미수행이 아닌 기록 수 (완전 성공 + 부분 성공)
+ * categoryCounts 의 키는 RoutineCategory 이름이며, 카테고리가 없는 기록은 UNCATEGORIZED 로 집계
+ */
+public record DailySummary(
+    LocalDate summaryDate,
+    int totalCount,
+    int fullSuccessCount,
+    int partialSuccessCount,
+    Map<String, CategoryCount> categoryCounts) {
+
+    public static final String UNCATEGORIZED = "UNCATEGORIZED";
+
+    public int doneCount() {
+        return fullSuccessCount + partialSuccessCount;
+    }
+
+    public record CategoryCount(int done, int total) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일별 요약(daily_summary) 조회/갱신 (JdbcTemplate)
+ * 요약은 항상 daily_routine_table 의 해당 (회원, 날짜) 기록을 다시 집계해 덮어쓰므로, 같은 날을 여러 번 갱신해도 결과가 같음
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailySummaryRepository {
+
+    private static final TypeReference<Map<String, DailySummary.CategoryCount>> CATEGORY_COUNTS_TYPE =
+        new TypeReference<>() {
+        };
+
+    // %s 에 집계 대상 기록 조건이 들어감 (카테고리별로 먼저 집계한 뒤 날짜별로 합침)
+    // 카테고리가 없는 기록(버전 스냅샷 없음)도 합계와 맞도록 UNCATEGORIZED 키로 집계
+    private static final String AGGREGATE_SQL = """
+        INSERT INTO daily_summary (
+            member_id, summary_date, total_count, full_success_count, partial_success_count, category_counts, updated_at)
+        SELECT member_id, performed_date, SUM(total_count), SUM(full_success_count), SUM(partial_success_count),
+            jsonb_object_agg(COALESCE(routine_category, 'UNCATEGORIZED'), jsonb_build_object(
+                'done', full_success_count + partial_success_count, 'total', total_count)),
+            now()
+        FROM (
+            SELECT member_id, performed_date, v.category AS routine_category,
+                COUNT(*) AS total_count,
+                COUNT(*) FILTER (WHERE performance_level = 'FULL_SUCCESS') AS full_success_count,
+                COUNT(*) FILTER (WHERE performance_level = 'PARTIAL_SUCCESS') AS partial_success_count
+            FROM daily_routine_table
+            LEFT JOIN routine_version v ON v.version_id = routine_version_id
+            WHERE %s
+            GROUP BY member_id, performed_date, v.category
+        ) per_category
+        GROUP BY member_id, performed_date
+        ON CONFLICT (member_id, summary_date) DO UPDATE SET
+            total_count = EXCLUDED.total_count,
+            full_success_count = EXCLUDED.full_success_count,
+            partial_success_count = EXCLUDED.partial_success_count,
+            category_counts = EXCLUDED.category_counts,
+            updated_at = EXCLUDED.updated_at
+        """;
+
+    private static final String REFRESH_DAY_SQL =
+        AGGREGATE_SQL.formatted("member_id = ? AND performed_date = ?");
+
+    private static final String REFRESH_RANGE_SQL =
+        AGGREGATE_SQL.formatted("member_id = ? AND performed_date BETWEEN ? AND ?");
+
+    private static final String REBUILD_MEMBERS_SQL =
+        AGGREGATE_SQL.formatted("member_id = ANY(?)");
+
+    private static final String DELETE_DAY_SQL =
+        "DELETE FROM daily_summary WHERE member_id = ? AND summary_date = ?";
+
+    // 보관(daily_routine_archive)된 달의 요약은 원본이 없어도 유지
+    private static final String DELETE_ORPHANS_SQL = """
+        DELETE FROM daily_summary s
+        WHERE NOT EXISTS (
+            SELECT 1 FROM daily_routine_table d
+            WHERE d.member_id = s.member_id AND d.performed_date = s.summary_date)
+        AND NOT EXISTS (
+            SELECT 1 FROM daily_routine_archive a
+            WHERE a.member_id = s.member_id
+                AND a.archive_month = date_trunc('month', s.summary_date)::date)
+        """;
+
+    private static final String FIND_BY_RANGE_SQL = """
+        SELECT summary_date, total_count, full_success_count, partial_success_count, category_counts
+        FROM daily_summary
+        WHERE member_id = ? AND summary_date BETWEEN ? AND ?
+        ORDER BY summary_date
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 하루치 요약을 다시 집계 (기록이 모두 사라진 날은 요약 행 삭제)
+     */
+    public void refresh(Long memberId, LocalDate date) {
+        int updated = jdbcTemplate.update(REFRESH_DAY_SQL, memberId, date);
+        if (updated == 0) {
+            jdbcTemplate.update(DELETE_DAY_SQL, memberId, date);
+        }
+    }
+
+    /**
+     * 기간 내 요약을 한 번에 다시 집계 (기록을 추가/수정만 하는 일괄 동기화용, 삭제된 날은 처리하지 않음)
+     */
+    public void refreshRange(Long memberId, LocalDate startDate, LocalDate endDate) {
+        jdbcTemplate.update(REFRESH_RANGE_SQL, memberId, startDate, endDate);
+    }
+
+    /**
+     * 기록이 있는 모든 회원 ID (재구축 대상)
+     */
+    public List<Long> findMemberIdsWithRecords() {
+        return jdbcTemplate.queryForList(
+            "SELECT DISTINCT member_id FROM daily_routine_table ORDER BY member_id", Long.class);
+    }
+
+    /**
+     * 주어진 회원들의 전체 기간 요약을 다시 집계
+     * @return 갱신된 요약 행 수
+     */
+    public int rebuildMembers(List<Long> memberIds) {
+        return jdbcTemplate.update(REBUILD_MEMBERS_SQL, (Object) memberIds.toArray(new Long[0]));
+    }
+
+    /**
+     * 원본 기록이 없는 요약 행 삭제
+     * @param keepBefore 이 날짜 이전 요약은 원본이 없어도 유지 (파티션 보관 기간이 지나 분리/삭제된 달, null 이면 제한 없음)
+     */
+    public int deleteOrphans(LocalDate keepBefore) {
+        if (keepBefore == null) {
+            return jdbcTemplate.update(DELETE_ORPHANS_SQL);
+        }
+        return jdbcTemplate.update(DELETE_ORPHANS_SQL + "AND s.summary_date >= ?", keepBefore);
+    }
+
+    public List<DailySummary> findByMemberIdAndDateRange(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(FIND_BY_RANGE_SQL, (rs, rowNum) -> toSummary(rs), memberId, startDate, endDate);
+    }
+
+    private DailySummary toSummary(ResultSet rs) throws SQLException {
+        return new DailySummary(
+            rs.getObject("summary_date", LocalDate.class),
+            rs.getInt("total_count"),
+            rs.getInt("full_success_count"),
+            rs.getInt("partial_success_count"),
+            readCategoryCounts(rs.getString("category_counts")));
+    }
+
+    private Map<String, DailySummary.CategoryCount> readCategoryCounts(String json) {
+        try {
+            return objectMapper.readValue(json, CATEGORY_COUNTS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("daily_summary.category_counts 역직렬화 실패", e);
+        }
+    }
+}
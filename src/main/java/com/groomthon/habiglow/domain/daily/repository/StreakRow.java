@@ -0,0 +1,20 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.time.LocalDate;
+
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+
+/**
+ * 연속 일수 재계산용 기록 projection (루틴별 날짜 순으로 조회)
+ */
+public record StreakRow(
+    Long dailyRoutineId,
+    Long routineId,
+    LocalDate performedDate,
+    PerformanceLevel performanceLevel,
+    int consecutiveDays) {
+
+    public StreakRow withConsecutiveDays(int consecutiveDays) {
+        return new StreakRow(dailyRoutineId, routineId, performedDate, performanceLevel, consecutiveDays);
+    }
+}
@@ -0,0 +1,12 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.util.List;
+
+import com.groomthon.habiglow.domain.daily.dto.response.RoutineRecordResponse;
+import com.groomthon.habiglow.domain.routine.dto.response.RoutineResponse;
+
+/**
+ * 당일 화면용 projection (실제 기록 + 미기록 루틴의 가상 미수행 기록, 회원의 전체 루틴)
+ */
+public record TodayRoutineView(List<RoutineRecordResponse> routineRecords, List<RoutineResponse> allRoutines) {
+}
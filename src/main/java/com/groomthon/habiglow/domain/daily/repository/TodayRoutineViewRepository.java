@@ -0,0 +1,128 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.groomthon.habiglow.domain.daily.dto.response.RoutineRecordResponse;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.common.TargetType;
+import com.groomthon.habiglow.domain.routine.dto.response.RoutineResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 당일 화면 조회 (JdbcTemplate)
+ * 회원 루틴 LEFT JOIN 당일 기록 + 삭제된 루틴의 당일 기록을 한 번의 쿼리로 읽어 엔티티 없이 DTO 로 변환
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodayRoutineViewRepository {
+
+    // 기록 컬럼은 기록 시점 스냅샷(routine_version), 루틴 컬럼은 현재 설정 (기록이 없는 루틴은 현재 설정으로 가상 미수행 기록 생성)
+    private static final String FIND_TODAY_SQL = """
+        SELECT r.routine_id, r.title, r.description, r.category,
+            r.is_growth_mode, r.target_type, r.target_value, r.growth_cycle_days, r.target_increment,
+            r.current_cycle_days, r.failure_cycle_days, r.created_at, r.updated_at,
+            d.daily_routine_id IS NOT NULL AS recorded,
+            v.title AS routine_title, v.category AS routine_category, d.performance_level, d.consecutive_days,
+            v.is_growth_mode AS record_is_growth_mode, v.target_type AS record_target_type,
+            v.target_value AS record_target_value, v.growth_cycle_days AS record_growth_cycle_days,
+            v.target_increment AS record_target_increment
+        FROM routine_table r
+        LEFT JOIN daily_routine_table d
+            ON d.routine_id = r.routine_id AND d.member_id = r.member_id AND d.performed_date = ?
+        LEFT JOIN routine_version v ON v.version_id = d.routine_version_id
+        WHERE r.member_id = ?
+        UNION ALL
+        SELECT NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL,
+            TRUE,
+            v.title, v.category, d.performance_level, d.consecutive_days,
+            v.is_growth_mode, v.target_type, v.target_value, v.growth_cycle_days, v.target_increment
+        FROM daily_routine_table d
+        LEFT JOIN routine_version v ON v.version_id = d.routine_version_id
+        WHERE d.member_id = ? AND d.performed_date = ? AND d.routine_id IS NULL
+        ORDER BY 1 NULLS LAST
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TodayRoutineView findTodayView(Long memberId, LocalDate date) {
+        List<RoutineRecordResponse> records = new ArrayList<>();
+        List<RoutineRecordResponse> virtualRecords = new ArrayList<>();
+        List<RoutineResponse> routines = new ArrayList<>();
+
+        jdbcTemplate.query(FIND_TODAY_SQL, rs -> {
+            Long routineId = rs.getObject("routine_id", Long.class);
+            if (routineId != null) {
+                routines.add(toRoutine(rs, routineId));
+            }
+            if (rs.getBoolean("recorded")) {
+                records.add(toRecord(rs, routineId));
+            } else {
+                virtualRecords.add(toVirtualRecord(rs, routineId));
+            }
+        }, date, memberId, memberId, date);
+
+        // 기존 응답과 같이 실제 기록 뒤에 가상 미수행 기록
+        records.addAll(virtualRecords);
+        return new TodayRoutineView(records, routines);
+    }
+
+    private RoutineResponse toRoutine(ResultSet rs, Long routineId) throws SQLException {
+        return RoutineResponse.builder()
+            .routineId(routineId)
+            .category(enumOf(RoutineCategory.class, rs.getString("category")))
+            .title(rs.getString("title"))
+            .description(rs.getString("description"))
+            .isGrowthMode(rs.getObject("is_growth_mode", Boolean.class))
+            .targetType(enumOf(TargetType.class, rs.getString("target_type")))
+            .targetValue(rs.getObject("target_value", Integer.class))
+            .growthCycleDays(rs.getObject("growth_cycle_days", Integer.class))
+            .targetIncrement(rs.getObject("target_increment", Integer.class))
+            .currentCycleDays(rs.getObject("current_cycle_days", Integer.class))
+            .failureCycleDays(rs.getObject("failure_cycle_days", Integer.class))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+    }
+
+    private RoutineRecordResponse toRecord(ResultSet rs, Long routineId) throws SQLException {
+        return new RoutineRecordResponse(
+            routineId,
+            rs.getString("routine_title"),
+            enumOf(RoutineCategory.class, rs.getString("routine_category")),
+            enumOf(PerformanceLevel.class, rs.getString("performance_level")),
+            rs.getObject("consecutive_days", Integer.class),
+            rs.getObject("record_is_growth_mode", Boolean.class),
+            enumOf(TargetType.class, rs.getString("record_target_type")),
+            rs.getObject("record_target_value", Integer.class),
+            rs.getObject("record_growth_cycle_days", Integer.class),
+            rs.getObject("record_target_increment", Integer.class));
+    }
+
+    private RoutineRecordResponse toVirtualRecord(ResultSet rs, Long routineId) throws SQLException {
+        return new RoutineRecordResponse(
+            routineId,
+            rs.getString("title"),
+            enumOf(RoutineCategory.class, rs.getString("category")),
+            PerformanceLevel.NOT_PERFORMED,
+            0,
+            rs.getObject("is_growth_mode", Boolean.class),
+            enumOf(TargetType.class, rs.getString("target_type")),
+            rs.getObject("target_value", Integer.class),
+            rs.getObject("growth_cycle_days", Integer.class),
+            rs.getObject("target_increment", Integer.class));
+    }
+
+    private static <E extends Enum<E>> E enumOf(Class<E> type, String name) {
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+}
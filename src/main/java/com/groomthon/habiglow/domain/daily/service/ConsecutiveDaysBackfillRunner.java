@@ -0,0 +1,25 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기동 시 전체 연속 일수 복구 (daily-streak.backfill-on-startup=true 일 때만)
+ * 과거 날짜 수정으로 어긋난 기존 기록을 1회성으로 바로잡을 때 사용
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "daily-streak.backfill-on-startup", havingValue = "true")
+public class ConsecutiveDaysBackfillRunner implements ApplicationRunner {
+
+    private final ConsecutiveDaysRecalculator consecutiveDaysRecalculator;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        consecutiveDaysRecalculator.backfillAll();
+    }
+}
@@ -0,0 +1,167 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineRepository;
+
+/**
+ * 루틴별 (날짜 → 저장된 연속 성공 일수) 캐시
+ * 루틴 ID 를 키로 최근 날짜 몇 개만 묶어 두어, 루틴 삭제 시 항목 하나만 제거
+ * 기록이 없거나 완전 성공이 아니면 0으로 저장하여 다음 날 계산 시 DB 조회를 생략
+ * 저장/재계산 값은 트랜잭션 커밋 이후에 반영되어 롤백된 값이 캐시에 남지 않고,
+ * 캐시 미스 조회로 채우는 값은 그 사이 반영된 저장 값을 덮어쓰지 않음
+ */
+@Component
+public class ConsecutiveDaysCache {
+
+    public static final String CACHE_NAME = "consecutiveDays";
+
+    // 전날/당일 조회가 대부분이므로 루틴마다 최근 날짜만 유지
+    private static final int MAX_DATES_PER_ROUTINE = 7;
+
+    private final DailyRoutineRepository dailyRoutineRepository;
+    private final ConcurrentMap<Object, Object> cache;
+
+    public ConsecutiveDaysCache(CacheManager cacheManager, DailyRoutineRepository dailyRoutineRepository) {
+        this.dailyRoutineRepository = dailyRoutineRepository;
+        // 캐시가 꺼져 있으면 (spring.cache.type=none) 항상 DB 에서 조회
+        this.cache = cacheManager.getCache(CACHE_NAME) instanceof CaffeineCache caffeineCache
+            ? caffeineCache.getNativeCache().asMap()
+            : null;
+    }
+
+    /**
+     * 루틴별 해당 날짜의 연속 일수 (캐시에 없는 루틴만 한 번의 쿼리로 조회)
+     */
+    public Map<Long, Integer> getStreaks(Long memberId, LocalDate date, Collection<Long> routineIds) {
+        Map<Long, Integer> streaks = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long routineId : routineIds) {
+            Integer cached = cache != null && cache.get(routineId) instanceof RoutineStreaks routineStreaks
+                ? routineStreaks.get(memberId, date)
+                : null;
+            if (cached != null) {
+                streaks.put(routineId, cached);
+            } else {
+                missing.add(routineId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            dailyRoutineRepository.findByMemberIdAndPerformedDateAndRoutineIds(memberId, date, missing)
+                .forEach(record -> streaks.put(record.getRoutine().getRoutineId(), streakOf(record)));
+            // 조회 사이에 커밋된 저장 값이 이미 있으면 덮어쓰지 않음
+            for (Long routineId : missing) {
+                put(routineId, memberId, date, streaks.computeIfAbsent(routineId, id -> 0), false);
+            }
+        }
+        return streaks;
+    }
+
+    /**
+     * 저장된 기록으로 캐시 갱신 (CachePut)
+     */
+    public void putAll(Collection<DailyRoutineEntity> records) {
+        for (DailyRoutineEntity record : records) {
+            if (record.getRoutine() == null) {
+                continue;
+            }
+            put(record.getRoutine().getRoutineId(), record.getMember().getId(), record.getPerformedDate(),
+                streakOf(record));
+        }
+    }
+
+    /**
+     * 재계산된 연속 일수로 캐시 갱신
+     */
+    public void put(Long routineId, Long memberId, LocalDate date, int streak) {
+        if (cache != null) {
+            afterCommit(() -> put(routineId, memberId, date, streak, true));
+        }
+    }
+
+    /**
+     * 삭제된 루틴의 항목 제거 (CacheEvict)
+     */
+    public void evictRoutine(Long routineId) {
+        if (cache != null) {
+            afterCommit(() -> cache.remove(routineId));
+        }
+    }
+
+    /**
+     * 전체 재계산 이후 모든 항목 제거
+     */
+    public void clear() {
+        if (cache != null) {
+            afterCommit(cache::clear);
+        }
+    }
+
+    private void put(Long routineId, Long memberId, LocalDate date, int streak, boolean overwrite) {
+        if (cache == null) {
+            return;
+        }
+        cache.compute(routineId, (key, current) -> RoutineStreaks.with(current, memberId, date, streak, overwrite));
+    }
+
+    // 트랜잭션 안이면 커밋 이후, 밖이면 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static int streakOf(DailyRoutineEntity record) {
+        return record.isFullSuccess() ? record.getConsecutiveDays() : 0;
+    }
+
+    /**
+     * 한 루틴의 날짜별 연속 일수 (불변, 갱신 시 새 값으로 교체)
+     */
+    private record RoutineStreaks(Long memberId, NavigableMap<LocalDate, Integer> byDate) {
+
+        Integer get(Long memberId, LocalDate date) {
+            return this.memberId.equals(memberId) ? byDate.get(date) : null;
+        }
+
+        static RoutineStreaks with(Object current, Long memberId, LocalDate date, int streak, boolean overwrite) {
+            TreeMap<LocalDate, Integer> byDate = new TreeMap<>();
+            if (current instanceof RoutineStreaks existing && existing.memberId.equals(memberId)) {
+                if (!overwrite && existing.byDate.containsKey(date)) {
+                    return existing;
+                }
+                byDate.putAll(existing.byDate);
+            }
+            byDate.put(date, streak);
+            while (byDate.size() > MAX_DATES_PER_ROUTINE) {
+                byDate.pollFirstEntry();
+            }
+            return new RoutineStreaks(memberId, Collections.unmodifiableNavigableMap(byDate));
+        }
+    }
+}
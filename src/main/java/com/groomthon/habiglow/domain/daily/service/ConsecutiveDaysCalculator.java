@@ -1,39 +1,22 @@
 package com.groomthon.habiglow.domain.daily.service;
 
-import java.time.LocalDate;
-import java.util.Optional;
-
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
-import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
 import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
-import com.groomthon.habiglow.domain.daily.repository.DailyRoutineRepository;
-
-import lombok.RequiredArgsConstructor;
 
 @Component
-@RequiredArgsConstructor
 public class ConsecutiveDaysCalculator {
     
-    private final DailyRoutineRepository dailyRoutineRepository;
-    
-    @Cacheable(value = "consecutiveDays", key = "#routineId + '_' + #memberId + '_' + #currentDate")
-    public int calculate(Long routineId, Long memberId, LocalDate currentDate, PerformanceLevel performance) {
+    /**
+     * 이미 조회한 전날 연속 일수로 계산 (전날 기록이 없거나 완전 성공이 아니면 0)
+     */
+    public int calculate(PerformanceLevel performance, int yesterdayStreak) {
         
         if (performance != PerformanceLevel.FULL_SUCCESS) {
             return 0;
         }
         
-        LocalDate yesterday = currentDate.minusDays(1);
-        Optional<DailyRoutineEntity> yesterdayRecord = dailyRoutineRepository
-            .findByRoutine_RoutineIdAndMemberIdAndPerformedDate(routineId, memberId, yesterday);
-        
-        if (yesterdayRecord.isEmpty() || !yesterdayRecord.get().isFullSuccess()) {
-            return 1;
-        }
-        
-        return yesterdayRecord.get().getConsecutiveDays() + 1;
+        return yesterdayStreak + 1;
     }
     
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.collect.Lists;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineStreakRepository;
+import com.groomthon.habiglow.domain.daily.repository.StreakRow;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 과거 날짜 기록 수정 시 이후 기록의 연속 일수 재계산
+ * 연속 일수는 전날 값에만 의존하므로, 수정한 날 이후 기록을 한 번에 읽어 날짜 순으로 한 번 훑고 바뀐 행만 batch 로 갱신
+ */
+@Slf4j
+@Service
+@Transactional
+public class ConsecutiveDaysRecalculator {
+
+    private final DailyRoutineStreakRepository streakRepository;
+    private final ConsecutiveDaysCalculator consecutiveDaysCalculator;
+    private final ConsecutiveDaysCache consecutiveDaysCache;
+    private final int backfillChunkSize;
+
+    public ConsecutiveDaysRecalculator(DailyRoutineStreakRepository streakRepository,
+                                       ConsecutiveDaysCalculator consecutiveDaysCalculator,
+                                       ConsecutiveDaysCache consecutiveDaysCache,
+                                       @Value("${daily-streak.backfill-chunk-size:500}") int backfillChunkSize) {
+        this.streakRepository = streakRepository;
+        this.consecutiveDaysCalculator = consecutiveDaysCalculator;
+        this.consecutiveDaysCache = consecutiveDaysCache;
+        this.backfillChunkSize = backfillChunkSize;
+    }
+
+    /**
+     * editedDate 기록(이미 저장된 값)을 기준으로 이후 기록의 연속 일수를 다시 계산
+     * @return 값이 바뀐 기록 수
+     */
+    public int recalculateAfter(Long memberId, Collection<Long> routineIds, LocalDate editedDate) {
+        List<StreakRow> changed = new ArrayList<>();
+        StreakRow previous = null;
+
+        for (StreakRow row : streakRepository.findFrom(memberId, routineIds, editedDate)) {
+            // 루틴별 첫 기록(수정한 날)은 기준값으로 그대로 사용
+            if (previous == null || !previous.routineId().equals(row.routineId())) {
+                previous = row;
+                continue;
+            }
+
+            boolean continuous = previous.performedDate().plusDays(1).equals(row.performedDate());
+            int expected = consecutiveDaysCalculator.calculate(
+                row.performanceLevel(), continuous ? previous.consecutiveDays() : 0);
+
+            if (expected != row.consecutiveDays()) {
+                row = row.withConsecutiveDays(expected);
+                changed.add(row);
+            }
+            previous = row;
+        }
+
+        streakRepository.updateConsecutiveDays(changed);
+        for (StreakRow row : changed) {
+            consecutiveDaysCache.put(row.routineId(), memberId, row.performedDate(), row.consecutiveDays());
+        }
+        return changed.size();
+    }
+
+    /**
+     * 전체 회원의 연속 일수 일괄 복구 (회원 chunk 단위로 커밋)
+     * @return 값이 바뀐 기록 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfillAll() {
+        List<Long> memberIds = streakRepository.findMemberIdsWithRecords();
+
+        int updated = 0;
+        for (List<Long> chunk : Lists.partition(memberIds, backfillChunkSize)) {
+            updated += streakRepository.recomputeMembers(chunk);
+        }
+        consecutiveDaysCache.clear();
+
+        log.info("Backfilled consecutive days: {} rows updated for {} members", updated, memberIds.size());
+        return updated;
+    }
+}
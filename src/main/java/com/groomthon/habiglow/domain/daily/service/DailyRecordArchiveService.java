@@ -0,0 +1,191 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groomthon.habiglow.domain.daily.dto.response.RoutineRecordResponse;
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.repository.ArchivedRoutineBlock;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineArchiveRepository;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineBulkRepository;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.entity.RoutineVersionEntity;
+import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
+import com.groomthon.habiglow.domain.routine.repository.RoutineVersionRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지난 달 루틴 기록 보관(archive)
+ * archive-after-months 보다 오래된 달의 기록을 회원/월 단위 JSONB 한 행으로 옮기고 원본 행 삭제
+ * 조회는 원본이 없을 때만 보관 행을 읽고, 보관된 달을 수정하면 먼저 원본 행으로 되돌린 뒤 저장
+ * 월별/연간 통계와 주간 대시보드는 daily_summary 를 읽으므로 보관 여부와 무관
+ */
+@Slf4j
+@Service
+@Transactional
+public class DailyRecordArchiveService {
+
+    private final DailyRoutineArchiveRepository archiveRepository;
+    private final DailyRoutineBulkRepository dailyRoutineBulkRepository;
+    private final RoutineRepository routineRepository;
+    private final RoutineVersionRepository routineVersionRepository;
+    private final EntityManager entityManager;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int archiveAfterMonths;
+
+    public DailyRecordArchiveService(DailyRoutineArchiveRepository archiveRepository,
+                                     DailyRoutineBulkRepository dailyRoutineBulkRepository,
+                                     RoutineRepository routineRepository,
+                                     RoutineVersionRepository routineVersionRepository,
+                                     EntityManager entityManager,
+                                     Clock clock,
+                                     @Value("${daily-archive.enabled:false}") boolean enabled,
+                                     @Value("${daily-archive.archive-after-months:6}") int archiveAfterMonths) {
+        this.archiveRepository = archiveRepository;
+        this.dailyRoutineBulkRepository = dailyRoutineBulkRepository;
+        this.routineRepository = routineRepository;
+        this.routineVersionRepository = routineVersionRepository;
+        this.entityManager = entityManager;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    @Scheduled(cron = "${daily-archive.cron:0 0 4 2 * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduledArchive() {
+        if (enabled) {
+            archiveClosedMonths();
+        }
+    }
+
+    /**
+     * 가장 오래된 기록의 달부터 보관 기준 달 직전까지 한 달씩 보관 (달마다 단일 문장으로 커밋)
+     * @return 보관 후 삭제된 원본 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int archiveClosedMonths() {
+        YearMonth cutoff = YearMonth.now(clock).minusMonths(Math.max(archiveAfterMonths, 1));
+        YearMonth month = archiveRepository.findOldestRecordDate().map(YearMonth::from).orElse(cutoff);
+
+        int archived = 0;
+        for (; month.isBefore(cutoff); month = month.plusMonths(1)) {
+            int rows = archiveRepository.archiveMonth(month);
+            if (rows > 0) {
+                log.info("Archived {} daily routine records of {}", rows, month);
+            }
+            archived += rows;
+        }
+        return archived;
+    }
+
+    /**
+     * 보관된 날짜의 기록 조회 (원본 기록이 없을 때 호출, 보관되지 않았으면 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public List<RoutineRecordResponse> findArchivedRecords(Long memberId, LocalDate date) {
+        if (!YearMonth.from(date).isBefore(YearMonth.now(clock))) {
+            return List.of();
+        }
+
+        return archiveRepository.findMonth(memberId, YearMonth.from(date)).orElse(List.of()).stream()
+            .flatMap(block -> block.days().stream()
+                .filter(day -> day.dayOfMonth() == date.getDayOfMonth())
+                .map(day -> new RoutineRecordResponse(
+                    block.routineId(), block.routineTitle(), block.routineCategory(),
+                    day.performanceLevel(), day.consecutiveDays(), block.growthMode(),
+                    block.targetType(), block.targetValue(), block.growthCycleDays(), block.targetIncrement())))
+            .toList();
+    }
+
+    /**
+     * 수정할 날짜의 연속 일수 계산에 필요한 보관된 달을 원본 행으로 되돌림 (지난 달이 없으면 조회하지 않음)
+     * 첫 날짜는 전날 기록에서 이어 계산하고 이후 기록도 다시 계산하므로, 첫 날짜 전날의 달부터 지난 달까지 복원
+     * 복원된 달은 다음 보관 작업에서 다시 보관됨
+     */
+    public void restoreIfArchived(Long memberId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+        YearMonth current = YearMonth.now(clock);
+        YearMonth from = YearMonth.from(Collections.min(dates).minusDays(1));
+        if (!from.isBefore(current)) {
+            return;
+        }
+
+        for (YearMonth month : archiveRepository.findArchivedMonths(memberId, from, current.minusMonths(1))) {
+            restoreMonth(memberId, month);
+        }
+    }
+
+    private void restoreMonth(Long memberId, YearMonth month) {
+        List<ArchivedRoutineBlock> blocks = archiveRepository.findMonth(memberId, month).orElse(List.of());
+
+        // 보관 이후 삭제된 루틴은 원본 삭제 시와 같이 참조 없이 스냅샷만 복원
+        Set<Long> routineIds = blocks.stream()
+            .map(ArchivedRoutineBlock::routineId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<Long> existingRoutineIds = routineRepository.findAllById(routineIds).stream()
+            .map(RoutineEntity::getRoutineId)
+            .collect(Collectors.toSet());
+
+        MemberEntity member = entityManager.getReference(MemberEntity.class, memberId);
+        List<DailyRoutineEntity> rows = new ArrayList<>();
+        for (ArchivedRoutineBlock block : blocks) {
+            RoutineEntity routine = block.routineId() != null && existingRoutineIds.contains(block.routineId())
+                ? entityManager.getReference(RoutineEntity.class, block.routineId())
+                : null;
+            RoutineVersionEntity version = resolveVersion(block);
+            for (ArchivedRoutineBlock.Day day : block.days()) {
+                rows.add(DailyRoutineEntity.builder()
+                    .routine(routine)
+                    .member(member)
+                    .performanceLevel(day.performanceLevel())
+                    .performedDate(month.atDay(day.dayOfMonth()))
+                    .consecutiveDays(day.consecutiveDays())
+                    .routineVersion(version)
+                    .build());
+            }
+        }
+        dailyRoutineBulkRepository.insertAllIfAbsent(rows);
+        archiveRepository.deleteMonth(memberId, month);
+        log.info("Restored {} archived daily routine records of {} for member {}", rows.size(), month, memberId);
+    }
+
+    /**
+     * 보관 시점의 스냅샷 버전 (버전 도입 전에 보관된 묶음은 보관된 값으로 버전을 새로 만듦)
+     */
+    private RoutineVersionEntity resolveVersion(ArchivedRoutineBlock block) {
+        if (block.versionId() != null) {
+            return entityManager.getReference(RoutineVersionEntity.class, block.versionId());
+        }
+        return routineVersionRepository.save(RoutineVersionEntity.builder()
+            .title(block.routineTitle())
+            .category(block.routineCategory())
+            .isGrowthMode(block.growthMode())
+            .targetType(block.targetType())
+            .targetValue(block.targetValue())
+            .growthCycleDays(block.growthCycleDays())
+            .targetIncrement(block.targetIncrement())
+            .build());
+    }
+}
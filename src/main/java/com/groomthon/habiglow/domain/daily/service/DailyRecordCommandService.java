@@ -1,15 +1,31 @@
 package com.groomthon.habiglow.domain.daily.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest;
+import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest.ReflectionRequest;
+import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest.RoutineRecordRequest;
+import com.groomthon.habiglow.domain.daily.dto.request.SyncDailyRecordsRequest;
+import com.groomthon.habiglow.domain.daily.dto.request.SyncDailyRecordsRequest.DayRecordRequest;
 import com.groomthon.habiglow.domain.daily.dto.response.DailyRecordResponse;
+import com.groomthon.habiglow.domain.daily.dto.response.SyncDailyRecordsResponse;
+import com.groomthon.habiglow.domain.daily.dto.response.SyncDailyRecordsResponse.DayResult;
 import com.groomthon.habiglow.domain.daily.entity.DailyReflectionEntity;
 import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.member.repository.MemberRepository;
+import com.groomthon.habiglow.domain.member.service.MemberDataVersionService;
+import com.groomthon.habiglow.global.exception.BaseException;
+import com.groomthon.habiglow.global.response.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,17 +36,82 @@ public class DailyRecordCommandService {
     
     private final DailyRecordDomainService domainService;
     private final DailyReflectionService reflectionService;
+    private final DailySummaryService dailySummaryService;
+    private final MemberDataVersionService memberDataVersionService;
+    private final DailyRecordArchiveService archiveService;
+    private final MemberRepository memberRepository;
     
     public DailyRecordResponse saveDailyRecord(Long memberId, LocalDate date, SaveDailyRecordRequest request) {
         domainService.validateDateModifiable(date);
+        archiveService.restoreIfArchived(memberId, List.of(date));
         
         DailyReflectionEntity reflection = saveReflectionIfPresent(memberId, date, request);
         List<DailyRoutineEntity> routineRecords = domainService.saveRoutineRecords(
             memberId, date, request.getRoutineRecords());
         
+        // 일별 요약은 같은 트랜잭션에서 갱신 (회고만 저장한 경우 집계 대상 변화 없음)
+        if (!routineRecords.isEmpty()) {
+            dailySummaryService.refresh(memberId, date);
+        }
+        memberDataVersionService.bump(memberId);
+        
         return DailyRecordResponse.of(reflection, routineRecords);
     }
 
+    /**
+     * 오프라인에서 쌓인 여러 날짜 기록을 한 트랜잭션에서 저장
+     * 미래 날짜나 저장할 내용이 없는 날짜는 해당 날짜만 건너뛰고 결과에 사유를 남기며, 루틴 소유권 오류는 전체 요청을 거부
+     * 회원은 회고/루틴 기록 저장에 같이 쓰도록 한 번만 조회
+     */
+    public SyncDailyRecordsResponse syncDailyRecords(Long memberId, SyncDailyRecordsRequest request) {
+        Set<LocalDate> seen = new HashSet<>();
+        TreeMap<LocalDate, List<RoutineRecordRequest>> recordsByDate = new TreeMap<>();
+        Map<LocalDate, ReflectionRequest> reflections = new TreeMap<>();
+        List<DayResult> results = new ArrayList<>();
+        
+        for (DayRecordRequest day : request.getDays()) {
+            LocalDate date = day.getDate();
+            if (!seen.add(date)) {
+                throw new BaseException(ErrorCode.DAILY_RECORD_DUPLICATE_DATE);
+            }
+            if (!domainService.isDateModifiable(date)) {
+                results.add(DayResult.rejected(date, ErrorCode.DAILY_RECORD_FUTURE_DATE_NOT_ALLOWED));
+                continue;
+            }
+            
+            List<RoutineRecordRequest> routineRecords = day.getRoutineRecords() != null
+                ? day.getRoutineRecords() : List.of();
+            if (routineRecords.isEmpty() && day.getReflection() == null) {
+                results.add(DayResult.rejected(date, ErrorCode.DAILY_RECORD_EMPTY));
+                continue;
+            }
+            if (!routineRecords.isEmpty()) {
+                recordsByDate.put(date, routineRecords);
+            }
+            if (day.getReflection() != null) {
+                reflections.put(date, day.getReflection());
+            }
+            results.add(DayResult.saved(date, routineRecords.size(), day.getReflection() != null));
+        }
+        
+        if (recordsByDate.isEmpty() && reflections.isEmpty()) {
+            return new SyncDailyRecordsResponse(results);
+        }
+        
+        MemberEntity member = memberRepository.findById(memberId)
+            .orElseThrow(() -> new BaseException(ErrorCode.MEMBER_NOT_FOUND));
+        archiveService.restoreIfArchived(memberId, recordsByDate.keySet());
+        reflectionService.saveReflections(member, reflections);
+        domainService.saveRoutineRecordsForDates(member, recordsByDate);
+        
+        if (!recordsByDate.isEmpty()) {
+            dailySummaryService.refreshRange(memberId, recordsByDate.firstKey(), recordsByDate.lastKey());
+        }
+        memberDataVersionService.bump(memberId);
+        
+        return new SyncDailyRecordsResponse(results);
+    }
+
     private DailyReflectionEntity saveReflectionIfPresent(Long memberId, LocalDate date, 
                                                          SaveDailyRecordRequest request) {
         if (request.getReflection() == null) {
@@ -0,0 +1,100 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.groomthon.habiglow.domain.daily.dto.error.InvalidRoutineError;
+import com.groomthon.habiglow.domain.daily.dto.request.RoutinePerformanceRequest;
+import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest.RoutineRecordRequest;
+import com.groomthon.habiglow.domain.daily.exception.DailyRecordValidationException;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.service.RoutineService;
+
+/**
+ * 기록 저장 요청 1건 동안 검증/변환/스냅샷 생성이 함께 쓰는 회원과 루틴
+ * 요청 루틴은 회원 조건으로 한 번만 조회하고, 요청에 없는 루틴은 스냅샷 생성에 필요할 때 한 번만 조회
+ * 회원은 참조 프록시라 ID 외 값을 읽지 않는 한 조회하지 않음
+ */
+final class DailyRecordContext {
+
+    private final Long memberId;
+    private final MemberEntity member;
+    private final Map<Long, RoutineEntity> requestedRoutines;
+    private final RoutineService routineService;
+    private List<RoutineEntity> otherRoutines;
+
+    private DailyRecordContext(Long memberId, MemberEntity member, Map<Long, RoutineEntity> requestedRoutines,
+                               RoutineService routineService) {
+        this.memberId = memberId;
+        this.member = member;
+        this.requestedRoutines = requestedRoutines;
+        this.routineService = routineService;
+    }
+
+    /**
+     * 요청 루틴을 조회하고 소유권 검증 (없거나 다른 회원의 루틴이 있으면 모아서 예외)
+     * 조회되지 않은 ID 만 존재 여부를 한 번 더 확인해 사유를 구분하므로 정상 요청은 조회 1회
+     */
+    static DailyRecordContext load(Long memberId, MemberEntity member, Collection<Long> routineIds,
+                                   RoutineService routineService) {
+        Set<Long> requested = new LinkedHashSet<>(routineIds);
+        Map<Long, RoutineEntity> owned = routineService.findOwnedByIds(requested, memberId).stream()
+            .collect(Collectors.toMap(RoutineEntity::getRoutineId, Function.identity()));
+
+        Set<Long> invalid = new LinkedHashSet<>(requested);
+        invalid.removeAll(owned.keySet());
+        if (!invalid.isEmpty()) {
+            Set<Long> foreign = new LinkedHashSet<>(routineService.findExistingIds(invalid));
+            List<InvalidRoutineError> errors = invalid.stream()
+                .map(routineId -> foreign.contains(routineId)
+                    ? InvalidRoutineError.accessDenied(routineId)
+                    : InvalidRoutineError.notFound(routineId))
+                .toList();
+            throw new DailyRecordValidationException(errors);
+        }
+
+        return new DailyRecordContext(memberId, member, owned, routineService);
+    }
+
+    Long memberId() {
+        return memberId;
+    }
+
+    MemberEntity member() {
+        return member;
+    }
+
+    List<RoutinePerformanceRequest> enrich(List<RoutineRecordRequest> records) {
+        return records.stream()
+            .map(record -> RoutinePerformanceRequest.of(
+                requestedRoutines.get(record.getRoutineId()), member, record.getPerformanceLevel()))
+            .toList();
+    }
+
+    /**
+     * 회원 루틴 중 주어진 ID 에 없는 루틴 (미수행 스냅샷 대상)
+     */
+    List<RoutineEntity> routinesExcept(Set<Long> recordedRoutineIds) {
+        if (otherRoutines == null) {
+            otherRoutines = requestedRoutines.isEmpty()
+                ? routineService.getUserRoutines(memberId)
+                : routineService.getUserRoutinesExcluding(memberId, requestedRoutines.keySet());
+        }
+
+        List<RoutineEntity> result = new ArrayList<>();
+        requestedRoutines.values().stream()
+            .filter(routine -> !recordedRoutineIds.contains(routine.getRoutineId()))
+            .forEach(result::add);
+        otherRoutines.stream()
+            .filter(routine -> !recordedRoutineIds.contains(routine.getRoutineId()))
+            .forEach(result::add);
+        return result;
+    }
+}
@@ -1,26 +1,28 @@
 package com.groomthon.habiglow.domain.daily.service;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.groomthon.habiglow.domain.daily.dto.error.InvalidRoutineError;
 import com.groomthon.habiglow.domain.daily.dto.request.RoutinePerformanceRequest;
 import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest.RoutineRecordRequest;
 import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
 import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
-import com.groomthon.habiglow.domain.daily.exception.DailyRecordValidationException;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineBulkRepository;
 import com.groomthon.habiglow.domain.daily.repository.DailyRoutineRepository;
 import com.groomthon.habiglow.domain.member.entity.MemberEntity;
 import com.groomthon.habiglow.domain.member.repository.MemberRepository;
-import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
 import com.groomthon.habiglow.domain.routine.service.RoutineService;
 import com.groomthon.habiglow.global.exception.BaseException;
 import com.groomthon.habiglow.global.response.ErrorCode;
@@ -36,6 +38,8 @@ public class DailyRecordDomainService {
     private final MemberRepository memberRepository;
     private final DailyRoutineService dailyRoutineService;
     private final DailyRoutineRepository dailyRoutineRepository;
+    private final DailyRoutineBulkRepository dailyRoutineBulkRepository;
+    private final Clock clock;
     
     public List<DailyRoutineEntity> saveRoutineRecords(Long memberId, LocalDate date, 
                                                       List<RoutineRecordRequest> routineRecords) {
@@ -43,10 +47,13 @@ public class DailyRecordDomainService {
             return new ArrayList<>();
         }
         
-        List<RoutinePerformanceRequest> enrichedRecords = enrichRoutineRecords(routineRecords, memberId);
+        DailyRecordContext context = openContext(memberId, routineRecords.stream()
+            .map(RoutineRecordRequest::getRoutineId)
+            .toList());
+        List<RoutinePerformanceRequest> enrichedRecords = context.enrich(routineRecords);
         
         // 스냅샷 생성을 먼저 실행 (첫 저장인 경우)
-        createSnapshotForMissingRoutines(memberId, date, enrichedRecords);
+        createSnapshotForMissingRoutines(context, date, enrichedRecords);
         
         // 실제 기록 저장 (upsert 방식으로 스냅샷 보존)
         List<DailyRoutineEntity> savedRecords = dailyRoutineService.saveRoutineRecords(memberId, date, enrichedRecords);
@@ -54,86 +61,102 @@ public class DailyRecordDomainService {
         return savedRecords;
     }
     
-    public void validateRoutineOwnership(List<Long> routineIds, Long memberId) {
-        List<RoutineEntity> routines = routineService.findAllByIds(routineIds);
-        
-        List<InvalidRoutineError> invalidRoutines = new ArrayList<>();
-        
-        for (Long routineId : routineIds) {
-            RoutineEntity routine = routines.stream()
-                .filter(r -> r.getRoutineId().equals(routineId))
-                .findFirst()
-                .orElse(null);
-                
-            if (routine == null) {
-                invalidRoutines.add(InvalidRoutineError.notFound(routineId));
-            } else if (!routine.isOwnedBy(memberId)) {
-                invalidRoutines.add(InvalidRoutineError.accessDenied(routineId));
+    /**
+     * 여러 날짜의 루틴 기록 일괄 저장 (오프라인 동기화)
+     * 루틴 조회와 소유권 검증은 전체 날짜에 대해 1회, 스냅샷과 기록은 각각 batch 1회로 저장
+     * 회원은 호출 측에서 조회한 엔티티를 그대로 사용
+     */
+    public void saveRoutineRecordsForDates(MemberEntity member, Map<LocalDate, List<RoutineRecordRequest>> recordsByDate) {
+        Map<LocalDate, List<RoutineRecordRequest>> nonEmpty = new TreeMap<>();
+        recordsByDate.forEach((date, records) -> {
+            if (records != null && !records.isEmpty()) {
+                nonEmpty.put(date, records);
             }
+        });
+        if (nonEmpty.isEmpty()) {
+            return;
         }
         
-        if (!invalidRoutines.isEmpty()) {
-            throw new DailyRecordValidationException(invalidRoutines);
-        }
+        DailyRecordContext context = DailyRecordContext.load(member.getId(), member, nonEmpty.values().stream()
+            .flatMap(List::stream)
+            .map(RoutineRecordRequest::getRoutineId)
+            .toList(), routineService);
+        
+        NavigableMap<LocalDate, List<RoutinePerformanceRequest>> enrichedByDate = new TreeMap<>();
+        nonEmpty.forEach((date, records) -> enrichedByDate.put(date, context.enrich(records)));
+        
+        createSnapshotsForDates(context, enrichedByDate);
+        dailyRoutineService.saveRoutineRecordsForDates(member.getId(), enrichedByDate);
+    }
+    
+    public void validateRoutineOwnership(List<Long> routineIds, Long memberId) {
+        openContext(memberId, routineIds);
+    }
+    
+    /**
+     * 저장 요청 1건의 회원/루틴 컨텍스트 (루틴 조회 + 소유권 검증 1회, 회원은 SELECT 없는 참조)
+     */
+    private DailyRecordContext openContext(Long memberId, Collection<Long> routineIds) {
+        MemberEntity member = memberRepository.getReferenceById(memberId);
+        return DailyRecordContext.load(memberId, member, routineIds, routineService);
     }
     
     public void validateDateModifiable(LocalDate date) {
-        LocalDate today = LocalDate.now();
-        if (date.isAfter(today)) {
+        if (!isDateModifiable(date)) {
             throw new BaseException(ErrorCode.DAILY_RECORD_FUTURE_DATE_NOT_ALLOWED);
         }
     }
     
-    private List<RoutinePerformanceRequest> enrichRoutineRecords(
-            List<RoutineRecordRequest> records, Long memberId) {
-        
-        MemberEntity member = memberRepository.findById(memberId)
-            .orElseThrow(() -> new BaseException(ErrorCode.MEMBER_NOT_FOUND));
-        
-        Set<Long> routineIds = records.stream()
-            .map(RoutineRecordRequest::getRoutineId)
-            .collect(Collectors.toSet());
-        
-        validateRoutineOwnership(new ArrayList<>(routineIds), memberId);
-        
-        Map<Long, RoutineEntity> routineMap = routineService.findAllByIds(routineIds)
-            .stream()
-            .collect(Collectors.toMap(RoutineEntity::getRoutineId, Function.identity()));
-        
-        return records.stream()
-            .map(record -> {
-                RoutineEntity routine = routineMap.get(record.getRoutineId());
-                return RoutinePerformanceRequest.of(routine, member, record.getPerformanceLevel());
-            })
-            .collect(Collectors.toList());
+    public boolean isDateModifiable(LocalDate date) {
+        return !date.isAfter(LocalDate.now(clock));
     }
-
+    
     /**
      * 기록되지 않은 루틴에 대해 미수행 스냅샷 생성 (모든 날짜 적용)
      */
-    private void createSnapshotForMissingRoutines(Long memberId, LocalDate date, 
+    private void createSnapshotForMissingRoutines(DailyRecordContext context, LocalDate date, 
                                                 List<RoutinePerformanceRequest> recordedRoutines) {
         
-        boolean hasExistingRecords = dailyRoutineRepository.existsByMemberIdAndPerformedDate(memberId, date);
+        boolean hasExistingRecords = dailyRoutineRepository.existsByMemberIdAndPerformedDate(context.memberId(), date);
         if (hasExistingRecords) {
             return;
         }
         
-        List<RoutineEntity> allUserRoutines = routineService.getUserRoutines(memberId);
         Set<Long> recordedRoutineIds = recordedRoutines.stream()
-                .map(r -> r.getRoutine().getRoutineId())
+                .map(RoutinePerformanceRequest::getRoutineId)
                 .collect(Collectors.toSet());
         
-        MemberEntity member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BaseException(ErrorCode.MEMBER_NOT_FOUND));
-        
-        List<DailyRoutineEntity> missingRoutineRecords = allUserRoutines.stream()
-                .filter(routine -> !recordedRoutineIds.contains(routine.getRoutineId()))
-                .map(routine -> DailyRoutineEntity.create(routine, member, PerformanceLevel.NOT_PERFORMED, date, 0))
+        List<DailyRoutineEntity> missingRoutineRecords = context.routinesExcept(recordedRoutineIds).stream()
+                .map(routine -> DailyRoutineEntity.create(
+                    routine, context.member(), PerformanceLevel.NOT_PERFORMED, date, 0))
                 .collect(Collectors.toList());
         
-        if (!missingRoutineRecords.isEmpty()) {
-            dailyRoutineRepository.saveAll(missingRoutineRecords);
+        dailyRoutineBulkRepository.insertAllIfAbsent(missingRoutineRecords);
+    }
+    
+    /**
+     * 기록이 없던 날짜들의 미수행 스냅샷을 한 번에 생성 (기존 기록 날짜 조회 1회 + batch insert 1회)
+     */
+    private void createSnapshotsForDates(DailyRecordContext context,
+                                         Map<LocalDate, List<RoutinePerformanceRequest>> recordsByDate) {
+        
+        Set<LocalDate> newDates = new HashSet<>(recordsByDate.keySet());
+        dailyRoutineRepository.findRecordedDates(context.memberId(), recordsByDate.keySet()).forEach(newDates::remove);
+        if (newDates.isEmpty()) {
+            return;
         }
+        
+        List<DailyRoutineEntity> missingRoutineRecords = new ArrayList<>();
+        for (LocalDate date : newDates) {
+            Set<Long> recordedRoutineIds = recordsByDate.get(date).stream()
+                .map(RoutinePerformanceRequest::getRoutineId)
+                .collect(Collectors.toSet());
+            context.routinesExcept(recordedRoutineIds).stream()
+                .map(routine -> DailyRoutineEntity.create(
+                    routine, context.member(), PerformanceLevel.NOT_PERFORMED, date, 0))
+                .forEach(missingRoutineRecords::add);
+        }
+        
+        dailyRoutineBulkRepository.insertAllIfAbsent(missingRoutineRecords);
     }
-}
\ No newline at end of file
+}
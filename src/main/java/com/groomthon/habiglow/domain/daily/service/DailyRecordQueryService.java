@@ -2,6 +2,7 @@ package com.groomthon.habiglow.domain.daily.service;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -11,11 +12,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.groomthon.habiglow.domain.daily.dto.response.DailyRecordResponse;
 import com.groomthon.habiglow.domain.daily.dto.response.MonthlyStatsResponse;
+import com.groomthon.habiglow.domain.daily.dto.response.RoutineRecordResponse;
+import com.groomthon.habiglow.domain.daily.dto.response.YearlyStatsResponse;
 import com.groomthon.habiglow.domain.daily.entity.DailyReflectionEntity;
 import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
-import com.groomthon.habiglow.domain.daily.repository.DailyRoutineRepository;
-import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
-import com.groomthon.habiglow.domain.routine.service.RoutineService;
+import com.groomthon.habiglow.domain.daily.repository.DailySummary;
+import com.groomthon.habiglow.domain.daily.repository.TodayRoutineViewRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,74 +28,108 @@ public class DailyRecordQueryService {
     
     private final DailyReflectionService reflectionService;
     private final DailyRoutineService dailyRoutineService;
-    private final RoutineService routineService;
-    private final DailyRoutineRepository dailyRoutineRepository;
+    private final TodayRoutineViewRepository todayRoutineViewRepository;
+    private final DailySummaryService dailySummaryService;
+    private final DailyRecordArchiveService archiveService;
     
     /**
-     * 과거 날짜 조회: 실제 저장된 기록만 반환
+     * 과거 날짜 조회: 실제 저장된 기록만 반환 (원본이 없으면 보관된 기록)
      */
     public DailyRecordResponse getDailyRecord(Long memberId, LocalDate date) {
         Optional<DailyReflectionEntity> reflection = reflectionService.getReflection(memberId, date);
         List<DailyRoutineEntity> routineRecords = dailyRoutineService.getTodayRoutines(memberId, date);
         
+        if (routineRecords.isEmpty()) {
+            List<RoutineRecordResponse> archived = archiveService.findArchivedRecords(memberId, date);
+            if (!archived.isEmpty()) {
+                return DailyRecordResponse.ofArchived(reflection.orElse(null), archived);
+            }
+        }
         return DailyRecordResponse.of(reflection.orElse(null), routineRecords);
     }
 
     /**
      * 당일 조회: 실제 기록 + 가상 미수행 기록 합쳐서 반환
+     * 루틴/기록은 엔티티 로딩 없이 한 번의 LEFT JOIN projection 으로 조회
      */
     public DailyRecordResponse getTodayRecord(Long memberId, LocalDate date) {
         Optional<DailyReflectionEntity> reflection = reflectionService.getReflection(memberId, date);
-        List<RoutineEntity> allUserRoutines = routineService.getUserRoutines(memberId);
-        List<DailyRoutineEntity> routineRecords = dailyRoutineService.getTodayRecordWithVirtual(memberId, date, allUserRoutines);
         
-        return DailyRecordResponse.of(reflection.orElse(null), routineRecords, allUserRoutines);
+        return DailyRecordResponse.of(reflection.orElse(null), todayRoutineViewRepository.findTodayView(memberId, date));
     }
     
     /**
      * 특정 월의 일별 루틴 성공률 통계 조회
      */
     public MonthlyStatsResponse getMonthlyStats(Long memberId, int year, int month) {
-        List<Object[]> rawStats = dailyRoutineRepository.findMonthlyStatsByMemberAndYearMonth(memberId, year, month);
-        
-        List<MonthlyStatsResponse.DailyStat> dailyStats = new ArrayList<>();
         YearMonth yearMonth = YearMonth.of(year, month);
-        int daysInMonth = yearMonth.lengthOfMonth();
+        return getMonthlyStats(memberId, yearMonth, yearMonth).get(0);
+    }
+
+    /**
+     * 연간(1~12월) 일별 루틴 성공률 통계 조회 (캘린더 뷰용, 쿼리 1회)
+     */
+    public YearlyStatsResponse getYearlyStats(Long memberId, int year) {
+        List<MonthlyStatsResponse> monthlyStats = getMonthlyStats(
+            memberId, YearMonth.of(year, 1), YearMonth.of(year, 12));
         
-        for (int day = 1; day <= daysInMonth; day++) {
-            boolean hasData = false;
-            for (Object[] raw : rawStats) {
-                LocalDate date = (LocalDate) raw[0];
-                if (date.getDayOfMonth() == day) {
-                    Long totalRoutines = (Long) raw[1];
-                    Long successfulRoutines = (Long) raw[2];
-                    double successRate = totalRoutines > 0 ? (double) successfulRoutines / totalRoutines * 100 : 0.0;
-                    
-                    dailyStats.add(MonthlyStatsResponse.DailyStat.builder()
-                        .day(day)
-                        .totalRoutines(totalRoutines.intValue())
-                        .successfulRoutines(successfulRoutines.intValue())
-                        .successRate(Math.round(successRate * 100.0) / 100.0)
-                        .build());
-                    hasData = true;
-                    break;
-                }
-            }
+        return YearlyStatsResponse.builder()
+            .year(year)
+            .monthlyStats(monthlyStats)
+            .build();
+    }
+
+    /**
+     * 여러 달의 일별 요약을 한 번의 날짜 범위 쿼리로 조회하고, 날짜 인덱스 배열에 한 번에 채워 월별로 나눔
+     */
+    private List<MonthlyStatsResponse> getMonthlyStats(Long memberId, YearMonth from, YearMonth to) {
+        LocalDate startDate = from.atDay(1);
+        LocalDate endDate = to.atEndOfMonth();
+        
+        DailySummary[] summariesByDay = new DailySummary[(int) ChronoUnit.DAYS.between(startDate, endDate) + 1];
+        for (DailySummary summary : dailySummaryService.getSummaries(memberId, startDate, endDate)) {
+            summariesByDay[(int) ChronoUnit.DAYS.between(startDate, summary.summaryDate())] = summary;
+        }
+        
+        List<MonthlyStatsResponse> monthlyStats = new ArrayList<>();
+        int offset = 0;
+        for (YearMonth yearMonth = from; !yearMonth.isAfter(to); yearMonth = yearMonth.plusMonths(1)) {
+            int daysInMonth = yearMonth.lengthOfMonth();
+            List<MonthlyStatsResponse.DailyStat> dailyStats = new ArrayList<>(daysInMonth);
             
-            if (!hasData) {
-                dailyStats.add(MonthlyStatsResponse.DailyStat.builder()
-                    .day(day)
-                    .totalRoutines(0)
-                    .successfulRoutines(0)
-                    .successRate(0.0)
-                    .build());
+            for (int day = 1; day <= daysInMonth; day++) {
+                dailyStats.add(toDailyStat(day, summariesByDay[offset++]));
             }
+            
+            monthlyStats.add(MonthlyStatsResponse.builder()
+                .year(yearMonth.getYear())
+                .month(yearMonth.getMonthValue())
+                .dailyStats(dailyStats)
+                .build());
         }
         
-        return MonthlyStatsResponse.builder()
-            .year(year)
-            .month(month)
-            .dailyStats(dailyStats)
+        return monthlyStats;
+    }
+
+    private MonthlyStatsResponse.DailyStat toDailyStat(int day, DailySummary summary) {
+        if (summary == null) {
+            return MonthlyStatsResponse.DailyStat.builder()
+                .day(day)
+                .totalRoutines(0)
+                .successfulRoutines(0)
+                .successRate(0.0)
+                .build();
+        }
+        
+        int totalRoutines = summary.totalCount();
+        int successfulRoutines = summary.fullSuccessCount();
+        double successRate = totalRoutines > 0 ? (double) successfulRoutines / totalRoutines * 100 : 0.0;
+        
+        return MonthlyStatsResponse.DailyStat.builder()
+            .day(day)
+            .totalRoutines(totalRoutines)
+            .successfulRoutines(successfulRoutines)
+            .successRate(Math.round(successRate * 100.0) / 100.0)
             .build();
     }
 }
\ No newline at end of file
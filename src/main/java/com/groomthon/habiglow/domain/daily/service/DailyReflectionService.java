@@ -1,11 +1,17 @@
 package com.groomthon.habiglow.domain.daily.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.groomthon.habiglow.domain.daily.dto.request.SaveDailyRecordRequest.ReflectionRequest;
 import com.groomthon.habiglow.domain.daily.entity.DailyReflectionEntity;
 import com.groomthon.habiglow.domain.daily.entity.EmotionType;
 import com.groomthon.habiglow.domain.daily.repository.DailyReflectionRepository;
@@ -43,6 +49,32 @@ public class DailyReflectionService {
         return reflectionRepository.save(entity);
     }
 
+    /**
+     * 여러 날짜의 회고 일괄 저장 (기존 회고 1회 조회, 신규 회고는 JDBC batch insert)
+     * 회원은 호출 측에서 조회한 엔티티를 그대로 사용
+     */
+    public void saveReflections(MemberEntity member, Map<LocalDate, ReflectionRequest> reflections) {
+        if (reflections.isEmpty()) {
+            return;
+        }
+
+        Map<LocalDate, DailyReflectionEntity> existing = reflectionRepository
+                .findByMemberIdAndReflectionDateIn(member.getId(), reflections.keySet())
+                .stream()
+                .collect(Collectors.toMap(DailyReflectionEntity::getReflectionDate, Function.identity()));
+
+        List<DailyReflectionEntity> created = new ArrayList<>();
+        reflections.forEach((date, request) -> {
+            DailyReflectionEntity entity = existing.get(date);
+            if (entity != null) {
+                entity.updateReflection(request.getContent(), request.getEmotion());
+            } else {
+                created.add(DailyReflectionEntity.create(member, request.getContent(), request.getEmotion(), date));
+            }
+        });
+        reflectionRepository.saveAll(created);
+    }
+
     @Transactional(readOnly = true)
     public Optional<DailyReflectionEntity> getReflection(Long memberId, LocalDate date) {
         return reflectionRepository.findByMemberIdAndReflectionDate(memberId, date);
@@ -19,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 public class DailyRoutineCleanupService {
     
     private final DailyRoutineRepository dailyRoutineRepository;
+    private final ConsecutiveDaysCache consecutiveDaysCache;
 
     /**
      * 특정 회원의 루틴 삭제 시 관련된 DailyRoutineEntity의 routine 참조를 null로 처리
@@ -28,6 +29,7 @@ public class DailyRoutineCleanupService {
      */
     public void nullifyRoutineReferenceForMember(Long routineId, Long memberId) {
         int updatedCount = dailyRoutineRepository.nullifyRoutineReferenceForMember(routineId, memberId);
+        consecutiveDaysCache.evictRoutine(routineId);
         
         log.info("Nullified routine reference for {} daily routine records for member {} after routine deletion: {}", 
                 updatedCount, memberId, routineId);
@@ -0,0 +1,151 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutinePartitionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * daily_routine_table 월 단위 파티션 관리
+ * 매일 이번 달부터 premake-months 뒤까지 파티션을 미리 만들고, retention-months 보다 오래된 파티션은 분리(detach) 또는 삭제(drop)
+ * 일별 요약(daily_summary)은 원본과 별도로 남고 요약 재구축에서도 보관 기간 이전 달은 지우지 않으므로, 분리/삭제된 달도 월별/주간 통계는 유지됨
+ */
+@Slf4j
+@Service
+public class DailyRoutinePartitionManager {
+
+    public enum RetentionAction { DETACH, DROP }
+
+    private final DailyRoutinePartitionRepository partitionRepository;
+    private final Clock clock;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final RetentionAction retentionAction;
+
+    public DailyRoutinePartitionManager(DailyRoutinePartitionRepository partitionRepository,
+                                        Clock clock,
+                                        @Value("${daily-routine.partition.premake-months:3}") int premakeMonths,
+                                        @Value("${daily-routine.partition.retention-months:0}") int retentionMonths,
+                                        @Value("${daily-routine.partition.retention-action:DETACH}")
+                                        RetentionAction retentionAction) {
+        this.partitionRepository = partitionRepository;
+        this.clock = clock;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.retentionAction = retentionAction;
+    }
+
+    /**
+     * 일반 테이블이면 파티션 테이블로 전환 (기존 기록의 첫 달부터 이번 달 + premake-months 까지 파티션 생성)
+     * @return 전환했으면 true, 이미 파티션 테이블이면 false
+     */
+    @Transactional
+    public boolean migrate() {
+        if (partitionRepository.isPartitioned()) {
+            return false;
+        }
+
+        YearMonth current = YearMonth.now(clock);
+        YearMonth first = partitionRepository.findMinPerformedDate()
+            .map(YearMonth::from)
+            .filter(month -> month.isBefore(current))
+            .orElse(current);
+
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(current.plusMonths(premakeMonths)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        partitionRepository.convertToPartitioned(months);
+
+        log.info("Converted daily_routine_table to monthly partitions ({} ~ {})", first, months.get(months.size() - 1));
+        return true;
+    }
+
+    @Scheduled(cron = "${daily-routine.partition.maintenance-cron:0 30 3 * * *}")
+    public void maintain() {
+        try {
+            if (!partitionRepository.isPartitioned()) {
+                return;
+            }
+            ensureFuturePartitions();
+            applyRetention();
+        } catch (DataAccessException e) {
+            log.warn("Failed to maintain daily_routine_table partitions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이번 달부터 premake-months 뒤까지 없는 파티션 생성
+     * 기본 파티션에 이미 해당 달 기록이 있으면 생성이 실패하므로, 달이 바뀌기 전에 미리 만들어 둠
+     * @return 새로 만든 파티션 수
+     */
+    public int ensureFuturePartitions() {
+        Map<YearMonth, String> existing = partitionRepository.findPartitions();
+        YearMonth current = YearMonth.now(clock);
+
+        int created = 0;
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.containsKey(month)) {
+                partitionRepository.createPartition(month);
+                created++;
+            }
+        }
+        if (created > 0) {
+            log.info("Created {} daily_routine_table partitions up to {}", created, current.plusMonths(premakeMonths));
+        }
+        return created;
+    }
+
+    /**
+     * 보관 기간 시작일 (이보다 이전 달의 파티션은 분리/삭제 대상, 보관 기간 제한이 없으면 빈 값)
+     */
+    public Optional<LocalDate> retentionCutoff() {
+        if (retentionMonths <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.now(clock).minusMonths(retentionMonths).atDay(1));
+    }
+
+    /**
+     * retention-months 보다 오래된 파티션 정리 (0 이하이면 보관 기간 제한 없음)
+     * @return 정리한 파티션 이름
+     */
+    public List<String> applyRetention() {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+
+        YearMonth cutoff = YearMonth.now(clock).minusMonths(retentionMonths);
+        List<String> removed = new ArrayList<>();
+        partitionRepository.findPartitions().forEach((month, name) -> {
+            if (!month.isBefore(cutoff)) {
+                return;
+            }
+            if (retentionAction == RetentionAction.DROP) {
+                partitionRepository.dropPartition(name);
+            } else {
+                partitionRepository.detachPartition(name);
+            }
+            removed.add(name);
+        });
+
+        if (!removed.isEmpty()) {
+            log.info("Applied daily_routine_table retention ({}): {}", retentionAction, removed);
+        }
+        return removed;
+    }
+}
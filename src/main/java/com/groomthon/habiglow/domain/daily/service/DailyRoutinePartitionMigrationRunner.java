@@ -0,0 +1,25 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기동 시 daily_routine_table 을 월 단위 파티션 테이블로 전환 (daily-routine.partition.migrate-on-startup=true 일 때만)
+ * 전체 기록을 복사하는 동안 테이블이 잠기므로 점검 시간에 1회성으로 실행, 이미 전환된 경우 아무것도 하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "daily-routine.partition.migrate-on-startup", havingValue = "true")
+public class DailyRoutinePartitionMigrationRunner implements ApplicationRunner {
+
+    private final DailyRoutinePartitionManager partitionManager;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        partitionManager.migrate();
+    }
+}
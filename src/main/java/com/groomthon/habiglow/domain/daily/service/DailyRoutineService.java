@@ -1,26 +1,34 @@
 package com.groomthon.habiglow.domain.daily.service;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.groomthon.habiglow.domain.daily.dto.request.RoutinePerformanceRequest;
 import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
 import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineBulkRepository;
 import com.groomthon.habiglow.domain.daily.repository.DailyRoutineRepository;
-import com.groomthon.habiglow.domain.member.entity.MemberEntity;
-import com.groomthon.habiglow.domain.member.repository.MemberRepository;
 import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
-import com.groomthon.habiglow.global.exception.BaseException;
-import com.groomthon.habiglow.global.response.ErrorCode;
+import com.groomthon.habiglow.domain.routine.event.RoutineCycleCountsChangedEvent;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -29,46 +37,142 @@ import lombok.RequiredArgsConstructor;
 public class DailyRoutineService {
 
     private final DailyRoutineRepository dailyRoutineRepository;
+    private final DailyRoutineBulkRepository dailyRoutineBulkRepository;
+    private final EntityManager entityManager;
     private final ConsecutiveDaysCalculator consecutiveDaysCalculator;
-    private final MemberRepository memberRepository;
+    private final ConsecutiveDaysCache consecutiveDaysCache;
+    private final ConsecutiveDaysRecalculator consecutiveDaysRecalculator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
+    /**
+     * 루틴 기록 일괄 저장 (upsert)
+     * 전날 연속 일수 조회(캐시 미스만 1회 쿼리) → 메모리에서 연속 일수 계산 → ID 블록 할당 + 네이티브 upsert batch → 저장 결과 1회 조회
+     * 과거 날짜인 경우 이후 기록의 연속 일수 재계산 (조회 1회 + 변경분 batch)
+     */
     public List<DailyRoutineEntity> saveRoutineRecords(Long memberId, LocalDate date,
                                                        List<RoutinePerformanceRequest> records) {
 
-        List<DailyRoutineEntity> entities = new ArrayList<>();
+        List<Long> routineIds = records.stream()
+            .map(RoutinePerformanceRequest::getRoutineId)
+            .distinct()
+            .toList();
+
+        Map<Long, Integer> yesterdayStreaks = consecutiveDaysCache
+            .getStreaks(memberId, date.minusDays(1), routineIds);
+
+        List<DailyRoutineEntity> rows = new ArrayList<>();
+        Set<Long> cycleUpdated = new LinkedHashSet<>();
 
         for (RoutinePerformanceRequest record : records) {
-            // 기존 기록 확인 (upsert 방식)
-            Optional<DailyRoutineEntity> existingRecord = dailyRoutineRepository
-                .findByRoutine_RoutineIdAndMemberIdAndPerformedDate(
-                    record.getRoutine().getRoutineId(), memberId, date);
-            
             int consecutiveDays = consecutiveDaysCalculator.calculate(
-                record.getRoutineId(), memberId, date, record.getPerformanceLevel());
+                record.getPerformanceLevel(), yesterdayStreaks.getOrDefault(record.getRoutineId(), 0));
             
             // 루틴의 성장 모드인 경우 성공/실패 카운트 업데이트
-            updateCycleDays(record.getRoutine(), record.getPerformanceLevel());
+            if (updateCycleDays(record.getRoutine(), record.getPerformanceLevel())) {
+                cycleUpdated.add(record.getRoutineId());
+            }
             
-            DailyRoutineEntity entity;
-            if (existingRecord.isPresent()) {
-                // 기존 기록 업데이트
-                entity = existingRecord.get();
-                entity.updatePerformance(record.getPerformanceLevel(), consecutiveDays);
-            } else {
-                // 새 기록 생성
-                entity = DailyRoutineEntity.create(
+            rows.add(DailyRoutineEntity.create(
+                    record.getRoutine(),
+                    record.getMember(),
+                    record.getPerformanceLevel(),
+                    date,
+                    consecutiveDays
+            ));
+        }
+
+        // 성장 설정 변경분을 먼저 반영하고, upsert 후에는 바뀐 기록만 1차 캐시에서 떼어내 DB 상태를 다시 읽음
+        entityManager.flush();
+        dailyRoutineBulkRepository.upsertAll(rows);
+        detachRecords(memberId, routineIds, date);
+        publishCycleCountsChanged(memberId, cycleUpdated);
+
+        // 과거 날짜 수정이면 이후 기록의 연속 일수도 맞춰 갱신
+        if (date.isBefore(LocalDate.now(clock))) {
+            consecutiveDaysRecalculator.recalculateAfter(memberId, routineIds, date);
+        }
+
+        Map<Long, DailyRoutineEntity> savedByRoutineId = dailyRoutineRepository
+            .findByMemberIdAndPerformedDateWithRoutine(memberId, date)
+            .stream()
+            .filter(r -> r.getRoutine() != null)
+            .collect(Collectors.toMap(r -> r.getRoutine().getRoutineId(), Function.identity()));
+
+        List<DailyRoutineEntity> saved = routineIds.stream()
+            .map(savedByRoutineId::get)
+            .filter(Objects::nonNull)
+            .toList();
+        consecutiveDaysCache.putAll(saved);
+        return saved;
+    }
+
+    /**
+     * 여러 날짜의 루틴 기록 일괄 저장 (오프라인 동기화)
+     * 첫 날짜 전날 연속 일수만 조회하고 이후는 날짜 순으로 메모리에서 이어 계산 → 전체 upsert batch 1회
+     * 요청에 없는 날짜의 기존 기록이 사이에 끼어 있을 수 있으므로, 첫 날짜 이후 연속 일수는 한 번 더 재계산
+     */
+    public void saveRoutineRecordsForDates(Long memberId,
+                                           NavigableMap<LocalDate, List<RoutinePerformanceRequest>> recordsByDate) {
+        if (recordsByDate.isEmpty()) {
+            return;
+        }
+
+        List<Long> routineIds = recordsByDate.values().stream()
+            .flatMap(List::stream)
+            .map(RoutinePerformanceRequest::getRoutineId)
+            .distinct()
+            .toList();
+
+        LocalDate firstDate = recordsByDate.firstKey();
+        Map<Long, Integer> seedStreaks = consecutiveDaysCache
+            .getStreaks(memberId, firstDate.minusDays(1), routineIds);
+
+        Map<Long, LocalDate> lastDates = new HashMap<>();
+        Map<Long, Integer> lastStreaks = new HashMap<>();
+        List<DailyRoutineEntity> rows = new ArrayList<>();
+        Set<Long> cycleUpdated = new LinkedHashSet<>();
+
+        recordsByDate.forEach((date, records) -> {
+            for (RoutinePerformanceRequest record : records) {
+                Long routineId = record.getRoutineId();
+                int previous;
+                if (date.minusDays(1).equals(lastDates.get(routineId))) {
+                    previous = lastStreaks.get(routineId);
+                } else {
+                    previous = date.equals(firstDate) ? seedStreaks.getOrDefault(routineId, 0) : 0;
+                }
+                int consecutiveDays = consecutiveDaysCalculator.calculate(record.getPerformanceLevel(), previous);
+
+                if (updateCycleDays(record.getRoutine(), record.getPerformanceLevel())) {
+                    cycleUpdated.add(routineId);
+                }
+
+                rows.add(DailyRoutineEntity.create(
                         record.getRoutine(),
                         record.getMember(),
                         record.getPerformanceLevel(),
                         date,
                         consecutiveDays
-                );
+                ));
+                lastDates.put(routineId, date);
+                lastStreaks.put(routineId, consecutiveDays);
             }
+        });
 
-            entities.add(entity);
-        }
+        entityManager.flush();
+        dailyRoutineBulkRepository.upsertAll(rows);
+        detachRecords(memberId, routineIds, firstDate);
+        publishCycleCountsChanged(memberId, cycleUpdated);
 
-        return dailyRoutineRepository.saveAll(entities);
+        for (DailyRoutineEntity row : rows) {
+            consecutiveDaysCache.put(row.getRoutine().getRoutineId(), memberId, row.getPerformedDate(),
+                row.getConsecutiveDays());
+        }
+        // 재계산에서 바뀐 값은 캐시에도 다시 반영됨
+        if (firstDate.isBefore(LocalDate.now(clock))) {
+            consecutiveDaysRecalculator.recalculateAfter(memberId, routineIds, firstDate);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -77,24 +181,37 @@ public class DailyRoutineService {
     }
 
     /**
-     * 당일 조회용: 실제 기록과 가상 미수행 기록을 합쳐서 반환
+     * JDBC upsert/연속 일수 재계산으로 DB 값이 바뀌었을 수 있는 기록(회원, 루틴, fromDate 이후)만 영속성 컨텍스트에서 분리
+     * 호출 측 트랜잭션의 다른 엔티티(루틴 등)는 그대로 관리 상태로 둠
      */
-    @Transactional(readOnly = true)
-    public List<DailyRoutineEntity> getTodayRecordWithVirtual(Long memberId, LocalDate date, 
-                                                             List<RoutineEntity> allUserRoutines) {
-        List<DailyRoutineEntity> actualRecords = dailyRoutineRepository
-            .findByMemberIdAndPerformedDateWithRoutine(memberId, date);
-        
-        return mergeActualAndVirtualRecords(allUserRoutines, actualRecords, memberId, date);
+    private void detachRecords(Long memberId, Collection<Long> routineIds, LocalDate fromDate) {
+        Session session = entityManager.unwrap(Session.class);
+        List<DailyRoutineEntity> stale = new ArrayList<>();
+        for (Object key : session.getStatistics().getEntityKeys()) {
+            EntityKey entityKey = (EntityKey) key;
+            if (!DailyRoutineEntity.class.getName().equals(entityKey.getEntityName())) {
+                continue;
+            }
+            // 이미 관리 중인 엔티티라 조회 쿼리 없이 1차 캐시에서 반환됨
+            DailyRoutineEntity record = entityManager.find(DailyRoutineEntity.class, entityKey.getIdentifier());
+            if (record.getRoutine() != null
+                && memberId.equals(record.getMember().getId())
+                && routineIds.contains(record.getRoutine().getRoutineId())
+                && !record.getPerformedDate().isBefore(fromDate)) {
+                stale.add(record);
+            }
+        }
+        stale.forEach(entityManager::detach);
     }
-    
+
     /**
      * 성장 모드 루틴의 성공/실패 카운트 업데이트
+     * @return 카운트를 바꿨으면 true (성장 모드가 아니면 false)
      */
-    private void updateCycleDays(RoutineEntity routine, PerformanceLevel performanceLevel) {
+    private boolean updateCycleDays(RoutineEntity routine, PerformanceLevel performanceLevel) {
         // 성장 모드가 아니면 업데이트하지 않음
         if (!routine.isGrowthModeEnabled()) {
-            return;
+            return false;
         }
         
         if (performanceLevel == PerformanceLevel.FULL_SUCCESS) {
@@ -112,40 +229,13 @@ public class DailyRoutineService {
                     .withResetSuccessCycle()
             );
         }
+        return true;
     }
 
-    /**
-     * 실제 기록과 가상 미수행 기록을 합치는 메서드
-     */
-    private List<DailyRoutineEntity> mergeActualAndVirtualRecords(
-            List<RoutineEntity> allUserRoutines, 
-            List<DailyRoutineEntity> actualRecords,
-            Long memberId, 
-            LocalDate date) {
-        
-        Set<Long> recordedRoutineIds = actualRecords.stream()
-                .map(record -> record.getRoutine() != null ? record.getRoutine().getRoutineId() : null)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        
-        MemberEntity member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BaseException(ErrorCode.MEMBER_NOT_FOUND));
-        
-        List<DailyRoutineEntity> virtualRecords = allUserRoutines.stream()
-                .filter(routine -> !recordedRoutineIds.contains(routine.getRoutineId()))
-                .map(routine -> createVirtualNotPerformedRecord(routine, member, date))
-                .collect(Collectors.toList());
-        
-        List<DailyRoutineEntity> completeRecords = new ArrayList<>(actualRecords);
-        completeRecords.addAll(virtualRecords);
-        
-        return completeRecords;
-    }
-
-    /**
-     * 가상 미수행 기록 생성
-     */
-    private DailyRoutineEntity createVirtualNotPerformedRecord(RoutineEntity routine, MemberEntity member, LocalDate date) {
-        return DailyRoutineEntity.create(routine, member, PerformanceLevel.NOT_PERFORMED, date, 0);
+    // 저장 1회당 한 번만 발행 (루틴 목록 캐시는 무효화하지 않고, 조정 대상만 다시 평가)
+    private void publishCycleCountsChanged(Long memberId, Set<Long> routineIds) {
+        if (!routineIds.isEmpty()) {
+            eventPublisher.publishEvent(RoutineCycleCountsChangedEvent.of(memberId, routineIds));
+        }
     }
-}
\ No newline at end of file
+}
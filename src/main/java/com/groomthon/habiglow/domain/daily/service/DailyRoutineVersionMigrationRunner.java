@@ -0,0 +1,25 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기동 시 기존 일일 기록을 routine_version 참조로 이관 (daily-routine.version.migrate-on-startup=true 일 때만)
+ * 스냅샷 버전 도입 전 기록이 있는 DB 에서 1회 실행, 연결 전 기록은 조회 시 스냅샷 값이 비어 있음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "daily-routine.version.migrate-on-startup", havingValue = "true")
+public class DailyRoutineVersionMigrationRunner implements ApplicationRunner {
+
+    private final DailyRoutineVersionMigrationService migrationService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrationService.migrate();
+    }
+}
@@ -0,0 +1,88 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineVersionMigrationRepository;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineVersionMigrationRepository.TableSize;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일일 기록 스냅샷 컬럼 -> routine_version 참조 이관
+ * 기록/루틴 연결은 한 트랜잭션으로 처리하고, drop-legacy-columns=true 면 스냅샷 컬럼을 지운 뒤 트랜잭션 밖에서 테이블을 다시 씀
+ * 전후 daily_routine_table 크기(테이블/인덱스)를 로그로 남김 (컬럼 삭제 없이 연결만 하면 UPDATE 로 오히려 커질 수 있음)
+ */
+@Slf4j
+@Service
+public class DailyRoutineVersionMigrationService {
+
+    private final DailyRoutineVersionMigrationRepository migrationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean dropLegacyColumns;
+
+    public DailyRoutineVersionMigrationService(DailyRoutineVersionMigrationRepository migrationRepository,
+                                               TransactionTemplate transactionTemplate,
+                                               EntityManagerFactory entityManagerFactory,
+                                               @Value("${daily-routine.version.drop-legacy-columns:false}")
+                                               boolean dropLegacyColumns) {
+        this.migrationRepository = migrationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.dropLegacyColumns = dropLegacyColumns;
+    }
+
+    /**
+     * 현재 버전이 없는 루틴만 버전에 연결 (기록은 건드리지 않으므로 기동 시마다 실행해도 가벼움)
+     * @return 연결된 루틴 수
+     */
+    public int linkRoutines() {
+        Integer routines = transactionTemplate.execute(status -> migrationRepository.linkRoutines());
+        if (routines != null && routines > 0) {
+            entityManagerFactory.getCache().evict(RoutineEntity.class);
+            log.info("Linked {} routines to routine versions", routines);
+        }
+        return routines != null ? routines : 0;
+    }
+
+    /**
+     * 버전이 없는 기록/루틴을 버전에 연결 (이미 이관된 행은 건너뛰므로 여러 번 실행해도 안전)
+     * @return 연결된 기록 행 수
+     */
+    public int migrate() {
+        TableSize before = migrationRepository.measureSize();
+        boolean hasLegacyColumns = migrationRepository.hasLegacyColumns();
+        boolean dropColumns = hasLegacyColumns && dropLegacyColumns;
+
+        Integer linked = transactionTemplate.execute(status -> {
+            int records = hasLegacyColumns ? migrationRepository.linkRecords() : 0;
+            int routines = migrationRepository.linkRoutines();
+            // 스냅샷 없이 저장된 기록(루틴 버전 연결 전 저장)은 루틴의 현재 버전으로
+            int unsnapshotted = migrationRepository.linkRecordsToRoutines();
+            if (dropColumns) {
+                migrationRepository.dropLegacyColumns();
+            }
+            log.info("Linked {} daily routine records ({} without snapshot) and {} routines to routine versions",
+                records + unsnapshotted, unsnapshotted, routines);
+            return records + unsnapshotted;
+        });
+        // 루틴 연결은 엔티티 매니저를 거치지 않으므로 2차 캐시의 루틴을 비움
+        entityManagerFactory.getCache().evict(RoutineEntity.class);
+
+        if (dropColumns) {
+            migrationRepository.rewriteTable();
+        }
+
+        TableSize after = migrationRepository.measureSize();
+        log.info("daily_routine_table size: table {} KB -> {} KB, indexes {} KB -> {} KB, total {} KB -> {} KB",
+            before.tableBytes() / 1024, after.tableBytes() / 1024,
+            before.indexBytes() / 1024, after.indexBytes() / 1024,
+            before.totalBytes() / 1024, after.totalBytes() / 1024);
+        return linked != null ? linked : 0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기동 시 daily_summary 재구축 (daily-summary.rebuild-on-startup=true 일 때만)
+ * 요약 테이블 최초 도입 시 기존 기록을 채우거나, 정합성이 깨졌을 때 1회성으로 실행
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "daily-summary.rebuild-on-startup", havingValue = "true")
+public class DailySummaryRebuildRunner implements ApplicationRunner {
+
+    private final DailySummaryService dailySummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        dailySummaryService.rebuildAll();
+    }
+}
@@ -0,0 +1,72 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.collect.Lists;
+import com.groomthon.habiglow.domain.daily.repository.DailySummary;
+import com.groomthon.habiglow.domain.daily.repository.DailySummaryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일별 요약(daily_summary) 읽기 모델 관리
+ * 기록 저장과 같은 트랜잭션에서 해당 날짜만 다시 집계하고, 대시보드/통계는 원본 기록 대신 요약을 읽음
+ */
+@Slf4j
+@Service
+@Transactional
+public class DailySummaryService {
+
+    private final DailySummaryRepository dailySummaryRepository;
+    private final DailyRoutinePartitionManager partitionManager;
+    private final int rebuildChunkSize;
+
+    public DailySummaryService(DailySummaryRepository dailySummaryRepository,
+                               DailyRoutinePartitionManager partitionManager,
+                               @Value("${daily-summary.rebuild-chunk-size:500}") int rebuildChunkSize) {
+        this.dailySummaryRepository = dailySummaryRepository;
+        this.partitionManager = partitionManager;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    /**
+     * 기록 저장 직후 호출 (JPA 변경분이 flush 된 상태여야 함)
+     */
+    public void refresh(Long memberId, LocalDate date) {
+        dailySummaryRepository.refresh(memberId, date);
+    }
+
+    public void refreshRange(Long memberId, LocalDate startDate, LocalDate endDate) {
+        dailySummaryRepository.refreshRange(memberId, startDate, endDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailySummary> getSummaries(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return dailySummaryRepository.findByMemberIdAndDateRange(memberId, startDate, endDate);
+    }
+
+    /**
+     * 전체 기록으로 요약 재구축 (회원 chunk 단위로 커밋해 긴 트랜잭션을 피함)
+     * 파티션 보관 기간이 지나 원본이 분리/삭제된 달의 요약은 원본이 없어도 삭제하지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        int orphans = dailySummaryRepository.deleteOrphans(partitionManager.retentionCutoff().orElse(null));
+        List<Long> memberIds = dailySummaryRepository.findMemberIdsWithRecords();
+
+        int rows = 0;
+        for (List<Long> chunk : Lists.partition(memberIds, rebuildChunkSize)) {
+            rows += dailySummaryRepository.rebuildMembers(chunk);
+        }
+
+        log.info("Rebuilt daily summaries: {} rows for {} members ({} orphan rows removed)",
+            rows, memberIds.size(), orphans);
+        return rows;
+    }
+}
@@ -0,0 +1,24 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기동 시 현재 버전이 없는 루틴(버전 도입 전 생성)을 항상 버전에 연결
+ * 연결 전에 저장되는 기록은 RoutineEntity.getOrCreateCurrentVersion 이 버전을 만들어 스냅샷이 비지 않음
+ * 이미 스냅샷 없이 저장된 기록은 daily-routine.version.migrate-on-startup 이관에서 루틴의 현재 버전으로 연결
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineVersionBackfillRunner implements ApplicationRunner {
+
+    private final DailyRoutineVersionMigrationService migrationService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrationService.linkRoutines();
+    }
+}
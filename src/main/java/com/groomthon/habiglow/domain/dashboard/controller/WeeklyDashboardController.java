@@ -2,6 +2,7 @@ package com.groomthon.habiglow.domain.dashboard.controller;
 
 import com.groomthon.habiglow.domain.dashboard.dto.WeeklyDashboardDto;
 import com.groomthon.habiglow.domain.dashboard.service.WeeklyDashboardService;
+import com.groomthon.habiglow.domain.member.service.MemberDataVersionService;
 import com.groomthon.habiglow.global.dto.CommonApiResponse;
 import com.groomthon.habiglow.global.response.ApiSuccessCode;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,21 +17,27 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 @RestController
 @RequestMapping("/api/dashboard/weekly")
 @RequiredArgsConstructor
 @Tag(name = "주간 대시보드 API", description = "주간 AI 인사이트 및 통계를 관리하는 API")
 public class WeeklyDashboardController {
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private final WeeklyDashboardService weeklyDashboardService;
+    private final MemberDataVersionService memberDataVersionService;
 
     @GetMapping("/stats")
     @Operation(
             operationId = "getWeeklyStats",
             summary = "주간 대시보드 집계 조회",
-            description = "상단 KPI, 감정 분포, 요일별 완료율, 네비게이션 정보를 반환합니다.",
+            description = "상단 KPI, 감정 분포, 요일별 완료율, 네비게이션 정보를 반환합니다. "
+                    + "If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.",
             security = @SecurityRequirement(name = "JWT")
     )
     @ApiResponses({
@@ -69,6 +76,7 @@ public class WeeklyDashboardController {
                             }
                     )
             ),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "400", description = "잘못된 파라미터"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
@@ -77,8 +85,14 @@ public class WeeklyDashboardController {
             @Parameter(description = "(임시) 사용자 ID. 추후 @AuthUser로 대체 예정")
             @RequestParam Long memberId,
             @Parameter(description = "주 시작일(월요일 기준). 예: 2025-08-25")
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart,
+            ServletWebRequest webRequest
     ) {
+        // 이번 주 미래 날짜 표시가 날짜에 따라 달라지므로 오늘 날짜도 ETag 에 포함
+        if (memberDataVersionService.checkNotModified(
+                webRequest, "weekly-stats", memberId, weekStart, LocalDate.now(KST))) {
+            return null;
+        }
         var dto = weeklyDashboardService.getView(memberId, weekStart);
         return CommonApiResponse.success(ApiSuccessCode.SUCCESS, dto);
     }
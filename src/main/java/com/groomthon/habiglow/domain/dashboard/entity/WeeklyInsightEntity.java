@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class WeeklyInsightEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weekly_insight_seq")
+    @SequenceGenerator(name = "weekly_insight_seq", sequenceName = "weekly_insight_seq", allocationSize = 50)
     private Long id;
 
     @Column(name="member_id", nullable=false)
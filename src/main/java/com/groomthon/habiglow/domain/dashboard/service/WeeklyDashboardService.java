@@ -3,13 +3,12 @@ package com.groomthon.habiglow.domain.dashboard.service;
 import com.groomthon.habiglow.domain.dashboard.dto.*;
 import com.groomthon.habiglow.domain.dashboard.util.WeeklyDummyDataGenerator;
 import com.groomthon.habiglow.domain.daily.entity.DailyReflectionEntity;
-import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
 import com.groomthon.habiglow.domain.daily.repository.DailyReflectionRepository;
-import com.groomthon.habiglow.domain.daily.repository.DailyRoutineRepository;
+import com.groomthon.habiglow.domain.daily.repository.DailySummary;
+import com.groomthon.habiglow.domain.daily.service.DailySummaryService;
 import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
-import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
-import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
-import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel; // 엔티티 패키지와 일치!
+import com.groomthon.habiglow.domain.routine.dto.response.RoutineResponse;
+import com.groomthon.habiglow.domain.routine.service.RoutineCatalogCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -28,8 +27,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class WeeklyDashboardService {
 
-    private final RoutineRepository routineRepository;
-    private final DailyRoutineRepository dailyRoutineRepository;
+    private final RoutineCatalogCache routineCatalogCache;
+    private final DailySummaryService dailySummaryService;
     private final DailyReflectionRepository dailyReflectionRepository;
 
     @Value("${spring.profiles.active:}")
@@ -59,7 +58,7 @@ public class WeeklyDashboardService {
         String label = weekMon.getMonthValue() + "월 " + ordinalOfWeekInMonth(weekMon) + "째 주";
 
         // 사용자 설정 루틴
-        List<RoutineEntity> myRoutines = routineRepository.findByMember_Id(memberId);
+        List<RoutineResponse> myRoutines = routineCatalogCache.getRoutines(memberId);
         int realTotalRoutines = myRoutines.size();
 
         // 지난 주 + dummy ON → 더미, 그 외 → 실데이터
@@ -68,33 +67,29 @@ public class WeeklyDashboardService {
         MetricsInfo metrics;
 
         if (!(dummyOn && isLastWeek)) {
-            // ===== 실데이터 경로 =====
-            List<DailyRoutineEntity> routineRecords =
-                    dailyRoutineRepository.findByMemberIdAndPerformedDateBetween(memberId, weekMon, weekSun);
+            // ===== 실데이터 경로 (일별 요약 7행) =====
+            Map<LocalDate, DailySummary> summaryByDate = dailySummaryService.getSummaries(memberId, weekMon, weekSun)
+                    .stream()
+                    .collect(Collectors.toMap(DailySummary::summaryDate, Function.identity()));
 
             List<DailyReflectionEntity> reflections =
                     dailyReflectionRepository.findByMemberIdAndReflectionDateBetweenOrderByReflectionDateAsc(
                             memberId, weekMon, weekSun);
 
-            var byDate = routineRecords.stream()
-                    .collect(Collectors.groupingBy(DailyRoutineEntity::getPerformedDate));
-
             var reflectionsByDate = reflections.stream()
                     .collect(Collectors.toMap(DailyReflectionEntity::getReflectionDate,
                             Function.identity(), (a, b) -> a, TreeMap::new));
 
             dailyCompletion = new ArrayList<>();
             int overallDone = 0, overallTotal = 0;
-            Map<RoutineCategory, int[]> catAgg = new EnumMap<>(RoutineCategory.class);
+            Map<String, int[]> catAgg = new TreeMap<>();
 
             for (int i = 0; i < 7; i++) {
                 LocalDate d = weekMon.plusDays(i);
-                List<DailyRoutineEntity> dayRecords = byDate.getOrDefault(d, List.of());
+                DailySummary summary = summaryByDate.get(d);
 
-                int done = (int) dayRecords.stream()
-                        .filter(r -> r.getPerformanceLevel() != PerformanceLevel.NOT_PERFORMED)
-                        .count();
-                int total = dayRecords.size();
+                int done = summary == null ? 0 : summary.doneCount();
+                int total = summary == null ? 0 : summary.totalCount();
                 double rate = total == 0 ? 0.0 : round1(100.0 * done / total);
                 boolean isFuture = isCurrentWeek && d.isAfter(LocalDate.now(KST));
 
@@ -114,13 +109,12 @@ public class WeeklyDashboardService {
                 overallDone += done;
                 overallTotal += total;
 
-                for (DailyRoutineEntity rec : dayRecords) {
-                    RoutineCategory cat = rec.getRoutineCategory();
-                    catAgg.computeIfAbsent(cat, k -> new int[2]);
-                    if (rec.getPerformanceLevel() != PerformanceLevel.NOT_PERFORMED) {
-                        catAgg.get(cat)[0] += 1; // done
-                    }
-                    catAgg.get(cat)[1] += 1;     // total
+                if (summary != null) {
+                    summary.categoryCounts().forEach((cat, count) -> {
+                        int[] agg = catAgg.computeIfAbsent(cat, k -> new int[2]);
+                        agg[0] += count.done();  // done
+                        agg[1] += count.total(); // total
+                    });
                 }
             }
 
@@ -134,7 +128,7 @@ public class WeeklyDashboardService {
 
             List<CategoryRate> categories = catAgg.entrySet().stream()
                     .map(e -> CategoryRate.builder()
-                            .code(e.getKey().name())
+                            .code(e.getKey())
                             .label(categoryLabel(e.getKey()))
                             .done(e.getValue()[0])
                             .total(e.getValue()[1])
@@ -158,7 +152,7 @@ public class WeeklyDashboardService {
 
             // 사용자의 카테고리 분포(없으면 라운드로빈으로 더미 분포 생성)
             Map<RoutineCategory, Long> routineCountByCat = myRoutines.stream()
-                    .collect(Collectors.groupingBy(RoutineEntity::getCategory, Collectors.counting()));
+                    .collect(Collectors.groupingBy(RoutineResponse::getCategory, Collectors.counting()));
             if (routineCountByCat.isEmpty()) {
                 routineCountByCat = new EnumMap<>(RoutineCategory.class);
                 RoutineCategory[] cats = RoutineCategory.values();
@@ -261,6 +255,11 @@ public class WeeklyDashboardService {
         return (desc != null && !desc.isBlank()) ? desc : c.name();
     }
 
+    // 요약의 카테고리 키 (RoutineCategory 이름 또는 UNCATEGORIZED)
+    private static String categoryLabel(String code) {
+        return DailySummary.UNCATEGORIZED.equals(code) ? "미분류" : categoryLabel(RoutineCategory.valueOf(code));
+    }
+
     private static Map<String, Integer> buildEmotionDistribution(List<DailyCompletionInfo> daily) {
         Map<String, Integer> dist = new LinkedHashMap<>();
         dist.put("LOW", 0);
@@ -6,11 +6,10 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.groomthon.habiglow.domain.dashboard.config.DashboardProperties;
 import com.groomthon.habiglow.domain.dashboard.dto.WeeklyAnalysisData;
 import com.groomthon.habiglow.domain.daily.repository.DailyReflectionRepository;
-import com.groomthon.habiglow.domain.daily.repository.DailyRoutineRepository;
+import com.groomthon.habiglow.domain.daily.repository.DailySummary;
+import com.groomthon.habiglow.domain.daily.service.DailySummaryService;
 import com.groomthon.habiglow.domain.daily.entity.DailyReflectionEntity;
-import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
 import com.groomthon.habiglow.domain.daily.entity.EmotionType;
-import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -20,14 +19,17 @@ import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class WeeklyDataCollector {
 
     private final DailyReflectionRepository reflectionRepository;
-    private final DailyRoutineRepository dailyRoutineRepository;
+    private final DailySummaryService dailySummaryService;
     private final DashboardProperties dashboardProperties;
 
     //  스프링이 구성한 ObjectMapper 주입 (JavaTimeModule 포함)
@@ -61,15 +63,15 @@ public class WeeklyDataCollector {
         // 실제 DB에서 데이터 수집
         LocalDate weekEnd = weekStart.plusDays(6);
         
-        List<DailyRoutineEntity> routineRecords = 
-            dailyRoutineRepository.findByMemberIdAndPerformedDateBetween(
-                memberId, weekStart, weekEnd);
+        Map<LocalDate, DailySummary> summaries = 
+            dailySummaryService.getSummaries(memberId, weekStart, weekEnd).stream()
+                .collect(Collectors.toMap(DailySummary::summaryDate, Function.identity()));
         
         List<DailyReflectionEntity> reflections = 
             reflectionRepository.findByMemberIdAndReflectionDateBetweenOrderByReflectionDateAsc(
                 memberId, weekStart, weekEnd);
 
-        return convertToWeeklyAnalysisData(routineRecords, reflections, weekStart, memberId);
+        return convertToWeeklyAnalysisData(summaries, reflections, weekStart, memberId);
     }
 
     /**
@@ -99,7 +101,7 @@ public class WeeklyDataCollector {
      * 실제 DB 데이터를 WeeklyAnalysisData로 변환
      */
     private WeeklyAnalysisData convertToWeeklyAnalysisData(
-        List<DailyRoutineEntity> routineRecords,
+        Map<LocalDate, DailySummary> summaries,
         List<DailyReflectionEntity> reflections, 
         LocalDate weekStart,
         Long memberId) {
@@ -111,10 +113,8 @@ public class WeeklyDataCollector {
         for (int i = 0; i < 7; i++) {
             LocalDate currentDate = weekStart.plusDays(i);
             
-            // 해당 날짜의 루틴 기록들
-            List<DailyRoutineEntity> dayRoutines = routineRecords.stream()
-                .filter(r -> r.getPerformedDate().equals(currentDate))
-                .toList();
+            // 해당 날짜의 루틴 기록 요약
+            DailySummary summary = summaries.get(currentDate);
             
             // 해당 날짜의 회고 기록
             Optional<DailyReflectionEntity> reflection = reflections.stream()
@@ -123,11 +123,8 @@ public class WeeklyDataCollector {
             
             // 성공 여부 계산 (NOT_PERFORMED가 아닌 것의 비율)
             Boolean success = null;
-            if (!dayRoutines.isEmpty()) {
-                long performedCount = dayRoutines.stream()
-                    .filter(r -> r.getPerformanceLevel() != PerformanceLevel.NOT_PERFORMED)
-                    .count();
-                success = performedCount > dayRoutines.size() / 2.0; // 과반수 이상 수행
+            if (summary != null && summary.totalCount() > 0) {
+                success = summary.doneCount() > summary.totalCount() / 2.0; // 과반수 이상 수행
             }
             
             // 감정 이모지 변환
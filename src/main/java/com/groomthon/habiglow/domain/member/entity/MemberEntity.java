@@ -6,10 +6,15 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
 import com.groomthon.habiglow.global.entity.BaseTimeEntity;
+import com.groomthon.habiglow.global.entity.EntityCacheRegions;
 import com.groomthon.habiglow.global.oauth2.entity.SocialType;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -34,6 +39,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.MEMBER)
 @Table(name = "member_table", indexes = {
 	@Index(name = "idx_member_email", columnList = "memberEmail"),
 	@Index(name = "idx_social_type_id", columnList = "socialType, socialId"),
@@ -64,6 +71,7 @@ public class MemberEntity extends BaseTimeEntity {
 	@Column(nullable = true)
 	private String profileImageUrl;
 
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.MEMBER_INTERESTS)
 	@OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
 	@Builder.Default
 	private Set<MemberInterest> interests = new HashSet<>();
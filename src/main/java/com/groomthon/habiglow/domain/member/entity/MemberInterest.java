@@ -1,8 +1,13 @@
 package com.groomthon.habiglow.domain.member.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
 import com.groomthon.habiglow.global.entity.BaseTimeEntity;
+import com.groomthon.habiglow.global.entity.EntityCacheRegions;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -23,6 +28,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.MEMBER_INTEREST)
 @Table(name = "member_interest")
 @IdClass(MemberInterestId.class)
 public class MemberInterest extends BaseTimeEntity {
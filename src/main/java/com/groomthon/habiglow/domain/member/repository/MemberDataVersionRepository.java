@@ -0,0 +1,41 @@
+package com.groomthon.habiglow.domain.member.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원별 데이터 버전 (member_data_version, JdbcTemplate)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberDataVersionRepository {
+
+	private static final String INCREMENT_SQL = """
+		INSERT INTO member_data_version (member_id, version, updated_at)
+		VALUES (?, 1, now())
+		ON CONFLICT (member_id) DO UPDATE SET
+			version = member_data_version.version + 1,
+			updated_at = now()
+		""";
+
+	private static final String FIND_VERSION_SQL =
+		"SELECT version FROM member_data_version WHERE member_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void increment(Long memberId) {
+		jdbcTemplate.update(INCREMENT_SQL, memberId);
+	}
+
+	/**
+	 * 한 번도 변경되지 않은 회원은 0
+	 */
+	public long findVersion(Long memberId) {
+		List<Long> versions = jdbcTemplate.queryForList(FIND_VERSION_SQL, Long.class, memberId);
+		return versions.isEmpty() ? 0L : versions.get(0);
+	}
+}
@@ -0,0 +1,58 @@
+package com.groomthon.habiglow.domain.member.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.groomthon.habiglow.domain.member.repository.MemberDataVersionRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원별 데이터 버전 기반 조건부 GET (ETag / If-None-Match)
+ * 기록·회고·루틴이 바뀌는 트랜잭션에서 bump 하고, 조회 API 는 무거운 조회 전에 버전만 읽어 304 여부를 판단
+ * 적중률은 http.conditional-get{endpoint, result=hit|miss} 로 노출
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberDataVersionService {
+
+	static final String METRIC_NAME = "http.conditional-get";
+
+	// 응답은 저장하되 매번 ETag 로 재검증 (Spring Security 기본값 no-store 대체)
+	private static final String CACHE_CONTROL = "private, no-cache";
+
+	private final MemberDataVersionRepository memberDataVersionRepository;
+	private final MeterRegistry meterRegistry;
+
+	@Transactional
+	public void bump(Long memberId) {
+		memberDataVersionRepository.increment(memberId);
+	}
+
+	/**
+	 * 현재 버전으로 ETag 를 설정하고, 요청의 If-None-Match 와 같으면 304 응답으로 표시
+	 * 버전을 데이터보다 먼저 읽으므로, 그 사이 변경이 커밋되면 다음 요청에서 불일치로 다시 조회됨
+	 *
+	 * @param scope 응답을 구분하는 값 (조회 날짜 등, 버전이 같아도 값이 다르면 다른 ETag)
+	 * @return true 면 호출 측은 본문 없이 null 반환
+	 */
+	public boolean checkNotModified(ServletWebRequest request, String endpoint, Long memberId, Object... scope) {
+		long version = memberDataVersionRepository.findVersion(memberId);
+
+		StringBuilder etag = new StringBuilder(endpoint).append('-').append(memberId).append('-').append(version);
+		for (Object value : scope) {
+			etag.append('-').append(value);
+		}
+
+		if (request.getResponse() != null) {
+			request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+		}
+		boolean notModified = request.checkNotModified(etag.toString());
+		meterRegistry.counter(METRIC_NAME, "endpoint", endpoint, "result", notModified ? "hit" : "miss").increment();
+		return notModified;
+	}
+}
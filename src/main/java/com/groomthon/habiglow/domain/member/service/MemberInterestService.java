@@ -11,6 +11,7 @@ import com.groomthon.habiglow.domain.member.entity.MemberInterest;
 import com.groomthon.habiglow.domain.member.repository.MemberRepository;
 import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
 import com.groomthon.habiglow.global.exception.BaseException;
+import com.groomthon.habiglow.global.invalidation.EntityCacheInvalidationHandler;
 import com.groomthon.habiglow.global.response.ErrorCode;
 
 import jakarta.persistence.EntityManager;
@@ -25,6 +26,7 @@ public class MemberInterestService {
 	
 	private final MemberRepository memberRepository;
 	private final EntityManager entityManager;
+	private final EntityCacheInvalidationHandler entityCacheInvalidationHandler;
 	
 	@Transactional
 	public void updateInterests(Long memberId, List<RoutineCategory> newCategories) {
@@ -47,6 +49,11 @@ public class MemberInterestService {
 		});
 		
 		entityManager.flush();
+
+		// 일괄 DELETE/persist 는 회원의 관심사 컬렉션을 거치지 않으므로 2차 캐시의 컬렉션 항목을 직접 제거 (커밋 이후)
+		// 이 인스턴스의 MemberInterest 엔티티 리전은 일괄 DELETE 시 Hibernate 가 비우지만, 다른 인스턴스에는 컬렉션 키만 전달됨
+		// (복합 키 엔티티 항목은 남아 있다가 리전 TTL 로 만료, 관심사 조회는 컬렉션을 거치므로 다시 DB 에서 읽음)
+		entityCacheInvalidationHandler.evictCollection(MemberEntity.class.getName() + ".interests", memberId);
 		
 		log.info("회원 관심사 업데이트 완료: memberId={}, interests={}", 
 			memberId, newCategories);
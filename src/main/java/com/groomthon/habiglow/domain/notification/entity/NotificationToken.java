@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @Getter @Setter
 public class NotificationToken {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_token_seq")
+    @SequenceGenerator(name = "notification_token_seq", sequenceName = "notification_token_seq", allocationSize = 50)
     private Long id;
 
     @Column(name="user_id", nullable=false)
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
 import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
 import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.repository.RoutineAdaptationCandidate;
 import com.groomthon.habiglow.domain.routine.common.TargetType;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -72,4 +73,21 @@ public class GrowthReadyRoutineResponse {
                 .lastPerformedDate(lastRecord != null ? lastRecord.getPerformedDate() : null)
                 .build();
     }
+
+    public static GrowthReadyRoutineResponse from(RoutineAdaptationCandidate candidate) {
+        return GrowthReadyRoutineResponse.builder()
+                .routineId(candidate.routineId())
+                .title(candidate.title())
+                .category(candidate.category())
+                .targetType(candidate.targetType())
+                .currentTarget(candidate.currentTarget())
+                .nextTarget(candidate.suggestedTarget())
+                .increment(candidate.targetIncrement())
+                .completedCycleDays(candidate.growthCycleDays())
+                .consecutiveDays(candidate.consecutiveDays() != null ? candidate.consecutiveDays() : 0)
+                .currentCycleDays(candidate.currentCycleDays())
+                .failureCycleDays(candidate.failureCycleDays())
+                .lastPerformedDate(candidate.lastPerformedDate())
+                .build();
+    }
 }
\ No newline at end of file
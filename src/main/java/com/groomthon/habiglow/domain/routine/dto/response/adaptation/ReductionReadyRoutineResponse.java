@@ -3,6 +3,7 @@ package com.groomthon.habiglow.domain.routine.dto.response.adaptation;
 import java.time.LocalDate;
 
 import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.repository.RoutineAdaptationCandidate;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -33,4 +34,16 @@ public class ReductionReadyRoutineResponse {
 			.lastAttemptDate(lastAttemptDate)
 			.build();
 	}
+
+	public static ReductionReadyRoutineResponse from(RoutineAdaptationCandidate candidate) {
+		return ReductionReadyRoutineResponse.builder()
+			.routineId(candidate.routineId())
+			.title(candidate.title())
+			.currentTargetValue(candidate.currentTarget())
+			.suggestedTargetValue(candidate.suggestedTarget())
+			.currentCycleDays(candidate.currentCycleDays())
+			.failureCycleDays(candidate.failureCycleDays())
+			.lastAttemptDate(candidate.lastPerformedDate())
+			.build();
+	}
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.groomthon.habiglow.domain.routine.entity;
 
 import java.time.LocalDate;
+import java.util.Objects;
 
 import com.groomthon.habiglow.domain.routine.common.TargetType;
 
@@ -89,6 +90,18 @@ public class GrowthConfiguration {
         return failureCycleDays >= growthCycleDays;
     }
 
+    /**
+     * 기록 스냅샷에 남는 설정(성장 모드, 목표, 주기, 증가량)이 같은지 확인 (주기 카운트는 비교하지 않음)
+     */
+    public boolean hasSameTarget(GrowthConfiguration other) {
+        return other != null
+            && Objects.equals(isGrowthMode, other.isGrowthMode)
+            && targetType == other.targetType
+            && Objects.equals(targetValue, other.targetValue)
+            && Objects.equals(growthCycleDays, other.growthCycleDays)
+            && Objects.equals(targetIncrement, other.targetIncrement);
+    }
+
     // 데이터 업데이트 메서드 (비즈니스 로직 없는 단순 setter)
     public GrowthConfiguration withUpdatedTarget(Integer newTargetValue) {
         return this.toBuilder()
@@ -1,10 +1,16 @@
 package com.groomthon.habiglow.domain.routine.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.groomthon.habiglow.domain.member.entity.MemberEntity;
 import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
 import com.groomthon.habiglow.domain.routine.common.TargetType;
 import com.groomthon.habiglow.global.entity.BaseTimeEntity;
+import com.groomthon.habiglow.global.entity.EntityCacheRegions;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
@@ -15,6 +21,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,6 +34,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.ROUTINE)
 @Table(name = "routine_table", indexes = {
     @Index(name = "idx_routine_member", columnList = "member_id"),
     @Index(name = "idx_routine_category", columnList = "category")
@@ -34,7 +43,8 @@ import lombok.NoArgsConstructor;
 public class RoutineEntity extends BaseTimeEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "routine_seq")
+    @SequenceGenerator(name = "routine_seq", sequenceName = "routine_seq", allocationSize = 50)
     @Column(name = "routine_id")
     private Long routineId;
     
@@ -48,11 +58,19 @@ public class RoutineEntity extends BaseTimeEntity {
     @Embedded
     private GrowthConfiguration growthConfiguration;
     
+    // 일일 기록이 참조할 현재 스냅샷 (스냅샷 대상 값이 바뀔 때만 새 버전으로 교체, flush 시 함께 저장)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "current_version_id")
+    private RoutineVersionEntity currentVersion;
+    
     /**
      * 루틴 정보 업데이트 (제목 제외)
      */
     public void updateRoutine(String description, RoutineCategory category, Boolean isGrowthMode,
                              TargetType targetType, Integer targetValue, Integer growthCycleDays, Integer targetIncrement) {
+        RoutineCategory previousCategory = getCategory();
+        GrowthConfiguration previousConfiguration = this.growthConfiguration;
+        
         // 기본 정보 업데이트
         this.details = this.details.updateDetails(description, category);
         
@@ -62,6 +80,10 @@ public class RoutineEntity extends BaseTimeEntity {
         } else {
             this.growthConfiguration = GrowthConfiguration.disabled();
         }
+        
+        if (previousCategory != getCategory() || !previousConfiguration.hasSameTarget(this.growthConfiguration)) {
+            renewVersion();
+        }
     }
     
     /**
@@ -98,11 +120,13 @@ public class RoutineEntity extends BaseTimeEntity {
             ? GrowthConfiguration.of(targetType, targetValue, growthCycleDays, targetIncrement)
             : GrowthConfiguration.disabled();
             
-        return RoutineEntity.builder()
+        RoutineEntity routine = RoutineEntity.builder()
                 .member(member)
                 .details(details)
                 .growthConfiguration(growthConfiguration)
                 .build();
+        routine.renewVersion();
+        return routine;
     }
 
     public String getTitle() {
@@ -149,6 +173,27 @@ public class RoutineEntity extends BaseTimeEntity {
      * GrowthConfiguration 업데이트 메서드
      */
     public void updateGrowthConfiguration(GrowthConfiguration newConfig) {
+        boolean targetChanged = !this.growthConfiguration.hasSameTarget(newConfig);
         this.growthConfiguration = newConfig;
+        
+        // 매일 바뀌는 주기 카운트만 갱신된 경우는 버전 유지
+        if (targetChanged) {
+            renewVersion();
+        }
+    }
+    
+    /**
+     * 기록 스냅샷으로 쓸 현재 버전 (버전 도입 전에 만들어져 아직 연결되지 않은 루틴이면 현재 설정으로 새로 만듦)
+     * 새 버전은 루틴의 cascade 로 flush 시 저장됨
+     */
+    public RoutineVersionEntity getOrCreateCurrentVersion() {
+        if (currentVersion == null) {
+            renewVersion();
+        }
+        return currentVersion;
+    }
+    
+    private void renewVersion() {
+        this.currentVersion = RoutineVersionEntity.of(this);
     }
 }
\ No newline at end of file
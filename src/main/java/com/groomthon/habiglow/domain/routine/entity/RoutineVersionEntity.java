@@ -0,0 +1,78 @@
+package com.groomthon.habiglow.domain.routine.entity;
+
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.common.TargetType;
+import com.groomthon.habiglow.global.entity.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기록 시점의 루틴 스냅샷 (불변)
+ * 제목/카테고리/성장 설정이 바뀔 때만 새 버전을 만들고, 일일 기록은 스냅샷 컬럼 대신 버전 ID 만 참조
+ * 루틴이 삭제되어도 기록이 참조하므로 루틴과 함께 지우지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Table(name = "routine_version")
+public class RoutineVersionEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "routine_version_seq")
+    @SequenceGenerator(name = "routine_version_seq", sequenceName = "routine_version_seq", allocationSize = 50)
+    @Column(name = "version_id")
+    private Long versionId;
+
+    @Column(name = "title", length = 100)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category")
+    private RoutineCategory category;
+
+    @Column(name = "is_growth_mode")
+    private Boolean isGrowthMode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type")
+    private TargetType targetType;
+
+    @Column(name = "target_value")
+    private Integer targetValue;
+
+    @Column(name = "growth_cycle_days")
+    private Integer growthCycleDays;
+
+    @Column(name = "target_increment")
+    private Integer targetIncrement;
+
+    /**
+     * 루틴의 현재 설정으로 새 버전 생성
+     */
+    public static RoutineVersionEntity of(RoutineEntity routine) {
+        return RoutineVersionEntity.builder()
+                .title(routine.getTitle())
+                .category(routine.getCategory())
+                .isGrowthMode(routine.getIsGrowthMode())
+                .targetType(routine.getTargetType())
+                .targetValue(routine.getTargetValue())
+                .growthCycleDays(routine.getGrowthCycleDays())
+                .targetIncrement(routine.getTargetIncrement())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.groomthon.habiglow.domain.routine.event;
+
+/**
+ * 회원의 루틴 조회 결과를 바꾸는 이벤트 (생성/수정/목표 변경/삭제)
+ */
+public interface RoutineChangeEvent {
+
+    Long getRoutineId();
+
+    Long getMemberId();
+}
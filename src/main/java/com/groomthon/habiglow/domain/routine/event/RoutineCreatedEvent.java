@@ -14,7 +14,7 @@ import lombok.Getter;
  */
 @Getter
 @AllArgsConstructor
-public class RoutineCreatedEvent {
+public class RoutineCreatedEvent implements RoutineChangeEvent {
     
     private final Long routineId;
     private final String routineTitle;
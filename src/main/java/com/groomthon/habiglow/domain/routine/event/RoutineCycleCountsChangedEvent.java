@@ -0,0 +1,25 @@
+package com.groomthon.habiglow.domain.routine.event;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기록 저장에 따른 성장 주기 카운트 변경 이벤트 (저장 1회당 회원별 1번 발행)
+ * 루틴 정의는 바뀌지 않으므로 RoutineChangeEvent 가 아니며, 루틴 목록 캐시는 무효화하지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class RoutineCycleCountsChangedEvent {
+
+    private final Long memberId;
+    private final List<Long> routineIds;
+    private final LocalDateTime occurredAt;
+
+    public static RoutineCycleCountsChangedEvent of(Long memberId, Collection<Long> routineIds) {
+        return new RoutineCycleCountsChangedEvent(memberId, List.copyOf(routineIds), LocalDateTime.now());
+    }
+}
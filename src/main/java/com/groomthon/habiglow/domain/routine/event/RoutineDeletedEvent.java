@@ -13,7 +13,7 @@ import lombok.Getter;
  */
 @Getter
 @AllArgsConstructor
-public class RoutineDeletedEvent {
+public class RoutineDeletedEvent implements RoutineChangeEvent {
     
     private final Long routineId;
     private final String routineTitle;
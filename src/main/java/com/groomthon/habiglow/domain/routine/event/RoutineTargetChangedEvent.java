@@ -9,7 +9,7 @@ import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
-public class RoutineTargetChangedEvent {
+public class RoutineTargetChangedEvent implements RoutineChangeEvent {
     
     private final Long routineId;
     private final String routineTitle;
@@ -0,0 +1,24 @@
+package com.groomthon.habiglow.domain.routine.event;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 루틴 수정 이벤트
+ * 루틴 정보 수정, 주기 초기화 시 발생 (기록 저장에 따른 주기 카운트 변경은 RoutineCycleCountsChangedEvent)
+ */
+@Getter
+@AllArgsConstructor
+public class RoutineUpdatedEvent implements RoutineChangeEvent {
+    
+    private final Long routineId;
+    private final String routineTitle;
+    private final Long memberId;
+    private final LocalDateTime occurredAt;
+    
+    public static RoutineUpdatedEvent of(Long routineId, String routineTitle, Long memberId) {
+        return new RoutineUpdatedEvent(routineId, routineTitle, memberId, LocalDateTime.now());
+    }
+}
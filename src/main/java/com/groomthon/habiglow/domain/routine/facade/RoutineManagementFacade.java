@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.member.service.MemberDataVersionService;
 import com.groomthon.habiglow.domain.routine.dto.request.CreateRoutineRequest;
 import com.groomthon.habiglow.domain.routine.dto.request.UpdateRoutineRequest;
 import com.groomthon.habiglow.domain.routine.dto.response.RoutineResponse;
@@ -28,6 +29,7 @@ public class RoutineManagementFacade {
     private final GrowthAnalysisService growthAnalysisService;
     private final ReductionAnalysisService reductionAnalysisService;
     private final GrowthConfigurationService growthConfigurationService;
+    private final MemberDataVersionService memberDataVersionService;
 
     // ==================== LIFECYCLE MANAGEMENT ====================
 
@@ -42,6 +44,7 @@ public class RoutineManagementFacade {
         helper.handleGrowthModeLogging(savedRoutine, memberId);
         
         helper.publishRoutineCreatedEvent(savedRoutine, memberId);
+        memberDataVersionService.bump(memberId);
         
         log.info("Created routine: {} for member: {}", savedRoutine.getRoutineId(), memberId);
         return RoutineResponse.from(savedRoutine);
@@ -66,6 +69,8 @@ public class RoutineManagementFacade {
         );
         
         helper.handleGrowthModeChange(routine, wasGrowthEnabled, memberId);
+        helper.publishRoutineUpdatedEvent(routine, memberId);
+        memberDataVersionService.bump(memberId);
         
         log.info("Updated routine: {} for member: {}", routineId, memberId);
         return RoutineResponse.from(routine);
@@ -80,6 +85,7 @@ public class RoutineManagementFacade {
         helper.handleDeletionLogging(routine, memberId);
         
         helper.deleteRoutine(routine);
+        memberDataVersionService.bump(memberId);
     }
 
     // ==================== OPTIMIZATION MANAGEMENT ====================
@@ -90,6 +96,7 @@ public class RoutineManagementFacade {
     @Transactional
     public RoutineAdaptationResultResponse executeRoutineAdaptation(Long memberId, Long routineId, AdaptationAction action) {
         RoutineEntity routine = helper.findRoutineByIdAndMemberId(routineId, memberId);
+        memberDataVersionService.bump(memberId);
         
         return switch (action) {
             case INCREASE -> executeGrowthAdaptation(routine, memberId);
@@ -140,6 +147,7 @@ public class RoutineManagementFacade {
                 .withResetSuccessCycle()
                 .withResetFailureCycle()
         );
+        helper.publishRoutineUpdatedEvent(routine, memberId);
         
         log.info("Both cycles reset for routine: {} by member: {}, previous success: {}, failure: {}",
             routine.getRoutineId(), memberId, previousSuccessDays, previousFailureDays);
@@ -12,6 +12,7 @@ import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
 import com.groomthon.habiglow.domain.routine.event.RoutineCreatedEvent;
 import com.groomthon.habiglow.domain.routine.event.RoutineDeletedEvent;
 import com.groomthon.habiglow.domain.routine.event.RoutineTargetChangedEvent;
+import com.groomthon.habiglow.domain.routine.event.RoutineUpdatedEvent;
 import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
 import com.groomthon.habiglow.domain.routine.service.RoutineValidationService;
 import com.groomthon.habiglow.global.exception.BaseException;
@@ -86,6 +87,13 @@ class RoutineManagementHelper {
         eventPublisher.publishEvent(event);
     }
 
+    void publishRoutineUpdatedEvent(RoutineEntity routine, Long memberId) {
+        RoutineUpdatedEvent event = RoutineUpdatedEvent.of(
+            routine.getRoutineId(), routine.getTitle(), memberId
+        );
+        eventPublisher.publishEvent(event);
+    }
+
     void publishTargetChangedEvent(RoutineEntity routine, Long memberId, 
                                   Integer previousTarget, Integer newTarget, AdaptationAction action) {
         RoutineTargetChangedEvent event = RoutineTargetChangedEvent.of(
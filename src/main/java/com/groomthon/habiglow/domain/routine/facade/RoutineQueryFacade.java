@@ -8,10 +8,9 @@ import org.springframework.transaction.annotation.Transactional;
 import com.groomthon.habiglow.domain.routine.dto.response.RoutineListResponse;
 import com.groomthon.habiglow.domain.routine.dto.response.RoutineResponse;
 import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
-import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.service.RoutineCatalogCache;
 import com.groomthon.habiglow.global.exception.BaseException;
 import com.groomthon.habiglow.global.response.ErrorCode;
-import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 루틴 조회 관련 복잡한 로직을 처리하는 Facade
  * 단순 조회부터 복잡한 필터링까지 통합 관리
+ * 회원별 루틴 목록 캐시에서 읽고, 카테고리/단건 조회는 캐시된 목록에서 필터링
  */
 @Slf4j
 @Component
@@ -26,16 +26,13 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class RoutineQueryFacade {
     
-    private final RoutineRepository routineRepository;
+    private final RoutineCatalogCache routineCatalogCache;
 
     /**
      * 사용자의 모든 루틴 조회
      */
     public RoutineListResponse getMyRoutines(Long memberId) {
-        List<RoutineResponse> routines = routineRepository.findByMember_Id(memberId)
-                .stream()
-                .map(RoutineResponse::from)
-                .toList();
+        List<RoutineResponse> routines = routineCatalogCache.getRoutines(memberId);
         
         log.debug("Retrieved {} routines for member: {}", routines.size(), memberId);
         return RoutineListResponse.of(routines);
@@ -45,9 +42,9 @@ public class RoutineQueryFacade {
      * 카테고리별 루틴 조회
      */
     public RoutineListResponse getMyRoutinesByCategory(Long memberId, RoutineCategory category) {
-        List<RoutineResponse> routines = routineRepository.findByMember_IdAndDetails_Category(memberId, category)
+        List<RoutineResponse> routines = routineCatalogCache.getRoutines(memberId)
                 .stream()
-                .map(RoutineResponse::from)
+                .filter(routine -> routine.getCategory() == category)
                 .toList();
         
         log.debug("Retrieved {} routines in category {} for member: {}", 
@@ -59,11 +56,14 @@ public class RoutineQueryFacade {
      * 특정 루틴 상세 조회
      */
     public RoutineResponse getRoutineById(Long memberId, Long routineId) {
-        RoutineEntity routine = routineRepository.findByRoutineIdAndMember_Id(routineId, memberId)
+        RoutineResponse routine = routineCatalogCache.getRoutines(memberId)
+                .stream()
+                .filter(candidate -> candidate.getRoutineId().equals(routineId))
+                .findFirst()
                 .orElseThrow(() -> new BaseException(ErrorCode.ROUTINE_NOT_FOUND));
         
         log.debug("Retrieved routine: {} for member: {}", routineId, memberId);
-        return RoutineResponse.from(routine);
+        return routine;
     }
 
 }
\ No newline at end of file
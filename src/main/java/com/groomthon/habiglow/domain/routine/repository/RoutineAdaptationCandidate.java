@@ -0,0 +1,50 @@
+package com.groomthon.habiglow.domain.routine.repository;
+
+import java.time.LocalDate;
+
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.common.TargetType;
+import com.groomthon.habiglow.domain.routine.dto.response.adaptation.AdaptationType;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+
+/**
+ * 목표 조정 대상 루틴 1개 (routine_adaptation_candidate 한 행)
+ * 평가 시점의 루틴 설정/주기 카운트를 그대로 담아 조회 시 루틴/기록을 다시 읽지 않음
+ * type 은 GROWTH 또는 REDUCTION, lastPerformedDate/consecutiveDays 는 성장 대상의 어제 성공 기록 값
+ */
+public record RoutineAdaptationCandidate(
+    Long routineId,
+    Long memberId,
+    AdaptationType type,
+    String title,
+    RoutineCategory category,
+    TargetType targetType,
+    Integer currentTarget,
+    Integer suggestedTarget,
+    Integer targetIncrement,
+    Integer growthCycleDays,
+    Integer consecutiveDays,
+    Integer currentCycleDays,
+    Integer failureCycleDays,
+    LocalDate lastPerformedDate) {
+
+    public static RoutineAdaptationCandidate growth(RoutineEntity routine, Integer nextTarget,
+                                                    DailyRoutineEntity lastRecord) {
+        return new RoutineAdaptationCandidate(
+            routine.getRoutineId(), routine.getMember().getId(), AdaptationType.GROWTH,
+            routine.getTitle(), routine.getCategory(), routine.getTargetType(),
+            routine.getTargetValue(), nextTarget, routine.getTargetIncrement(), routine.getGrowthCycleDays(),
+            lastRecord != null ? lastRecord.getConsecutiveDays() : 0,
+            routine.getCurrentCycleDays(), routine.getGrowthConfiguration().getFailureCycleDays(),
+            lastRecord != null ? lastRecord.getPerformedDate() : null);
+    }
+
+    public static RoutineAdaptationCandidate reduction(RoutineEntity routine, Integer suggestedTarget) {
+        return new RoutineAdaptationCandidate(
+            routine.getRoutineId(), routine.getMember().getId(), AdaptationType.REDUCTION,
+            routine.getTitle(), routine.getCategory(), routine.getTargetType(),
+            routine.getTargetValue(), suggestedTarget, routine.getTargetIncrement(), routine.getGrowthCycleDays(),
+            null, routine.getCurrentCycleDays(), routine.getGrowthConfiguration().getFailureCycleDays(), null);
+    }
+}
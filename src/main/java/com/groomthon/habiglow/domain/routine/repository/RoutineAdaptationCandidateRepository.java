@@ -0,0 +1,166 @@
+package com.groomthon.habiglow.domain.routine.repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.common.TargetType;
+import com.groomthon.habiglow.domain.routine.dto.response.adaptation.AdaptationType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목표 조정 대상(routine_adaptation_candidate) 조회/갱신 (JdbcTemplate)
+ * 행은 루틴당 하나이고, 같은 루틴을 여러 번 저장하면 마지막 평가 결과로 덮어씀
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoutineAdaptationCandidateRepository {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO routine_adaptation_candidate (
+            routine_id, member_id, adaptation_type, title, category, target_type, current_target, suggested_target,
+            target_increment, growth_cycle_days, consecutive_days, current_cycle_days, failure_cycle_days,
+            last_performed_date, evaluated_for, evaluated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now())
+        ON CONFLICT (routine_id) DO UPDATE SET
+            member_id = EXCLUDED.member_id,
+            adaptation_type = EXCLUDED.adaptation_type,
+            title = EXCLUDED.title,
+            category = EXCLUDED.category,
+            target_type = EXCLUDED.target_type,
+            current_target = EXCLUDED.current_target,
+            suggested_target = EXCLUDED.suggested_target,
+            target_increment = EXCLUDED.target_increment,
+            growth_cycle_days = EXCLUDED.growth_cycle_days,
+            consecutive_days = EXCLUDED.consecutive_days,
+            current_cycle_days = EXCLUDED.current_cycle_days,
+            failure_cycle_days = EXCLUDED.failure_cycle_days,
+            last_performed_date = EXCLUDED.last_performed_date,
+            evaluated_for = EXCLUDED.evaluated_for,
+            evaluated_at = EXCLUDED.evaluated_at
+        """;
+
+    private static final String FIND_BY_MEMBER_SQL = """
+        SELECT routine_id, member_id, adaptation_type, title, category, target_type, current_target,
+            suggested_target, target_increment, growth_cycle_days, consecutive_days, current_cycle_days,
+            failure_cycle_days, last_performed_date
+        FROM routine_adaptation_candidate
+        WHERE member_id = ? AND evaluated_for = ?
+        ORDER BY routine_id
+        """;
+
+    private static final String DELETE_ROUTINES_SQL =
+        "DELETE FROM routine_adaptation_candidate WHERE routine_id = ANY(?)";
+
+    private static final String DELETE_EVALUATED_BEFORE_SQL =
+        "DELETE FROM routine_adaptation_candidate WHERE evaluated_for < ?";
+
+    private static final String MARK_REFRESHED_SQL = """
+        INSERT INTO routine_adaptation_refresh (evaluated_for, completed_at) VALUES (?, now())
+        ON CONFLICT (evaluated_for) DO UPDATE SET completed_at = EXCLUDED.completed_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 회원의 조정 대상 중 기준일에 평가된 행 (member_id, evaluated_for 인덱스 조회 1회)
+     */
+    public List<RoutineAdaptationCandidate> findByMember(Long memberId, LocalDate evaluatedFor) {
+        return jdbcTemplate.query(FIND_BY_MEMBER_SQL, (rs, rowNum) -> toCandidate(rs), memberId, evaluatedFor);
+    }
+
+    /**
+     * 평가한 루틴들의 결과 반영 (대상은 upsert batch, 대상이 아닌 루틴의 기존 행은 한 번에 삭제)
+     */
+    public void saveEvaluation(Collection<Long> evaluatedRoutineIds, List<RoutineAdaptationCandidate> candidates,
+                               LocalDate evaluatedFor) {
+        Set<Long> candidateIds = candidates.stream()
+            .map(RoutineAdaptationCandidate::routineId)
+            .collect(Collectors.toSet());
+        List<Long> notCandidates = evaluatedRoutineIds.stream()
+            .filter(routineId -> !candidateIds.contains(routineId))
+            .toList();
+        deleteRoutines(notCandidates);
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, candidates, candidates.size(), (ps, candidate) -> {
+            ps.setLong(1, candidate.routineId());
+            ps.setLong(2, candidate.memberId());
+            ps.setString(3, candidate.type().name());
+            ps.setString(4, candidate.title());
+            ps.setString(5, candidate.category() != null ? candidate.category().name() : null);
+            ps.setString(6, candidate.targetType() != null ? candidate.targetType().name() : null);
+            ps.setObject(7, candidate.currentTarget(), Types.INTEGER);
+            ps.setObject(8, candidate.suggestedTarget(), Types.INTEGER);
+            ps.setObject(9, candidate.targetIncrement(), Types.INTEGER);
+            ps.setObject(10, candidate.growthCycleDays(), Types.INTEGER);
+            ps.setObject(11, candidate.consecutiveDays(), Types.INTEGER);
+            ps.setObject(12, candidate.currentCycleDays(), Types.INTEGER);
+            ps.setObject(13, candidate.failureCycleDays(), Types.INTEGER);
+            ps.setObject(14, candidate.lastPerformedDate() != null ? Date.valueOf(candidate.lastPerformedDate()) : null,
+                Types.DATE);
+            ps.setDate(15, Date.valueOf(evaluatedFor));
+        });
+    }
+
+    public void deleteRoutines(Collection<Long> routineIds) {
+        if (!routineIds.isEmpty()) {
+            jdbcTemplate.update(DELETE_ROUTINES_SQL, (Object) routineIds.toArray(new Long[0]));
+        }
+    }
+
+    /**
+     * 기준일 이전에 평가된 행 삭제 (전체 재평가에서 다시 평가되지 않은 삭제/성장 모드 해제 루틴의 행)
+     * @return 삭제된 행 수
+     */
+    public int deleteEvaluatedBefore(LocalDate evaluatedFor) {
+        return jdbcTemplate.update(DELETE_EVALUATED_BEFORE_SQL, evaluatedFor);
+    }
+
+    /**
+     * 기준일 전체 재평가 완료 기록 (이전 날짜 기록은 삭제)
+     */
+    public void markRefreshed(LocalDate evaluatedFor) {
+        jdbcTemplate.update(MARK_REFRESHED_SQL, evaluatedFor);
+        jdbcTemplate.update("DELETE FROM routine_adaptation_refresh WHERE evaluated_for < ?", evaluatedFor);
+    }
+
+    public boolean isRefreshed(LocalDate evaluatedFor) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM routine_adaptation_refresh WHERE evaluated_for = ?)", Boolean.class,
+            evaluatedFor));
+    }
+
+    private RoutineAdaptationCandidate toCandidate(ResultSet rs) throws SQLException {
+        String category = rs.getString("category");
+        String targetType = rs.getString("target_type");
+        return new RoutineAdaptationCandidate(
+            rs.getLong("routine_id"),
+            rs.getLong("member_id"),
+            AdaptationType.valueOf(rs.getString("adaptation_type")),
+            rs.getString("title"),
+            category != null ? RoutineCategory.valueOf(category) : null,
+            targetType != null ? TargetType.valueOf(targetType) : null,
+            rs.getObject("current_target", Integer.class),
+            rs.getObject("suggested_target", Integer.class),
+            rs.getObject("target_increment", Integer.class),
+            rs.getObject("growth_cycle_days", Integer.class),
+            rs.getObject("consecutive_days", Integer.class),
+            rs.getObject("current_cycle_days", Integer.class),
+            rs.getObject("failure_cycle_days", Integer.class),
+            rs.getObject("last_performed_date", LocalDate.class));
+    }
+}
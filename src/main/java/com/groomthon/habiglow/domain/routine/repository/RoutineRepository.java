@@ -1,16 +1,22 @@
 package com.groomthon.habiglow.domain.routine.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
 import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface RoutineRepository extends JpaRepository<RoutineEntity, Long> {
     
@@ -20,6 +26,25 @@ public interface RoutineRepository extends JpaRepository<RoutineEntity, Long> {
     
     Optional<RoutineEntity> findByRoutineIdAndMember_Id(Long routineId, Long memberId);
     
+    @Query("SELECT r FROM RoutineEntity r WHERE r.routineId IN :routineIds AND r.member.id = :memberId")
+    List<RoutineEntity> findAllByIdsAndMemberId(@Param("routineIds") Collection<Long> routineIds,
+                                                @Param("memberId") Long memberId);
+    
+    @Query("SELECT r.routineId FROM RoutineEntity r WHERE r.routineId IN :routineIds")
+    List<Long> findExistingIds(@Param("routineIds") Collection<Long> routineIds);
+    
+    @Query("SELECT r FROM RoutineEntity r WHERE r.member.id = :memberId AND r.routineId NOT IN :routineIds")
+    List<RoutineEntity> findByMemberIdExcluding(@Param("memberId") Long memberId,
+                                                @Param("routineIds") Collection<Long> routineIds);
+    
     @Query("SELECT r FROM RoutineEntity r WHERE r.member.id = :memberId AND r.growthConfiguration.isGrowthMode = true")
     List<RoutineEntity> findGrowthEnabledRoutinesByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 전체 회원의 성장 모드 루틴을 ID 순으로 afterId 다음부터 조회 (일괄 재평가용, 2차 캐시에는 넣지 않음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    @Query("SELECT r FROM RoutineEntity r WHERE r.growthConfiguration.isGrowthMode = true AND r.routineId > :afterId "
+        + "ORDER BY r.routineId")
+    List<RoutineEntity> findGrowthEnabledRoutinesAfter(@Param("afterId") Long afterId, Limit limit);
 }
\ No newline at end of file
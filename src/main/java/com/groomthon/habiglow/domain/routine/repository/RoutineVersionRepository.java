@@ -0,0 +1,10 @@
+package com.groomthon.habiglow.domain.routine.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.groomthon.habiglow.domain.routine.entity.RoutineVersionEntity;
+
+@Repository
+public interface RoutineVersionRepository extends JpaRepository<RoutineVersionEntity, Long> {
+}
@@ -0,0 +1,23 @@
+package com.groomthon.habiglow.domain.routine.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기동 시 오늘 기준 전체 재평가가 없으면 재평가 (최초 배포, 자정 재평가를 놓친 경우)
+ * 재평가가 끝나기 전까지 조회는 실시간 분석으로 대신함
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineAdaptationCandidateRebuildRunner implements ApplicationRunner {
+
+    private final RoutineAdaptationCandidateService candidateService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        candidateService.refreshIfMissing();
+    }
+}
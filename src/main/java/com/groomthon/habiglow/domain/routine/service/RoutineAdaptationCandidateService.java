@@ -0,0 +1,249 @@
+package com.groomthon.habiglow.domain.routine.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.event.RoutineChangeEvent;
+import com.groomthon.habiglow.domain.routine.event.RoutineCycleCountsChangedEvent;
+import com.groomthon.habiglow.domain.routine.repository.RoutineAdaptationCandidate;
+import com.groomthon.habiglow.domain.routine.repository.RoutineAdaptationCandidateRepository;
+import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
+import com.groomthon.habiglow.domain.routine.service.strategy.GrowthStrategy;
+import com.groomthon.habiglow.domain.routine.service.strategy.ReductionStrategy;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 루틴 목표 조정(성장/감소) 대상을 미리 평가해 routine_adaptation_candidate 에 저장
+ * 성장 대상은 어제 완전 성공 기록이 필요해 날짜가 바뀌면 결과가 달라지므로 매일 자정 이후 전체를 청크 단위로 재평가하고,
+ * 낮 동안에는 루틴 변경/주기 카운트 변경 이벤트가 난 루틴만 같은 트랜잭션 커밋 직전에 재평가
+ * 한 루틴이 성장과 감소 조건을 모두 만족하면 성장 대상으로만 저장
+ * 기준일은 주입된 Clock(한국 시간) 기준이라 cron 과 같은 날짜를 씀
+ */
+@Slf4j
+@Service
+public class RoutineAdaptationCandidateService {
+
+    private final RoutineDataAccessService routineDataAccessService;
+    private final RoutineRepository routineRepository;
+    private final RoutineAdaptationCandidateRepository candidateRepository;
+    private final GrowthStrategy growthStrategy;
+    private final ReductionStrategy reductionStrategy;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Clock clock;
+    private final int chunkSize;
+    private volatile LocalDate refreshedDate;
+
+    public RoutineAdaptationCandidateService(RoutineDataAccessService routineDataAccessService,
+                                             RoutineRepository routineRepository,
+                                             RoutineAdaptationCandidateRepository candidateRepository,
+                                             GrowthStrategy growthStrategy,
+                                             ReductionStrategy reductionStrategy,
+                                             TransactionTemplate transactionTemplate,
+                                             EntityManager entityManager,
+                                             Clock clock,
+                                             @Value("${routine-adaptation.chunk-size:500}") int chunkSize) {
+        this.routineDataAccessService = routineDataAccessService;
+        this.routineRepository = routineRepository;
+        this.candidateRepository = candidateRepository;
+        this.growthStrategy = growthStrategy;
+        this.reductionStrategy = reductionStrategy;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.clock = clock;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    /**
+     * 오늘 기준으로 평가된 회원의 조정 대상 (인덱스 조회 1회)
+     * 오늘 전체 재평가가 아직 끝나지 않았으면 (자정 직후, 최초 배포) 빈 값을 반환하므로 호출 측에서 실시간 분석으로 대신함
+     */
+    public Optional<List<RoutineAdaptationCandidate>> findCandidates(Long memberId) {
+        LocalDate today = LocalDate.now(clock);
+        if (!isRefreshed(today)) {
+            return Optional.empty();
+        }
+        return Optional.of(candidateRepository.findByMember(memberId, today));
+    }
+
+    @Scheduled(cron = "${routine-adaptation.cron:0 5 0 * * *}", zone = "Asia/Seoul")
+    public void scheduledRefresh() {
+        refreshAll();
+    }
+
+    /**
+     * 오늘 전체 재평가가 끝나지 않았을 때만 재평가 (기동 시 실행)
+     */
+    public void refreshIfMissing() {
+        if (!isRefreshed(LocalDate.now(clock))) {
+            refreshAll();
+        }
+    }
+
+    /**
+     * 전체 성장 모드 루틴을 routine_id 순 청크(청크마다 트랜잭션 1개)로 재평가한 뒤, 다시 평가되지 않은 이전 날짜 행 삭제
+     * @return 평가한 루틴 수
+     */
+    public int refreshAll() {
+        LocalDate today = LocalDate.now(clock);
+        long afterId = 0L;
+        int evaluated = 0;
+
+        while (true) {
+            long lastId = afterId;
+            List<Long> chunk = transactionTemplate.execute(status -> {
+                List<RoutineEntity> routines = routineDataAccessService.findGrowthEnabledRoutinesAfter(lastId, chunkSize);
+                return evaluate(routines, today);
+            });
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            evaluated += chunk.size();
+            afterId = chunk.get(chunk.size() - 1);
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        int stale = candidateRepository.deleteEvaluatedBefore(today);
+        candidateRepository.markRefreshed(today);
+        refreshedDate = today;
+        log.info("Refreshed adaptation candidates for {}: {} growth routines evaluated ({} stale rows removed)",
+            today, evaluated, stale);
+        return evaluated;
+    }
+
+    /**
+     * 주어진 루틴만 다시 평가 (호출 측 트랜잭션 안에서 실행, 삭제되었거나 성장 모드가 아닌 루틴은 대상에서 제외)
+     */
+    public void refreshRoutines(Collection<Long> routineIds) {
+        if (routineIds.isEmpty()) {
+            return;
+        }
+        List<RoutineEntity> routines = routineRepository.findAllById(routineIds).stream()
+            .filter(RoutineEntity::isGrowthModeEnabled)
+            .toList();
+        List<Long> evaluated = evaluate(routines, LocalDate.now(clock));
+
+        Set<Long> excluded = new LinkedHashSet<>(routineIds);
+        evaluated.forEach(excluded::remove);
+        candidateRepository.deleteRoutines(excluded);
+    }
+
+    /**
+     * 루틴이 바뀐 트랜잭션의 커밋 직전에 바뀐 루틴을 한 번에 재평가 (같은 트랜잭션에서 여러 번 바뀌어도 1회)
+     * 트랜잭션 밖에서 발행되면 바로 재평가
+     */
+    @EventListener
+    public void onRoutineChanged(RoutineChangeEvent event) {
+        if (event.getRoutineId() != null) {
+            scheduleRefresh(List.of(event.getRoutineId()));
+        }
+    }
+
+    /**
+     * 기록 저장으로 성장 주기 카운트가 바뀐 루틴 재평가 (루틴 변경과 같은 방식)
+     */
+    @EventListener
+    public void onCycleCountsChanged(RoutineCycleCountsChangedEvent event) {
+        scheduleRefresh(event.getRoutineIds());
+    }
+
+    private void scheduleRefresh(Collection<Long> routineIds) {
+        if (routineIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> refreshRoutines(routineIds));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (changed == null) {
+            Set<Long> created = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (readOnly) {
+                        return;
+                    }
+                    // 커밋 시점 flush 보다 먼저 실행되므로 변경분을 먼저 반영한 뒤 조회
+                    entityManager.flush();
+                    refreshRoutines(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RoutineAdaptationCandidateService.this);
+                }
+            });
+            changed = created;
+        }
+        changed.addAll(routineIds);
+    }
+
+    // 재평가 완료를 한 번 확인한 날짜는 다시 조회하지 않음 (다른 인스턴스가 완료한 경우 포함)
+    private boolean isRefreshed(LocalDate today) {
+        if (today.equals(refreshedDate)) {
+            return true;
+        }
+        if (candidateRepository.isRefreshed(today)) {
+            refreshedDate = today;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 루틴들의 어제 성공 기록을 한 번에 조회해 평가하고 결과 저장
+     * @return 평가한 루틴 ID (routine_id 순서 유지)
+     */
+    private List<Long> evaluate(List<RoutineEntity> routines, LocalDate today) {
+        if (routines.isEmpty()) {
+            return List.of();
+        }
+        List<Long> routineIds = routines.stream()
+            .map(RoutineEntity::getRoutineId)
+            .toList();
+        Map<Long, DailyRoutineEntity> yesterdaySuccess =
+            routineDataAccessService.getSuccessRecords(routineIds, today.minusDays(1));
+
+        List<RoutineAdaptationCandidate> candidates = new ArrayList<>();
+        for (RoutineEntity routine : routines) {
+            DailyRoutineEntity lastRecord = yesterdaySuccess.get(routine.getRoutineId());
+            List<DailyRoutineEntity> records = lastRecord != null ? List.of(lastRecord) : List.of();
+            if (growthStrategy.canAdapt(routine) && growthStrategy.isAdaptationCycleCompleted(routine, records)) {
+                candidates.add(RoutineAdaptationCandidate.growth(
+                    routine, growthStrategy.calculateNewTargetValue(routine), lastRecord));
+            } else if (reductionStrategy.canAdapt(routine)
+                && reductionStrategy.isAdaptationCycleCompleted(routine, List.of())) {
+                candidates.add(RoutineAdaptationCandidate.reduction(
+                    routine, reductionStrategy.calculateNewTargetValue(routine)));
+            }
+        }
+
+        candidateRepository.saveEvaluation(routineIds, candidates, today);
+        return routineIds;
+    }
+}
@@ -0,0 +1,156 @@
+package com.groomthon.habiglow.domain.routine.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groomthon.habiglow.domain.routine.dto.response.RoutineResponse;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.event.RoutineChangeEvent;
+import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationHandler;
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationPublisher;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 회원별 루틴 목록 캐시 (인스턴스 로컬)
+ * 값은 변경 불가 목록이라 읽는 쪽끼리 같은 스냅샷을 공유하고, 루틴 이벤트 커밋 후 회원 단위로 무효화
+ * 추정 메모리(문자열 길이 기반) 가중치로 크기를 제한하고, 적중률은 cache.* {cache=routine.catalog},
+ * 추정 메모리는 routine.catalog.memory 로 노출
+ * 다른 인스턴스의 캐시는 무효화 메시지(회원 ID)로 비움
+ * 성장 주기 카운트는 기록 저장마다 바뀌므로 캐시된 값을 쓰지 않고 조회 시 루틴 엔티티(2차 캐시)에서 채움
+ */
+@Component
+public class RoutineCatalogCache implements CacheInvalidationHandler {
+
+    static final String CACHE_NAME = "routine.catalog";
+    static final String MEMORY_METRIC = "routine.catalog.memory";
+
+    // 목록/키 객체와 루틴 1개(필드, 날짜, 박싱 값)의 대략적인 고정 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int ROUTINE_OVERHEAD_BYTES = 256;
+
+    private final RoutineRepository routineRepository;
+    private final EntityManager entityManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Cache<Long, List<RoutineResponse>> catalogs;
+
+    public RoutineCatalogCache(RoutineRepository routineRepository,
+                               EntityManager entityManager,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${routine-catalog.maximum-size:32MB}") DataSize maximumSize,
+                               @Value("${routine-catalog.ttl:PT30M}") Duration ttl) {
+        this.routineRepository = routineRepository;
+        this.entityManager = entityManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.catalogs = Caffeine.newBuilder()
+            .maximumWeight(maximumSize.toBytes())
+            .weigher((Long memberId, List<RoutineResponse> routines) -> weigh(routines))
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, catalogs, CACHE_NAME);
+        Gauge.builder(MEMORY_METRIC, catalogs,
+                cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+            .description("Estimated heap used by cached routine catalogs")
+            .baseUnit(BaseUnits.BYTES)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 전체 루틴 (없으면 한 번 조회해 저장, 같은 회원의 동시 조회는 한 번만 실행)
+     * 성장 모드 루틴이 없으면 캐시된 목록을 그대로 반환
+     */
+    public List<RoutineResponse> getRoutines(Long memberId) {
+        List<RoutineResponse> routines = catalogs.get(memberId, id -> routineRepository.findByMember_Id(id).stream()
+            .map(RoutineResponse::from)
+            .toList());
+        return withCurrentCycleCounts(routines);
+    }
+
+    public void evict(Long memberId) {
+        catalogs.invalidate(memberId);
+    }
+
+    // 커밋 전에 지우면 그 사이 다른 요청이 변경 전 값을 다시 채울 수 있으므로 커밋 후 무효화 (트랜잭션 밖이면 즉시)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoutineChanged(RoutineChangeEvent event) {
+        evict(event.getMemberId());
+    }
+
+    // 다른 인스턴스에는 변경 트랜잭션 안에서 발행해 커밋 시점에 전달
+    @EventListener
+    public void publishRoutineChanged(RoutineChangeEvent event) {
+        invalidationPublisher.publish(CACHE_NAME, event.getMemberId());
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(String key) {
+        evict(Long.valueOf(key));
+    }
+
+    @Override
+    public void invalidateAll() {
+        catalogs.invalidateAll();
+    }
+
+    // 성장 모드 루틴만 현재 엔티티로 다시 만듦 (2차 캐시/영속성 컨텍스트에 없는 루틴만 한 번에 조회)
+    private List<RoutineResponse> withCurrentCycleCounts(List<RoutineResponse> routines) {
+        List<Long> growthRoutineIds = routines.stream()
+            .filter(routine -> Boolean.TRUE.equals(routine.getIsGrowthMode()))
+            .map(RoutineResponse::getRoutineId)
+            .toList();
+        if (growthRoutineIds.isEmpty()) {
+            return routines;
+        }
+
+        Map<Long, RoutineEntity> current = entityManager.unwrap(Session.class)
+            .byMultipleIds(RoutineEntity.class)
+            .enableSessionCheck(true)
+            .multiLoad(growthRoutineIds)
+            .stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toMap(RoutineEntity::getRoutineId, Function.identity()));
+        return routines.stream()
+            .map(routine -> current.containsKey(routine.getRoutineId())
+                ? RoutineResponse.from(current.get(routine.getRoutineId()))
+                : routine)
+            .toList();
+    }
+
+    private static int weigh(List<RoutineResponse> routines) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        for (RoutineResponse routine : routines) {
+            bytes += ROUTINE_OVERHEAD_BYTES + 2L * (length(routine.getTitle()) + length(routine.getDescription()));
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -2,10 +2,12 @@ package com.groomthon.habiglow.domain.routine.service;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +41,13 @@ public class RoutineDataAccessService {
         return routineRepository.findGrowthEnabledRoutinesByMemberId(memberId);
     }
 
+    /**
+     * 전체 회원의 성장 모드 루틴을 ID 순으로 afterId 다음부터 limit 개 조회
+     */
+    public List<RoutineEntity> findGrowthEnabledRoutinesAfter(Long afterId, int limit) {
+        return routineRepository.findGrowthEnabledRoutinesAfter(afterId, Limit.of(limit));
+    }
+
     /**
      * 여러 루틴의 특정 날짜 성공 기록들을 Map으로 반환
      */
@@ -59,6 +68,23 @@ public class RoutineDataAccessService {
                 ));
     }
 
+    /**
+     * 회원 구분 없이 여러 루틴의 특정 날짜 성공 기록들을 Map으로 반환
+     */
+    public Map<Long, DailyRoutineEntity> getSuccessRecords(Collection<Long> routineIds, LocalDate date) {
+        if (routineIds.isEmpty()) {
+            return Map.of();
+        }
+        return dailyRoutineRepository
+                .findSuccessRecordsByRoutinesAndDate(routineIds, date, PerformanceLevel.FULL_SUCCESS)
+                .stream()
+                .collect(Collectors.toMap(
+                    record -> record.getRoutine().getRoutineId(),
+                    record -> record,
+                    (existing, replacement) -> existing
+                ));
+    }
+
     /**
      * 단일 루틴의 특정 날짜 성공 기록 조회
      */
@@ -5,12 +5,12 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.groomthon.habiglow.domain.routine.dto.response.adaptation.AdaptationType;
 import com.groomthon.habiglow.domain.routine.dto.response.adaptation.AdaptiveRoutineCheckResponse;
 import com.groomthon.habiglow.domain.routine.dto.response.adaptation.GrowthReadyRoutineResponse;
 import com.groomthon.habiglow.domain.routine.dto.response.adaptation.ReductionReadyRoutineResponse;
-import com.groomthon.habiglow.domain.routine.dto.response.adaptation.RoutineAdaptationCheckResponse;
+import com.groomthon.habiglow.domain.routine.repository.RoutineAdaptationCandidate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,29 +20,53 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RoutineGrowthService {
 
+    private final RoutineAdaptationCandidateService candidateService;
     private final GrowthAnalysisService growthAnalysisService;
     private final ReductionAnalysisService reductionAnalysisService;
 
-    @Transactional(readOnly = true)
+    /**
+     * 미리 평가된 조정 대상 조회 (성장과 감소 조건을 모두 만족하는 루틴은 평가 시 성장 대상으로만 저장됨)
+     * 오늘 전체 재평가가 끝나기 전에는 실시간 분석 결과를 반환
+     */
     public AdaptiveRoutineCheckResponse checkAdaptiveRoutines(Long memberId) {
-        RoutineAdaptationCheckResponse<GrowthReadyRoutineResponse> growthResponse = growthAnalysisService.analyzeGrowthReadyRoutines(memberId);
-        RoutineAdaptationCheckResponse<ReductionReadyRoutineResponse> reductionResponse = reductionAnalysisService.analyzeReductionReadyRoutines(memberId);
+        return candidateService.findCandidates(memberId)
+            .map(candidates -> toResponse(memberId, candidates))
+            .orElseGet(() -> analyzeAdaptiveRoutines(memberId));
+    }
 
-        List<GrowthReadyRoutineResponse> growthReadyRoutines = growthResponse.getCandidates();
-        
-        Set<Long> growthReadyIds = growthReadyRoutines.stream()
-            .map(GrowthReadyRoutineResponse::getRoutineId)
-            .collect(Collectors.toSet());
+    private AdaptiveRoutineCheckResponse toResponse(Long memberId, List<RoutineAdaptationCandidate> candidates) {
+        List<GrowthReadyRoutineResponse> growthReadyRoutines = candidates.stream()
+            .filter(candidate -> candidate.type() == AdaptationType.GROWTH)
+            .map(GrowthReadyRoutineResponse::from)
+            .toList();
 
-        List<ReductionReadyRoutineResponse> filteredReductionRoutines = 
-            reductionResponse.getCandidates().stream()
-            .filter(routine -> !growthReadyIds.contains(routine.getRoutineId()))
+        List<ReductionReadyRoutineResponse> reductionReadyRoutines = candidates.stream()
+            .filter(candidate -> candidate.type() == AdaptationType.REDUCTION)
+            .map(ReductionReadyRoutineResponse::from)
             .toList();
 
         log.info("Adaptive check completed for member: {}, found {} growth-ready and {} reduction-ready routines",
-            memberId, growthReadyRoutines.size(), filteredReductionRoutines.size());
+            memberId, growthReadyRoutines.size(), reductionReadyRoutines.size());
 
-        return AdaptiveRoutineCheckResponse.of(growthReadyRoutines, filteredReductionRoutines);
+        return AdaptiveRoutineCheckResponse.of(growthReadyRoutines, reductionReadyRoutines);
     }
 
-}
\ No newline at end of file
+    private AdaptiveRoutineCheckResponse analyzeAdaptiveRoutines(Long memberId) {
+        List<GrowthReadyRoutineResponse> growthReadyRoutines =
+            growthAnalysisService.analyzeGrowthReadyRoutines(memberId).getCandidates();
+
+        Set<Long> growthReadyIds = growthReadyRoutines.stream()
+            .map(GrowthReadyRoutineResponse::getRoutineId)
+            .collect(Collectors.toSet());
+
+        List<ReductionReadyRoutineResponse> reductionReadyRoutines =
+            reductionAnalysisService.analyzeReductionReadyRoutines(memberId).getCandidates().stream()
+                .filter(routine -> !growthReadyIds.contains(routine.getRoutineId()))
+                .toList();
+
+        log.info("Adaptive check analyzed live for member: {}, found {} growth-ready and {} reduction-ready routines",
+            memberId, growthReadyRoutines.size(), reductionReadyRoutines.size());
+
+        return AdaptiveRoutineCheckResponse.of(growthReadyRoutines, reductionReadyRoutines);
+    }
+}
@@ -19,11 +19,25 @@ import lombok.extern.slf4j.Slf4j;
 public class RoutineService {
     private final RoutineRepository routineRepository;
     
-    public List<RoutineEntity> findAllByIds(Collection<Long> routineIds) {
-        return routineRepository.findAllById(routineIds);
+    /**
+     * 회원 소유 루틴만 조회 (없거나 다른 회원의 루틴은 결과에서 빠짐)
+     */
+    public List<RoutineEntity> findOwnedByIds(Collection<Long> routineIds, Long memberId) {
+        return routineRepository.findAllByIdsAndMemberId(routineIds, memberId);
+    }
+    
+    /**
+     * 주어진 ID 중 실제 존재하는 루틴 ID (소유권 오류 사유 구분용)
+     */
+    public List<Long> findExistingIds(Collection<Long> routineIds) {
+        return routineRepository.findExistingIds(routineIds);
     }
     
     public List<RoutineEntity> getUserRoutines(Long memberId) {
         return routineRepository.findByMember_Id(memberId);
     }
+    
+    public List<RoutineEntity> getUserRoutinesExcluding(Long memberId, Collection<Long> excludedRoutineIds) {
+        return routineRepository.findByMemberIdExcluding(memberId, excludedRoutineIds);
+    }
 }
\ No newline at end of file
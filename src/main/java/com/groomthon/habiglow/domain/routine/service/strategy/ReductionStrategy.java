@@ -28,14 +28,14 @@ public class ReductionStrategy implements AdaptationStrategy {
     @Override
     public boolean isAdaptationCycleCompleted(RoutineEntity routine, List<DailyRoutineEntity> recentRecords) {
         if (!routine.isGrowthModeEnabled()) {
-            log.info("Routine {} is not in growth mode", routine.getRoutineId());
+            log.debug("Routine {} is not in growth mode", routine.getRoutineId());
             return false;
         }
         
         // 단순화된 로직: 실패 카운트만 체크
         boolean isFailureCycleCompleted = routine.getGrowthConfiguration().isFailureCycleCompleted();
         
-        log.info("Reduction check for routine {}: failureCycleDays={}, growthCycleDays={}, completed={}", 
+        log.debug("Reduction check for routine {}: failureCycleDays={}, growthCycleDays={}, completed={}", 
             routine.getRoutineId(), 
             routine.getGrowthConfiguration().getFailureCycleDays(),
             routine.getGrowthCycleDays(),
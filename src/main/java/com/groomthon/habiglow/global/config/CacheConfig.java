@@ -0,0 +1,12 @@
+package com.groomthon.habiglow.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Cache 활성화
+ * 캐시 구현체/크기/만료는 spring.cache.* (Caffeine) 설정 사용, 통계는 cache.* 지표로 노출
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {}
@@ -0,0 +1,42 @@
+package com.groomthon.habiglow.global.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationHandler;
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationListener;
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationPublisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인스턴스 간 로컬 캐시 무효화 (Postgres LISTEN/NOTIFY)
+ * 리스너는 애플리케이션 DataSource 와 같은 DB 에 풀을 거치지 않는 전용 연결 1개를 유지
+ * cache-invalidation.enabled=false 이면 발행/수신 모두 하지 않음 (단일 인스턴스 운영)
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache-invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationConfig {
+
+	@Bean
+	public CacheInvalidationListener cacheInvalidationListener(
+		JdbcConnectionDetails connectionDetails,
+		CacheInvalidationPublisher publisher,
+		List<CacheInvalidationHandler> handlers,
+		@Value("${cache-invalidation.queue-capacity:10000}") int queueCapacity,
+		@Value("${cache-invalidation.poll-timeout:PT0.5S}") Duration pollTimeout,
+		@Value("${cache-invalidation.max-reconnect-delay:PT30S}") Duration maxReconnectDelay,
+		MeterRegistry meterRegistry) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword());
+		return new CacheInvalidationListener(dataSource, publisher.getChannel(), publisher.getInstanceId(), handlers,
+			queueCapacity, pollTimeout, maxReconnectDelay, meterRegistry);
+	}
+}
@@ -0,0 +1,51 @@
+package com.groomthon.habiglow.global.config;
+
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.groomthon.habiglow.global.config.properties.EntityCacheProperties;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, 인스턴스 로컬)
+ * entity-cache.regions 의 리전만 미리 만들어 넘기고, 엔티티에 선언된 리전이 설정에 없으면 기동 실패
+ * 통계는 hibernate.generate_statistics 로 수집되어 hibernate.second.level.cache.* {region} 지표로 노출
+ * entity-cache.enabled=false 이면 캐시 선언은 무시되고 매번 DB 에서 조회
+ * (hibernate-jcache 가 클래스패스에 있으면 설정이 없어도 자동으로 켜지므로, 꺼짐도 명시적으로 설정)
+ */
+@Configuration
+public class EntityCacheConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer entityCacheCustomizer(EntityCacheProperties entityCacheProperties) {
+		return properties -> {
+			if (!entityCacheProperties.isEnabled()) {
+				properties.put("hibernate.cache.use_second_level_cache", false);
+				return;
+			}
+			properties.put("hibernate.cache.use_second_level_cache", true);
+			properties.put("hibernate.cache.region.factory_class", "jcache");
+			properties.put("hibernate.javax.cache.cache_manager", createCacheManager(entityCacheProperties));
+			properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+		};
+	}
+
+	// 공유 Provider(Caching.getCachingProvider) 는 같은 CacheManager 를 돌려주므로, 컨텍스트마다 새 Provider 로 생성
+	// Hibernate 가 SessionFactory 종료 시 함께 닫음
+	private static CacheManager createCacheManager(EntityCacheProperties entityCacheProperties) {
+		CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+		entityCacheProperties.getRegions().forEach((name, region) -> {
+			CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+			configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+			configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+			cacheManager.createCache(name, configuration);
+		});
+		return cacheManager;
+	}
+}
@@ -0,0 +1,41 @@
+package com.groomthon.habiglow.global.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import com.groomthon.habiglow.global.idempotency.IdempotencyFilter;
+import com.groomthon.habiglow.global.idempotency.IdempotencyStore;
+import com.groomthon.habiglow.global.util.SecurityResponseUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 멱등성 키 처리를 위한 설정 클래스
+ * idempotency.paths: Idempotency-Key 헤더를 처리할 POST 경로 패턴
+ * 저장소는 인스턴스 로컬이므로 재시도가 다른 인스턴스로 가면 다시 실행됨 (모바일 재시도 흡수 목적)
+ */
+@Configuration
+public class IdempotencyConfig {
+
+	@Bean
+	public IdempotencyStore idempotencyStore(
+		@Value("${idempotency.maximum-size:16MB}") DataSize maximumSize,
+		@Value("${idempotency.ttl:PT10M}") Duration ttl,
+		MeterRegistry meterRegistry) {
+		return new IdempotencyStore(maximumSize.toBytes(), ttl, meterRegistry);
+	}
+
+	@Bean
+	public IdempotencyFilter idempotencyFilter(IdempotencyStore idempotencyStore,
+		@Value("${idempotency.paths:/api/daily-records/*}") List<String> paths,
+		@Value("${idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+		SecurityResponseUtils responseUtils,
+		MeterRegistry meterRegistry) {
+		return new IdempotencyFilter(idempotencyStore, paths, waitTimeout, responseUtils, meterRegistry);
+	}
+}
@@ -0,0 +1,23 @@
+package com.groomthon.habiglow.global.config;
+
+import com.groomthon.habiglow.global.ratelimit.RateLimitPolicy;
+import com.groomthon.habiglow.global.ratelimit.RateLimitPolicyMatcher;
+import com.groomthon.habiglow.global.ratelimit.RateLimiterBackend;
+import com.groomthon.habiglow.global.util.SecurityResponseUtils;
+
+/**
+ * 회원 기준(MEMBER, IP_AND_MEMBER) Rate Limit 정책만 적용하는 필터
+ * 검증된 회원 ID 로 버킷을 나누기 위해 JwtAuthenticationFilter 다음에 실행 (인증되지 않은 요청은 IP 기준으로 대체)
+ */
+public class MemberRateLimitFilter extends RateLimitFilter {
+
+    public MemberRateLimitFilter(RateLimiterBackend rateLimiterBackend, RateLimitPolicyMatcher policyMatcher,
+                                 SecurityResponseUtils responseUtils) {
+        super(rateLimiterBackend, policyMatcher, responseUtils);
+    }
+
+    @Override
+    protected boolean appliesTo(RateLimitPolicy policy) {
+        return policy.getKeyStrategy().requiresMember();
+    }
+}
@@ -1,21 +1,54 @@
 package com.groomthon.habiglow.global.config;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
-import com.google.common.util.concurrent.RateLimiter;
+import com.groomthon.habiglow.global.config.properties.RateLimitProperties;
+import com.groomthon.habiglow.global.ratelimit.PostgresRateLimiterBackend;
+import com.groomthon.habiglow.global.ratelimit.RateLimitPolicyMatcher;
+import com.groomthon.habiglow.global.ratelimit.RateLimiterStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Rate Limiting을 위한 설정 클래스
- * IP별 요청 제한을 관리하는 Map을 제공
+ * rate-limit.backend=memory(기본): 인스턴스별 토큰 버킷
+ * rate-limit.backend=postgres: 모든 인스턴스가 공유하는 Postgres 토큰 버킷 (로컬 버킷은 DB 장애 시 대체용)
+ * rate-limit.policies: 경로별 정책 (시작 시점에 매처로 컴파일, 잘못된 정책이면 기동 실패)
  */
 @Configuration
 public class RateLimitConfig {
 
 	@Bean
-	public ConcurrentHashMap<String, RateLimiter> rateLimiterMap() {
-		return new ConcurrentHashMap<>();
+	public RateLimitPolicyMatcher rateLimitPolicyMatcher(RateLimitProperties rateLimitProperties) {
+		return new RateLimitPolicyMatcher(rateLimitProperties.toPolicies());
+	}
+
+	@Bean
+	public RateLimiterStore rateLimiterStore(
+		@Value("${rate-limit.store.maximum-size:100000}") long maximumSize,
+		@Value("${rate-limit.store.idle-timeout:PT10M}") Duration idleTimeout,
+		MeterRegistry meterRegistry) {
+		return new RateLimiterStore(maximumSize, idleTimeout, meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "postgres")
+	public PostgresRateLimiterBackend postgresRateLimiterBackend(
+		NamedParameterJdbcTemplate jdbcTemplate,
+		RateLimiterStore rateLimiterStore,
+		@Value("${rate-limit.store.idle-timeout:PT10M}") Duration idleTimeout,
+		@Value("${rate-limit.postgres.local-precheck:true}") boolean localPrecheck,
+		@Value("${rate-limit.store.maximum-size:100000}") long maximumSize,
+		MeterRegistry meterRegistry) {
+		return new PostgresRateLimiterBackend(jdbcTemplate, rateLimiterStore, idleTimeout, localPrecheck, maximumSize,
+			meterRegistry);
 	}
-}
\ No newline at end of file
+}
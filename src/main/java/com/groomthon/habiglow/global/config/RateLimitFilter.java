@@ -1,11 +1,15 @@
 package com.groomthon.habiglow.global.config;
 
 import java.io.IOException;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.google.common.util.concurrent.RateLimiter;
+import com.groomthon.habiglow.global.jwt.VerifiedToken;
+import com.groomthon.habiglow.global.ratelimit.KeyStrategy;
+import com.groomthon.habiglow.global.ratelimit.RateLimitKey;
+import com.groomthon.habiglow.global.ratelimit.RateLimitPolicy;
+import com.groomthon.habiglow.global.ratelimit.RateLimitPolicyMatcher;
+import com.groomthon.habiglow.global.ratelimit.RateLimiterBackend;
 import com.groomthon.habiglow.global.response.ErrorCode;
 import com.groomthon.habiglow.global.util.SecurityResponseUtils;
 
@@ -18,37 +22,30 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * API 요청에 대한 Rate Limiting을 적용하는 필터
- * IP별로 요청 제한을 설정하여 DDoS 및 무차별 대입 공격을 방지
+ * rate-limit.policies 에 정의된 경로별 정책으로 IP 또는 회원 단위 요청 제한을 적용하여 DDoS 및 무차별 대입 공격을 방지
+ * IP 기준 정책은 JWT 서명 검증 비용을 치르기 전에 거부하도록 JwtAuthenticationFilter 앞에서 실행하고,
+ * 회원 기준 정책은 검증된 회원 ID 가 필요하므로 MemberRateLimitFilter 가 인증 이후에 적용
  */
 @Slf4j
 @RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final ConcurrentHashMap<String, RateLimiter> rateLimiterMap;
+    private final RateLimiterBackend rateLimiterBackend;
+    private final RateLimitPolicyMatcher policyMatcher;
     private final SecurityResponseUtils responseUtils;
 
-    // API별 요청 제한 설정 (초당 요청 수)
-    private static final double SOCIAL_LOGIN_RATE = 0.1;  // 10초당 1회
-    private static final double TOKEN_REFRESH_RATE = 0.17; // 6초당 1회
-    private static final double DEFAULT_RATE = 1.0;       // 1초당 1회
-
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         
-        String clientIp = getClientIp(request);
-        String requestUri = request.getRequestURI();
-        
         // Rate Limiting이 필요한 API만 처리
-        if (isRateLimitRequired(requestUri)) {
-            double rate = getRateForUri(requestUri);
-            String key = clientIp + ":" + requestUri;
+        RateLimitPolicy policy = policyMatcher.match(request.getRequestURI());
+        if (policy != null && appliesTo(policy)) {
+            RateLimitKey key = resolveKey(policy, request);
             
-            RateLimiter rateLimiter = rateLimiterMap.computeIfAbsent(key, 
-                k -> RateLimiter.create(rate));
-            
-            if (!rateLimiter.tryAcquire()) {
-                log.warn("Rate limit exceeded for IP: {} on URI: {}", clientIp, requestUri);
+            if (!rateLimiterBackend.tryAcquire(key, policy.getPermitsPerSecond(), policy.getBurst())) {
+                log.warn("Rate limit exceeded for policy: {} (IP: {}, member: {}) on URI: {}",
+                    policy.getName(), key.ip(), key.memberId(), request.getRequestURI());
                 sendRateLimitError(response);
                 return;
             }
@@ -57,24 +54,38 @@ public class RateLimitFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean isRateLimitRequired(String uri) {
-        return uri.equals("/api/auth/social/login") ||
-               uri.equals("/api/auth/token/refresh") ||
-               uri.equals("/api/auth/token/refresh/full");
+    /**
+     * 이 필터에서 적용할 정책인지 여부 (인증 전에는 IP 기준 정책만)
+     */
+    protected boolean appliesTo(RateLimitPolicy policy) {
+        return !policy.getKeyStrategy().requiresMember();
     }
 
-    private double getRateForUri(String uri) {
-        return switch (uri) {
-            case "/api/auth/social/login" -> SOCIAL_LOGIN_RATE;
-            case "/api/auth/token/refresh", "/api/auth/token/refresh/full" -> TOKEN_REFRESH_RATE;
-            default -> DEFAULT_RATE;
+    private RateLimitKey resolveKey(RateLimitPolicy policy, HttpServletRequest request) {
+        return switch (policy.getKeyStrategy()) {
+            case IP -> new RateLimitKey(policy.getName(), getClientIp(request), null);
+            case MEMBER -> {
+                String memberId = getMemberId(request);
+                // 인증되지 않은 요청은 IP 기준으로 대체
+                yield memberId != null
+                    ? new RateLimitKey(policy.getName(), null, memberId)
+                    : new RateLimitKey(policy.getName(), getClientIp(request), null);
+            }
+            case IP_AND_MEMBER -> new RateLimitKey(policy.getName(), getClientIp(request), getMemberId(request));
         };
     }
 
+    private String getMemberId(HttpServletRequest request) {
+        if (request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE) instanceof VerifiedToken verifiedToken) {
+            return verifiedToken.getMemberId();
+        }
+        return null;
+    }
+
     private String getClientIp(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+            return firstForwardedAddress(xForwardedFor);
         }
         
         String xRealIp = request.getHeader("X-Real-IP");
@@ -85,6 +96,27 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return request.getRemoteAddr();
     }
 
+    /**
+     * X-Forwarded-For 의 첫 번째 주소 (split 배열 없이 경계만 계산, 단일 주소면 원본 그대로 반환)
+     */
+    static String firstForwardedAddress(String xForwardedFor) {
+        int end = xForwardedFor.indexOf(',');
+        if (end < 0) {
+            end = xForwardedFor.length();
+        }
+        int begin = 0;
+        while (begin < end && Character.isWhitespace(xForwardedFor.charAt(begin))) {
+            begin++;
+        }
+        while (end > begin && Character.isWhitespace(xForwardedFor.charAt(end - 1))) {
+            end--;
+        }
+        if (begin == 0 && end == xForwardedFor.length()) {
+            return xForwardedFor;
+        }
+        return xForwardedFor.substring(begin, end);
+    }
+
     private void sendRateLimitError(HttpServletResponse response) throws IOException {
         responseUtils.sendErrorResponse(response, ErrorCode.TOO_MANY_REQUESTS);
     }
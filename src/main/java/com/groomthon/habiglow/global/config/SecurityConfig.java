@@ -1,7 +1,6 @@
 package com.groomthon.habiglow.global.config;
 
-import java.util.concurrent.ConcurrentHashMap;
-
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,11 +10,13 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import com.google.common.util.concurrent.RateLimiter;
 import com.groomthon.habiglow.global.config.properties.SecurityProperties;
 import com.groomthon.habiglow.domain.auth.service.BlacklistService;
+import com.groomthon.habiglow.global.idempotency.IdempotencyFilter;
 import com.groomthon.habiglow.global.jwt.JWTUtil;
 import com.groomthon.habiglow.global.jwt.JwtAuthenticationFilter;
+import com.groomthon.habiglow.global.ratelimit.RateLimitPolicyMatcher;
+import com.groomthon.habiglow.global.ratelimit.RateLimiterBackend;
 import com.groomthon.habiglow.global.security.JwtAccessDeniedHandler;
 import com.groomthon.habiglow.global.security.JwtAuthenticationEntryPoint;
 
@@ -32,9 +33,17 @@ public class SecurityConfig {
 	private final BlacklistService blacklistService;
 
 	@Bean
-	public RateLimitFilter rateLimitFilter(ConcurrentHashMap<String, RateLimiter> rateLimiterMap, 
+	public RateLimitFilter rateLimitFilter(RateLimiterBackend rateLimiterBackend, 
+			RateLimitPolicyMatcher rateLimitPolicyMatcher,
+			com.groomthon.habiglow.global.util.SecurityResponseUtils responseUtils) {
+		return new RateLimitFilter(rateLimiterBackend, rateLimitPolicyMatcher, responseUtils);
+	}
+
+	@Bean
+	public MemberRateLimitFilter memberRateLimitFilter(RateLimiterBackend rateLimiterBackend,
+			RateLimitPolicyMatcher rateLimitPolicyMatcher,
 			com.groomthon.habiglow.global.util.SecurityResponseUtils responseUtils) {
-		return new RateLimitFilter(rateLimiterMap, responseUtils);
+		return new MemberRateLimitFilter(rateLimiterBackend, rateLimitPolicyMatcher, responseUtils);
 	}
 
 	@Bean
@@ -42,10 +51,43 @@ public class SecurityConfig {
 		return new JwtAuthenticationFilter(jwtUtil, blacklistService);
 	}
 
+	// 아래 필터들은 Security 필터 체인에서만 실행 (서블릿 필터 자동 등록 시 체인보다 먼저 실행되어 순서가 어긋남)
+	@Bean
+	public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+		FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+		registration.setEnabled(false);
+		return registration;
+	}
+
+	@Bean
+	public FilterRegistrationBean<MemberRateLimitFilter> memberRateLimitFilterRegistration(
+			MemberRateLimitFilter memberRateLimitFilter) {
+		FilterRegistrationBean<MemberRateLimitFilter> registration = new FilterRegistrationBean<>(memberRateLimitFilter);
+		registration.setEnabled(false);
+		return registration;
+	}
+
+	@Bean
+	public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+			JwtAuthenticationFilter jwtAuthenticationFilter) {
+		FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+		registration.setEnabled(false);
+		return registration;
+	}
+
+	@Bean
+	public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter idempotencyFilter) {
+		FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(idempotencyFilter);
+		registration.setEnabled(false);
+		return registration;
+	}
+
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity http,
 		JwtAuthenticationFilter jwtAuthenticationFilter,
 		RateLimitFilter rateLimitFilter,
+		MemberRateLimitFilter memberRateLimitFilter,
+		IdempotencyFilter idempotencyFilter,
 		JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
 		JwtAccessDeniedHandler jwtAccessDeniedHandler) throws Exception {
 
@@ -86,8 +128,12 @@ public class SecurityConfig {
 				.authenticationEntryPoint(jwtAuthenticationEntryPoint) // 커스텀 EntryPoint
 				.accessDeniedHandler(jwtAccessDeniedHandler)); // 커스텀 AccessDeniedHandler
 
-		http.addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
+		// IP 기준 Rate Limit 은 JWT 서명 검증 전에, 회원 기준 Rate Limit 은 JWT 인증 후에 적용
 		http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+		http.addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
+		http.addFilterAfter(memberRateLimitFilter, JwtAuthenticationFilter.class);
+		// 회원 단위 멱등성 키를 위해 회원 Rate Limit 다음에 적용 (재시도도 Rate Limit 대상)
+		http.addFilterAfter(idempotencyFilter, MemberRateLimitFilter.class);
 
 		return http.build();
 	}
@@ -1,17 +1,24 @@
 package com.groomthon.habiglow.global.config;
 
 import java.time.Clock;
+import java.time.ZoneId;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+/**
+ * 서비스 기준 시간대 (한국 시간)
+ * 기록 날짜/오늘 판단은 서버 기본 시간대와 무관하게 이 Clock 을 사용
+ */
 @Configuration
 public class TimeConfig {
+
+    public static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
     
     @Bean
     @Primary
     public Clock systemClock() {
-        return Clock.systemDefaultZone();
+        return Clock.system(SERVICE_ZONE);
     }
 }
\ No newline at end of file
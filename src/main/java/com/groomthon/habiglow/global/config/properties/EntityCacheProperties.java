@@ -0,0 +1,32 @@
+package com.groomthon.habiglow.global.config.properties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "entity-cache")
+public class EntityCacheProperties {
+
+	private boolean enabled = true;
+	// 리전 이름(EntityCacheRegions) → 크기/만료
+	private Map<String, Region> regions = new LinkedHashMap<>();
+
+	@Getter
+	@Setter
+	public static class Region {
+
+		// 최대 항목 수 (엔티티 1건 또는 컬렉션 1개가 1항목)
+		private long maximumSize = 10_000;
+		// 저장 후 만료 시간 (엔티티 매니저를 거치지 않은 변경이 남아 있을 수 있는 최대 시간)
+		private Duration ttl = Duration.ofMinutes(30);
+	}
+}
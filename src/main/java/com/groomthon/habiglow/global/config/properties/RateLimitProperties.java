@@ -0,0 +1,41 @@
+package com.groomthon.habiglow.global.config.properties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.groomthon.habiglow.global.ratelimit.KeyStrategy;
+import com.groomthon.habiglow.global.ratelimit.RateLimitPolicy;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+	private List<Policy> policies = new ArrayList<>();
+
+	public List<RateLimitPolicy> toPolicies() {
+		return policies.stream()
+			.map(p -> new RateLimitPolicy(p.getName(), p.getPath(), p.getRate(), p.getBurst(), p.getKey()))
+			.toList();
+	}
+
+	@Getter
+	@Setter
+	public static class Policy {
+
+		private String name;
+		// 정확한 경로 또는 "/prefix/**"
+		private String path;
+		// 초당 허용 요청 수
+		private double rate;
+		private int burst = 1;
+		private KeyStrategy key = KeyStrategy.IP;
+	}
+}
@@ -0,0 +1,16 @@
+package com.groomthon.habiglow.global.entity;
+
+/**
+ * 2차 캐시(Hibernate) 리전 이름
+ * 리전별 크기/만료는 entity-cache.regions.* 에서 설정하며, 설정되지 않은 리전이 있으면 기동 실패
+ */
+public final class EntityCacheRegions {
+
+	public static final String MEMBER = "member";
+	public static final String MEMBER_INTERESTS = "member-interests";
+	public static final String MEMBER_INTEREST = "member-interest";
+	public static final String ROUTINE = "routine";
+
+	private EntityCacheRegions() {
+	}
+}
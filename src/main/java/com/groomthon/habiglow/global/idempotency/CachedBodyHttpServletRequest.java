@@ -0,0 +1,81 @@
+package com.groomthon.habiglow.global.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * 미리 읽어 둔 본문을 다시 제공하는 요청 래퍼 (fingerprint 계산 후에도 컨트롤러가 본문을 읽을 수 있도록)
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+	private final byte[] body;
+
+	CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+		super(request);
+		this.body = body;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		ByteArrayInputStream input = new ByteArrayInputStream(body);
+		return new ServletInputStream() {
+			@Override
+			public boolean isFinished() {
+				return input.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			// 본문이 이미 메모리에 있으므로 바로 읽기 가능 → 읽기 완료를 알림
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				try {
+					readListener.onDataAvailable();
+					readListener.onAllDataRead();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			@Override
+			public int read() {
+				return input.read();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				return input.read(b, off, len);
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		String encoding = getCharacterEncoding();
+		Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+		return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+	}
+
+	@Override
+	public int getContentLength() {
+		return body.length;
+	}
+
+	@Override
+	public long getContentLengthLong() {
+		return body.length;
+	}
+}
@@ -0,0 +1,180 @@
+package com.groomthon.habiglow.global.idempotency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.groomthon.habiglow.global.jwt.TokenDigest;
+import com.groomthon.habiglow.global.jwt.VerifiedToken;
+import com.groomthon.habiglow.global.response.ErrorCode;
+import com.groomthon.habiglow.global.util.SecurityResponseUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청의 재시도를 저장된 응답으로 처리하는 필터
+ * 같은 회원 + 키의 재요청은 컨트롤러/서비스를 거치지 않고 첫 2xx 응답을 그대로 재전송 (Idempotent-Replayed: true)
+ * 처리 중인 키로 들어온 요청은 첫 요청이 끝날 때까지 대기, 같은 키에 다른 본문이면 422
+ * 회원 단위 키를 위해 JwtAuthenticationFilter 다음에 실행, 결과는 http.idempotency{result} 로 노출
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	static final String METRIC_NAME = "http.idempotency";
+	static final int MAX_KEY_LENGTH = 255;
+
+	private final IdempotencyStore store;
+	private final List<String> pathPatterns;
+	private final Duration waitTimeout;
+	private final SecurityResponseUtils responseUtils;
+	private final MeterRegistry meterRegistry;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	public IdempotencyFilter(IdempotencyStore store, List<String> pathPatterns, Duration waitTimeout,
+		SecurityResponseUtils responseUtils, MeterRegistry meterRegistry) {
+		this.store = store;
+		this.pathPatterns = List.copyOf(pathPatterns);
+		this.waitTimeout = waitTimeout;
+		this.responseUtils = responseUtils;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(HEADER) == null) {
+			return true;
+		}
+		String uri = request.getRequestURI();
+		return pathPatterns.stream().noneMatch(pattern -> pathMatcher.match(pattern, uri));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+
+		// 인증되지 않은 요청은 이후 인가 단계에서 거부
+		String memberId = getMemberId(request);
+		if (memberId == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		String idempotencyKey = request.getHeader(HEADER);
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			responseUtils.sendErrorResponse(response, ErrorCode.INVALID_INPUT_VALUE);
+			return;
+		}
+
+		byte[] body = request.getInputStream().readAllBytes();
+		CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, body);
+		String key = memberId + ":" + idempotencyKey;
+		String fingerprint = fingerprint(request, body);
+
+		while (true) {
+			IdempotencyStore.Claim claim = store.claim(key, fingerprint);
+			IdempotencyStore.Entry entry = claim.entry();
+
+			if (claim.owner()) {
+				execute(key, entry, cachedRequest, response, filterChain);
+				return;
+			}
+
+			if (!entry.fingerprint().equals(fingerprint)) {
+				log.warn("Idempotency key reused with a different request (member: {}, URI: {})",
+					memberId, request.getRequestURI());
+				record("mismatch");
+				responseUtils.sendErrorResponse(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+				return;
+			}
+
+			StoredResponse stored;
+			try {
+				stored = store.await(entry, waitTimeout);
+			} catch (TimeoutException e) {
+				record("timeout");
+				responseUtils.sendErrorResponse(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+				return;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				responseUtils.sendErrorResponse(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+				return;
+			}
+
+			// 첫 요청이 실패하여 선점이 해제된 경우 다시 선점 시도
+			if (stored != null) {
+				replay(stored, response);
+				return;
+			}
+		}
+	}
+
+	private void execute(String key, IdempotencyStore.Entry entry, HttpServletRequest request,
+		HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+		ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+		boolean stored = false;
+		try {
+			filterChain.doFilter(request, responseWrapper);
+			int status = responseWrapper.getStatus();
+			// 실패 응답은 저장하지 않아 같은 키로 다시 시도할 수 있음
+			if (status >= 200 && status < 300) {
+				store.complete(key, entry,
+					new StoredResponse(status, responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+				stored = true;
+			}
+		} finally {
+			if (!stored) {
+				store.release(key, entry);
+			}
+			record(stored ? "stored" : "not_stored");
+			responseWrapper.copyBodyToResponse();
+		}
+	}
+
+	private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+		record("replayed");
+		response.setStatus(stored.status());
+		if (stored.contentType() != null) {
+			response.setContentType(stored.contentType());
+		}
+		response.setHeader(REPLAYED_HEADER, "true");
+		response.setContentLength(stored.body().length);
+		response.getOutputStream().write(stored.body());
+		response.flushBuffer();
+	}
+
+	/**
+	 * 같은 키의 요청이 같은 요청인지 판별하는 값 (메서드 + URI + 쿼리 + 본문의 SHA-256)
+	 */
+	private static String fingerprint(HttpServletRequest request, byte[] body) {
+		String query = request.getQueryString();
+		return TokenDigest.sha256Hex(request.getMethod() + ' ' + request.getRequestURI()
+			+ (query != null ? '?' + query : "") + '\n' + new String(body, StandardCharsets.UTF_8));
+	}
+
+	private String getMemberId(HttpServletRequest request) {
+		if (request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE) instanceof VerifiedToken verifiedToken) {
+			return verifiedToken.getMemberId();
+		}
+		return null;
+	}
+
+	private void record(String result) {
+		meterRegistry.counter(METRIC_NAME, "result", result).increment();
+	}
+}
@@ -0,0 +1,92 @@
+package com.groomthon.habiglow.global.idempotency;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 최근 멱등성 키와 응답 저장소 (인스턴스 로컬)
+ * 키: 회원 ID + Idempotency-Key, 값: 요청 fingerprint 와 응답 future
+ * 처리 중인 키는 future 로 먼저 선점하여 동시 중복 요청이 첫 요청의 완료를 기다리게 함
+ * 본문 바이트 기준 가중치로 크기를 제한하고, 지표를 cache.* {cache=idempotency.responses} 로 노출
+ */
+public class IdempotencyStore {
+
+	static final String CACHE_NAME = "idempotency.responses";
+
+	// 처리 중이거나 본문이 없는 항목도 키/fingerprint 만큼은 차지
+	private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+	private final Cache<String, Entry> entries;
+
+	public IdempotencyStore(long maximumBytes, Duration ttl, MeterRegistry meterRegistry) {
+		this.entries = Caffeine.newBuilder()
+			.maximumWeight(maximumBytes)
+			.weigher((String key, Entry entry) -> ENTRY_OVERHEAD_BYTES + entry.bodySize())
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+	}
+
+	/**
+	 * 키를 선점하거나 이미 있는 항목을 반환
+	 * 반환된 항목이 새로 만든 것이면(owner) 호출 측이 요청을 실행하고 complete/release 해야 함
+	 */
+	public Claim claim(String key, String fingerprint) {
+		Entry created = new Entry(fingerprint, new CompletableFuture<>());
+		Entry existing = entries.asMap().putIfAbsent(key, created);
+		return existing == null ? new Claim(created, true) : new Claim(existing, false);
+	}
+
+	/**
+	 * 성공 응답을 저장하고 대기 중인 요청을 깨움 (완료된 항목으로 교체하여 본문 크기로 다시 가중치 계산)
+	 */
+	public void complete(String key, Entry entry, StoredResponse response) {
+		entries.asMap().replace(key, entry, new Entry(entry.fingerprint(), CompletableFuture.completedFuture(response)));
+		entry.response().complete(response);
+	}
+
+	/**
+	 * 실패한 요청의 선점을 해제 (대기 중인 요청은 null 을 받고 다시 선점 시도)
+	 */
+	public void release(String key, Entry entry) {
+		entries.asMap().remove(key, entry);
+		entry.response().complete(null);
+	}
+
+	/**
+	 * @return 첫 요청의 응답, 첫 요청이 실패했으면 null
+	 * @throws TimeoutException 제한 시간 안에 첫 요청이 끝나지 않은 경우
+	 */
+	public StoredResponse await(Entry entry, Duration timeout) throws TimeoutException, InterruptedException {
+		try {
+			return entry.response().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			return null;
+		}
+	}
+
+	public long size() {
+		return entries.estimatedSize();
+	}
+
+	public record Entry(String fingerprint, CompletableFuture<StoredResponse> response) {
+
+		int bodySize() {
+			StoredResponse stored = response.getNow(null);
+			return stored != null ? stored.body().length : 0;
+		}
+	}
+
+	public record Claim(Entry entry, boolean owner) {
+	}
+}
@@ -0,0 +1,7 @@
+package com.groomthon.habiglow.global.idempotency;
+
+/**
+ * 멱등성 키로 재사용하는 2xx 응답 (상태 코드, Content-Type, 직렬화된 본문)
+ */
+public record StoredResponse(int status, String contentType, byte[] body) {
+}
@@ -0,0 +1,17 @@
+package com.groomthon.habiglow.global.invalidation;
+
+/**
+ * 다른 인스턴스에서 발행된 무효화 메시지를 받는 로컬 캐시
+ * 빈으로 등록하면 리스너가 cacheName 으로 찾아 전달 (리스너 전용 스레드에서 호출)
+ */
+public interface CacheInvalidationHandler {
+
+	String cacheName();
+
+	void invalidate(String key);
+
+	/**
+	 * 메시지를 놓쳤을 수 있을 때 (재연결, 대기열 초과) 호출
+	 */
+	void invalidateAll();
+}
@@ -0,0 +1,240 @@
+package com.groomthon.habiglow.global.invalidation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 무효화 채널을 LISTEN 하고 받은 메시지를 로컬 캐시(CacheInvalidationHandler)에 전달
+ * 커넥션 풀과 별개인 전용 연결을 쓰며, 끊기면 지수 백오프로 재연결
+ * 수신 스레드는 크기 제한 대기열에 넣기만 하고 전달은 별도 스레드가 처리 (느린 캐시가 수신을 막지 않음)
+ * 대기열이 가득 차거나 재연결한 경우 놓친 메시지가 있을 수 있으므로 모든 캐시를 전체 무효화
+ * 지표: cache.invalidation.received{cache}, .lag (발행~적용), .queue, .connected, .reconnects, .resyncs, .failures
+ */
+@Slf4j
+public class CacheInvalidationListener implements SmartLifecycle {
+
+	private static final String METRIC_PREFIX = CacheInvalidationPublisher.METRIC_PREFIX;
+	private static final Duration INITIAL_RECONNECT_DELAY = Duration.ofSeconds(1);
+	// 알림이 없는 동안에도 끊긴 연결을 감지하기 위한 확인 주기
+	private static final Duration KEEP_ALIVE_INTERVAL = Duration.ofSeconds(30);
+
+	private final DataSource dataSource;
+	private final String channel;
+	private final String instanceId;
+	private final Map<String, CacheInvalidationHandler> handlers;
+	private final BlockingQueue<CacheInvalidationMessage> queue;
+	private final int pollTimeoutMillis;
+	private final Duration maxReconnectDelay;
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicBoolean resyncRequired = new AtomicBoolean();
+	private final AtomicBoolean connected = new AtomicBoolean();
+	private final Timer lag;
+	private final Counter reconnects;
+	private final Counter resyncs;
+	private final Counter failures;
+
+	private volatile boolean running;
+	private Thread listenerThread;
+	private Thread dispatcherThread;
+
+	/**
+	 * @param dataSource 전용 연결용 (풀이 아닌 DataSource, 연결을 계속 점유함)
+	 */
+	public CacheInvalidationListener(DataSource dataSource, String channel, String instanceId,
+		List<CacheInvalidationHandler> handlers, int queueCapacity, Duration pollTimeout, Duration maxReconnectDelay,
+		MeterRegistry meterRegistry) {
+		this.dataSource = dataSource;
+		this.channel = CacheInvalidationPublisher.validateChannel(channel);
+		this.instanceId = instanceId;
+		this.handlers = handlers.stream()
+			.collect(Collectors.toMap(CacheInvalidationHandler::cacheName, Function.identity()));
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.pollTimeoutMillis = (int) pollTimeout.toMillis();
+		this.maxReconnectDelay = maxReconnectDelay;
+		this.meterRegistry = meterRegistry;
+
+		this.lag = Timer.builder(METRIC_PREFIX + ".lag")
+			.description("Time from publishing an invalidation to applying it on this instance")
+			.register(meterRegistry);
+		this.reconnects = meterRegistry.counter(METRIC_PREFIX + ".reconnects");
+		this.resyncs = meterRegistry.counter(METRIC_PREFIX + ".resyncs");
+		this.failures = meterRegistry.counter(METRIC_PREFIX + ".failures");
+		Gauge.builder(METRIC_PREFIX + ".queue", queue, BlockingQueue::size).register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".connected", connected, c -> c.get() ? 1 : 0).register(meterRegistry);
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		listenerThread = Thread.ofPlatform().name("cache-invalidation-listener").daemon().start(this::listen);
+		dispatcherThread = Thread.ofPlatform().name("cache-invalidation-dispatcher").daemon().start(this::dispatch);
+	}
+
+	// 수신 중인 스레드는 대기 시간(poll-timeout) 안에 종료를 확인하고 연결을 닫음
+	@Override
+	public void stop() {
+		running = false;
+		if (listenerThread != null) {
+			listenerThread.interrupt();
+			dispatcherThread.interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	public boolean isConnected() {
+		return connected.get();
+	}
+
+	private void listen() {
+		Duration reconnectDelay = INITIAL_RECONNECT_DELAY;
+		while (running) {
+			try (Connection conn = dataSource.getConnection()) {
+				try (Statement statement = conn.createStatement()) {
+					statement.execute("LISTEN " + channel);
+				}
+				connected.set(true);
+				// 연결 전/끊긴 동안의 메시지는 받을 수 없으므로 전체 무효화 후 수신 시작
+				resyncRequired.set(true);
+				reconnectDelay = INITIAL_RECONNECT_DELAY;
+				receive(conn);
+			} catch (SQLException e) {
+				if (!running) {
+					break;
+				}
+				reconnects.increment();
+				log.warn("Cache invalidation listener disconnected, retrying in {}: {}", reconnectDelay, e.getMessage());
+			} finally {
+				connected.set(false);
+			}
+
+			if (!sleep(reconnectDelay)) {
+				break;
+			}
+			reconnectDelay = min(reconnectDelay.multipliedBy(2), maxReconnectDelay);
+		}
+	}
+
+	private void receive(Connection conn) throws SQLException {
+		PGConnection pgConnection = conn.unwrap(PGConnection.class);
+		long lastCheckedAt = System.nanoTime();
+		while (running) {
+			PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+			if (notifications != null && notifications.length > 0) {
+				for (PGNotification notification : notifications) {
+					enqueue(notification.getParameter());
+				}
+				lastCheckedAt = System.nanoTime();
+			} else if (System.nanoTime() - lastCheckedAt > KEEP_ALIVE_INTERVAL.toNanos()) {
+				try (Statement statement = conn.createStatement()) {
+					statement.execute("SELECT 1");
+				}
+				lastCheckedAt = System.nanoTime();
+			}
+		}
+	}
+
+	private void enqueue(String payload) {
+		CacheInvalidationMessage message = CacheInvalidationMessage.decode(payload).orElse(null);
+		if (message == null) {
+			log.warn("Ignoring malformed cache invalidation payload");
+			return;
+		}
+		if (instanceId.equals(message.origin())) {
+			return;
+		}
+		meterRegistry.counter(METRIC_PREFIX + ".received", "cache", message.cache()).increment();
+		if (!queue.offer(message)) {
+			resyncRequired.set(true);
+		}
+	}
+
+	private void dispatch() {
+		while (running) {
+			try {
+				if (resyncRequired.getAndSet(false)) {
+					queue.clear();
+					resyncs.increment();
+					handlers.values().forEach(this::invalidateAll);
+					continue;
+				}
+				CacheInvalidationMessage message = queue.poll(pollTimeoutMillis, TimeUnit.MILLISECONDS);
+				if (message != null) {
+					apply(message);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void apply(CacheInvalidationMessage message) {
+		CacheInvalidationHandler handler = handlers.get(message.cache());
+		if (handler == null) {
+			// 버전이 다른 인스턴스가 발행한 캐시 이름 등
+			log.debug("No local cache registered for invalidation of {}", message.cache());
+			return;
+		}
+		try {
+			if (message.isAll()) {
+				handler.invalidateAll();
+			} else {
+				handler.invalidate(message.key());
+			}
+		} catch (RuntimeException e) {
+			failures.increment();
+			log.warn("Cache invalidation failed for {}: {}", message.cache(), e.getMessage());
+		}
+		lag.record(Math.max(0, System.currentTimeMillis() - message.publishedAtMillis()), TimeUnit.MILLISECONDS);
+	}
+
+	private void invalidateAll(CacheInvalidationHandler handler) {
+		try {
+			handler.invalidateAll();
+		} catch (RuntimeException e) {
+			failures.increment();
+			log.warn("Cache invalidation failed for {}: {}", handler.cacheName(), e.getMessage());
+		}
+	}
+
+	private boolean sleep(Duration duration) {
+		try {
+			Thread.sleep(duration);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static Duration min(Duration a, Duration b) {
+		return a.compareTo(b) <= 0 ? a : b;
+	}
+}
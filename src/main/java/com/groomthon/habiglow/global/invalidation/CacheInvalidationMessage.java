@@ -0,0 +1,40 @@
+package com.groomthon.habiglow.global.invalidation;
+
+import java.util.Optional;
+
+/**
+ * pg_notify 로 전달하는 무효화 메시지
+ * payload 형식: origin|publishedAtMillis|cache|key (key 가 비어 있으면 캐시 전체)
+ */
+public record CacheInvalidationMessage(String origin, long publishedAtMillis, String cache, String key) {
+
+	private static final String SEPARATOR = "|";
+
+	public boolean isAll() {
+		return key.isEmpty();
+	}
+
+	public CacheInvalidationMessage withoutKey() {
+		return new CacheInvalidationMessage(origin, publishedAtMillis, cache, "");
+	}
+
+	public String encode() {
+		return origin + SEPARATOR + publishedAtMillis + SEPARATOR + cache + SEPARATOR + key;
+	}
+
+	public static Optional<CacheInvalidationMessage> decode(String payload) {
+		if (payload == null) {
+			return Optional.empty();
+		}
+		// key 에는 구분자가 들어갈 수 있으므로 앞 세 부분만 나눔
+		String[] parts = payload.split("\\|", 4);
+		if (parts.length != 4 || parts[2].isEmpty()) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(new CacheInvalidationMessage(parts[0], Long.parseLong(parts[1]), parts[2], parts[3]));
+		} catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.groomthon.habiglow.global.invalidation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 다른 인스턴스의 로컬 캐시 무효화 메시지 발행 (Postgres pg_notify)
+ * 트랜잭션 안에서 호출하면 같은 연결로 발행되어 Postgres 가 커밋 시점에 전달하고, 롤백되면 전달하지 않음
+ * 한 트랜잭션에서 같은 (캐시, 키)는 한 번만 발행하고, 트랜잭션 밖에서는 즉시 전달되며, 발행한 인스턴스는 자기 메시지를 받지 않으므로 로컬 캐시는 호출 측에서 직접 비움
+ * 발행 수는 cache.invalidation.published{cache} 로 노출
+ */
+@Component
+public class CacheInvalidationPublisher {
+
+	static final String METRIC_PREFIX = "cache.invalidation";
+
+	// Postgres NOTIFY payload 최대 크기 (8000 byte 미만)
+	static final int MAX_PAYLOAD_BYTES = 7999;
+
+	private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean enabled;
+	private final String channel;
+	private final String instanceId = UUID.randomUUID().toString();
+	private final MeterRegistry meterRegistry;
+
+	public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate,
+		@Value("${cache-invalidation.enabled:true}") boolean enabled,
+		@Value("${cache-invalidation.channel:cache_invalidation}") String channel,
+		MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+		this.channel = validateChannel(channel);
+		this.meterRegistry = meterRegistry;
+	}
+
+	public void publish(String cache, Object key) {
+		send(new CacheInvalidationMessage(instanceId, System.currentTimeMillis(), cache, String.valueOf(key)));
+	}
+
+	public void publishAll(String cache) {
+		send(new CacheInvalidationMessage(instanceId, System.currentTimeMillis(), cache, ""));
+	}
+
+	public String getInstanceId() {
+		return instanceId;
+	}
+
+	public String getChannel() {
+		return channel;
+	}
+
+	private void send(CacheInvalidationMessage message) {
+		if (!enabled || alreadySentInTransaction(message)) {
+			return;
+		}
+		String payload = message.encode();
+		// 키가 너무 길면 캐시 전체 무효화로 대신함 (초과 시 pg_notify 오류로 트랜잭션이 중단됨)
+		if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+			payload = message.withoutKey().encode();
+		}
+		jdbcTemplate.query(NOTIFY_SQL, (ResultSetExtractor<Void>) rs -> null, channel, payload);
+		meterRegistry.counter(METRIC_PREFIX + ".published", "cache", message.cache()).increment();
+	}
+
+	private boolean alreadySentInTransaction(CacheInvalidationMessage message) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return false;
+		}
+		@SuppressWarnings("unchecked")
+		Set<String> sent = (Set<String>) TransactionSynchronizationManager.getResource(this);
+		if (sent == null) {
+			Set<String> created = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(this, created);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationPublisher.this);
+				}
+			});
+			sent = created;
+		}
+		return !sent.add(message.cache() + "|" + message.key());
+	}
+
+	// LISTEN 문에 그대로 들어가므로 식별자 형식만 허용
+	static String validateChannel(String channel) {
+		if (channel == null || !channel.matches("[a-z_][a-z0-9_]{0,62}")) {
+			throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+		}
+		return channel;
+	}
+}
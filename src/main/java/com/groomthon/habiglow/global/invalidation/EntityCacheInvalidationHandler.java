@@ -0,0 +1,123 @@
+package com.groomthon.habiglow.global.invalidation;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate 2차 캐시의 인스턴스 간 무효화
+ * 캐시 대상 엔티티(ID 가 Long)의 수정/삭제와 캐시 대상 컬렉션 변경을 flush 시점에 발행하고,
+ * 받은 쪽은 해당 엔티티/컬렉션 항목만 제거 (key: 엔티티 이름 또는 컬렉션 role + "#" + ID)
+ * 엔티티 매니저를 거치지 않는 변경은 evictCollection 등으로 직접 무효화
+ */
+@Component
+public class EntityCacheInvalidationHandler implements CacheInvalidationHandler,
+	PostUpdateEventListener, PostDeleteEventListener, PostCollectionUpdateEventListener {
+
+	static final String CACHE_NAME = "hibernate";
+
+	private static final char SEPARATOR = '#';
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final CacheInvalidationPublisher invalidationPublisher;
+
+	public EntityCacheInvalidationHandler(EntityManagerFactory entityManagerFactory,
+		CacheInvalidationPublisher invalidationPublisher) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		this.invalidationPublisher = invalidationPublisher;
+	}
+
+	@PostConstruct
+	void registerListeners() {
+		EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+		registry.appendListeners(EventType.POST_UPDATE, this);
+		registry.appendListeners(EventType.POST_DELETE, this);
+		registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+	}
+
+	/**
+	 * 컬렉션 캐시 항목을 이 인스턴스와 다른 인스턴스에서 제거 (일괄 DELETE 등)
+	 * 커밋 전에 제거하면 동시 요청이 아직 커밋된 이전 값을 다시 캐시할 수 있으므로 이 인스턴스는 커밋 이후 제거
+	 * 발행은 트랜잭션 안에서 실행되어 커밋 시점에 전달됨
+	 */
+	public void evictCollection(String role, Long ownerId) {
+		invalidationPublisher.publish(CACHE_NAME, role + SEPARATOR + ownerId);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			sessionFactory.getCache().evictCollectionData(role, ownerId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				sessionFactory.getCache().evictCollectionData(role, ownerId);
+			}
+		});
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		publishEntity(event.getPersister(), event.getId());
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		publishEntity(event.getPersister(), event.getId());
+	}
+
+	@Override
+	public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+		String role = event.getCollection().getRole();
+		CollectionPersister persister = sessionFactory.getMappingMetamodel().getCollectionDescriptor(role);
+		if (persister.hasCache() && event.getAffectedOwnerIdOrNull() instanceof Long ownerId) {
+			invalidationPublisher.publish(CACHE_NAME, role + SEPARATOR + ownerId);
+		}
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return false;
+	}
+
+	@Override
+	public String cacheName() {
+		return CACHE_NAME;
+	}
+
+	@Override
+	public void invalidate(String key) {
+		int separator = key.lastIndexOf(SEPARATOR);
+		String role = key.substring(0, separator);
+		Long id = Long.valueOf(key.substring(separator + 1));
+		if (sessionFactory.getMappingMetamodel().findEntityDescriptor(role) != null) {
+			sessionFactory.getCache().evictEntityData(role, id);
+		} else {
+			sessionFactory.getCache().evictCollectionData(role, id);
+		}
+	}
+
+	@Override
+	public void invalidateAll() {
+		sessionFactory.getCache().evictAllRegions();
+	}
+
+	// 발행은 flush 중 같은 트랜잭션 연결로 실행되어 커밋 시점에 전달됨
+	private void publishEntity(EntityPersister persister, Object id) {
+		if (persister.canWriteToCache() && id instanceof Long entityId) {
+			invalidationPublisher.publish(CACHE_NAME, persister.getEntityName() + SEPARATOR + entityId);
+		}
+	}
+}
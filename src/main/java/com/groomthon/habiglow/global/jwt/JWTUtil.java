@@ -14,16 +14,19 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JWTUtil {
 
 	public static final String CLAIM_ID = "id";
@@ -53,9 +56,16 @@ public class JWTUtil {
 
 	private SecretKey secretKey;
 
+	private JwtParser jwtParser;
+
+	private final VerifiedTokenCache verifiedTokenCache;
+
 	@PostConstruct
 	public void init() {
 		this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+		this.jwtParser = Jwts.parser()
+			.verifyWith(secretKey)
+			.build();
 	}
 
 	// Access Token 생성
@@ -107,11 +117,7 @@ public class JWTUtil {
 
 	private Optional<Claims> safelyParseClaims(String token) {
 		try {
-			return Optional.of(Jwts.parser()
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload());
+			return Optional.of(jwtParser.parseSignedClaims(token).getPayload());
 		} catch (JwtException | IllegalArgumentException e) {
 			log.warn("JWT validation failed");
 			log.debug("JWT parsing error details: {}", e.getMessage());
@@ -119,42 +125,62 @@ public class JWTUtil {
 		}
 	}
 
+	// 토큰 파싱: 서명 검증 후 전체 클레임 (검증 결과는 토큰 만료 시점까지 캐시)
+	public Optional<VerifiedToken> verify(String token) {
+		if (token == null || token.isBlank()) {
+			return Optional.empty();
+		}
+
+		String digest = TokenDigest.sha256Hex(token);
+		Optional<VerifiedToken> cached = verifiedTokenCache.get(digest);
+		if (cached.isPresent()) {
+			return cached;
+		}
+
+		Optional<VerifiedToken> verified = safelyParseClaims(token)
+			.map(claims -> VerifiedToken.of(token, digest, claims));
+		verified.ifPresent(verifiedToken -> verifiedTokenCache.put(digest, verifiedToken));
+		return verified;
+	}
+
+	public Optional<VerifiedToken> verifyAccessToken(String token) {
+		return verify(token).filter(VerifiedToken::isAccessToken);
+	}
+
+	public Optional<VerifiedToken> verifyRefreshToken(String token) {
+		return verify(token).filter(VerifiedToken::isRefreshToken);
+	}
+
 	// 토큰 파싱: ID
 	public Optional<String> getId(String token) {
-		return safelyParseClaims(token)
-			.map(claims -> claims.get(CLAIM_ID, String.class));
+		return verify(token).map(VerifiedToken::getMemberId);
 	}
 
 	// 토큰 파싱: 이메일
 	public Optional<String> getEmail(String token) {
-		return safelyParseClaims(token)
-			.map(claims -> claims.get(CLAIM_EMAIL, String.class));
+		return verify(token).map(VerifiedToken::getEmail);
 	}
 
 
 	// 토큰 파싱: 타입 구분(access/refresh)
 	public Optional<String> getTokenType(String token) {
-		return safelyParseClaims(token)
-			.map(claims -> claims.get(CLAIM_TYPE, String.class));
+		return verify(token).map(VerifiedToken::getType);
 	}
 
 	// 토큰 파싱: 만료 시간
 	public Optional<Long> getExpiration(String token) {
-		return safelyParseClaims(token)
-			.map(Claims::getExpiration)
-			.map(exp -> exp.getTime() - System.currentTimeMillis());
+		return verify(token).map(VerifiedToken::getRemainingMillis);
 	}
 
 	// 토큰 파싱: socialUniqueId
 	public Optional<String> getSocialUniqueId(String token) {
-		return safelyParseClaims(token)
-			.map(claims -> claims.get(CLAIM_SOCIAL_UNIQUE_ID, String.class));
+		return verify(token).map(VerifiedToken::getSocialUniqueId);
 	}
 
 	// 토큰 검증 (만료 포함)
 	public boolean validateToken(String token, String expectedType) {
-		return safelyParseClaims(token)
-			.map(claims -> expectedType.equals(claims.get(CLAIM_TYPE, String.class)))
+		return verify(token)
+			.map(verifiedToken -> expectedType.equals(verifiedToken.getType()))
 			.orElse(false);
 	}
 
@@ -37,7 +37,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		
 		if (token.isPresent()) {
 			try {
-				validateAndSetAuthentication(token.get());
+				validateAndSetAuthentication(request, token.get());
 			} catch (JwtAuthenticationException e) {
 				SecurityContextHolder.clearContext();
 				request.setAttribute("jwtAuthenticationException", e);
@@ -47,35 +47,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
-	private void validateAndSetAuthentication(String token) {
-		// JWT 토큰 검증 - 명시적으로 Access Token 타입 확인
-		if (!jwtUtil.isAccessToken(token)) {
-			log.warn("유효하지 않은 Access Token입니다");
-			throw new InvalidJwtSignatureException();
-		}
+	private void validateAndSetAuthentication(HttpServletRequest request, String token) {
+		// JWT 토큰 검증 - 서명 검증은 요청당 한 번만 수행하고 Access Token 타입 확인
+		VerifiedToken verifiedToken = jwtUtil.verifyAccessToken(token)
+			.orElseThrow(() -> {
+				log.warn("유효하지 않은 Access Token입니다");
+				return new InvalidJwtSignatureException();
+			});
 		
 		// 블랙리스트 검증
-		if (blacklistService.isBlacklisted(token)) {
+		if (blacklistService.isBlacklistedHash(verifiedToken.getTokenDigest())) {
 			log.warn("블랙리스트에 등록된 토큰입니다.");
 			throw new BlacklistedJwtException();
 		}
 		
 		// 인증 설정
-		setAuthentication(token);
+		setAuthentication(request, verifiedToken);
 	}
 	
-	private void setAuthentication(String token) {
+	private void setAuthentication(HttpServletRequest request, VerifiedToken verifiedToken) {
 		try {
-			String email = jwtUtil.getEmail(token).orElse("");
-			String userId = jwtUtil.getId(token).orElse("");
-
 			Authentication authentication = new UsernamePasswordAuthenticationToken(
-				userId, // principal: 사용자 ID
+				verifiedToken, // principal: 검증된 토큰 클레임 (getName() = 사용자 ID)
 				null,   // credentials: JWT 토큰 기반이므로 null
 				Collections.singletonList(new SimpleGrantedAuthority("SOCIAL_USER")) // authorities
 			);
 			SecurityContextHolder.getContext().setAuthentication(authentication);
-			log.debug("JWT 기반 SecurityContext 저장 완료: email={}, userId={}", email, userId);
+			request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verifiedToken);
+			log.debug("JWT 기반 SecurityContext 저장 완료: email={}, userId={}",
+				verifiedToken.getEmail(), verifiedToken.getMemberId());
 		} catch (Exception e) {
 			log.warn("JWT 인증 처리 실패: {}", e.getMessage());
 			throw new InvalidJwtSignatureException(e);
@@ -17,15 +17,7 @@ public class JwtMemberExtractor {
 	private final TokenValidator tokenValidator;
 
 	public Long extractMemberId(HttpServletRequest request) {
-		String token = extractTokenFromRequest(request);
-		if (token == null) {
-			throw new BaseException(ErrorCode.ACCESS_TOKEN_REQUIRED);
-		}
-
-		TokenValidator.TokenValidationResult validation = tokenValidator.validateAccessToken(token);
-		if (!validation.isValid()) {
-			throw new BaseException(ErrorCode.INVALID_TOKEN);
-		}
+		TokenValidator.TokenValidationResult validation = resolveValidation(request);
 
 		try {
 			return Long.parseLong(validation.getMemberId());
@@ -35,20 +27,31 @@ public class JwtMemberExtractor {
 	}
 
 	public String extractMemberEmail(HttpServletRequest request) {
-		String token = extractTokenFromRequest(request);
-		if (token == null) {
-			throw new BaseException(ErrorCode.ACCESS_TOKEN_REQUIRED);
+		return resolveValidation(request).getEmail();
+	}
+
+	/**
+	 * 필터에서 이미 검증한 토큰이 있으면 재사용하고, 없을 때만 직접 파싱
+	 */
+	private TokenValidator.TokenValidationResult resolveValidation(HttpServletRequest request) {
+		TokenValidator.TokenValidationResult validation;
+		if (request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE) instanceof VerifiedToken verifiedToken) {
+			validation = tokenValidator.validateAccessToken(verifiedToken);
+		} else {
+			String token = extractTokenFromRequest(request);
+			if (token == null) {
+				throw new BaseException(ErrorCode.ACCESS_TOKEN_REQUIRED);
+			}
+			validation = tokenValidator.validateAccessToken(token);
 		}
 
-		TokenValidator.TokenValidationResult validation = tokenValidator.validateAccessToken(token);
 		if (!validation.isValid()) {
 			throw new BaseException(ErrorCode.INVALID_TOKEN);
 		}
-
-		return validation.getEmail();
+		return validation;
 	}
 
 	private String extractTokenFromRequest(HttpServletRequest request) {
 		return jwtUtil.extractAccessToken(request).orElse(null);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.groomthon.habiglow.global.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 원본 토큰 대신 보관/비교에 사용하는 SHA-256 다이제스트
+ */
+public final class TokenDigest {
+
+	private static final HexFormat HEX = HexFormat.of();
+
+	private TokenDigest() {
+	}
+
+	public static String sha256Hex(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 algorithm not available", e);
+		}
+	}
+}
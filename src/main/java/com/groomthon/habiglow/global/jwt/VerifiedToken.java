@@ -0,0 +1,64 @@
+package com.groomthon.habiglow.global.jwt;
+
+import java.security.Principal;
+import java.util.Date;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명 검증을 마친 JWT 클레임
+ * 요청당 한 번만 파싱하여 SecurityContext principal 및 요청 속성으로 공유
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class VerifiedToken implements Principal {
+
+	public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+	private final String token;
+	private final String tokenDigest;
+	private final String type;
+	private final String memberId;
+	private final String email;
+	private final String socialUniqueId;
+	private final long expiresAtMillis;
+
+	public static VerifiedToken of(String token, String tokenDigest, Claims claims) {
+		Date expiration = claims.getExpiration();
+		return new VerifiedToken(
+			token,
+			tokenDigest,
+			claims.get(JWTUtil.CLAIM_TYPE, String.class),
+			claims.get(JWTUtil.CLAIM_ID, String.class),
+			claims.get(JWTUtil.CLAIM_EMAIL, String.class),
+			claims.get(JWTUtil.CLAIM_SOCIAL_UNIQUE_ID, String.class),
+			expiration != null ? expiration.getTime() : Long.MAX_VALUE
+		);
+	}
+
+	public boolean isAccessToken() {
+		return JWTUtil.TOKEN_TYPE_ACCESS.equals(type);
+	}
+
+	public boolean isRefreshToken() {
+		return JWTUtil.TOKEN_TYPE_REFRESH.equals(type);
+	}
+
+	// 남은 유효 시간 (ms)
+	public long getRemainingMillis() {
+		return expiresAtMillis - System.currentTimeMillis();
+	}
+
+	@Override
+	public String getName() {
+		return memberId;
+	}
+
+	@Override
+	public String toString() {
+		return "VerifiedToken(memberId=" + memberId + ", type=" + type + ")";
+	}
+}
@@ -0,0 +1,83 @@
+package com.groomthon.habiglow.global.jwt;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 서명 검증을 마친 토큰 클레임 캐시
+ * 토큰 다이제스트를 키로 사용하며, 각 항목은 토큰의 exp 시점에 만료
+ * 히트/미스 지표는 cache.gets{cache=jwt.verified-tokens} 로 노출 (maximum-size 가 0 이하이면 비활성화)
+ */
+@Component
+public class VerifiedTokenCache {
+
+	static final String CACHE_NAME = "jwt.verified-tokens";
+
+	private final Cache<String, VerifiedToken> cache;
+	private final boolean enabled;
+
+	public VerifiedTokenCache(
+		@Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+		MeterRegistry meterRegistry) {
+		this.enabled = maximumSize > 0;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(Math.max(0, maximumSize))
+			.expireAfter(new ExpireAtTokenExpiration())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	public Optional<VerifiedToken> get(String tokenDigest) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(cache.getIfPresent(tokenDigest));
+	}
+
+	public void put(String tokenDigest, VerifiedToken verifiedToken) {
+		if (enabled && verifiedToken.getRemainingMillis() > 0) {
+			cache.put(tokenDigest, verifiedToken);
+		}
+	}
+
+	public void invalidate(String token) {
+		invalidateDigest(TokenDigest.sha256Hex(token));
+	}
+
+	public void invalidateDigest(String tokenDigest) {
+		cache.invalidate(tokenDigest);
+	}
+
+	public long size() {
+		return cache.estimatedSize();
+	}
+
+	private static class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.getRemainingMillis()));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+/**
+ * Rate Limit 버킷을 나누는 기준
+ * MEMBER 는 인증되지 않은 요청이면 IP 로 대체
+ */
+public enum KeyStrategy {
+	IP,
+	MEMBER,
+	IP_AND_MEMBER;
+
+	/**
+	 * 회원 ID 가 필요해 JWT 인증 이후에 적용해야 하는지 여부
+	 */
+	public boolean requiresMember() {
+		return this != IP;
+	}
+}
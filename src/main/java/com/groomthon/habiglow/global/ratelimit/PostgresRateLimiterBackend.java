@@ -0,0 +1,138 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Postgres 공유 토큰 버킷 (GCRA)
+ * 버킷 갱신은 DB 시계를 기준으로 한 번의 INSERT ... ON CONFLICT 로 원자적으로 처리
+ * DB 응답으로 "확실히 거부되는 구간"을 알게 되면 그 구간 동안은 로컬에서 바로 거부해 DB 왕복을 생략
+ * DB 장애 시에는 인스턴스 로컬 버킷(fallback)으로 제한을 유지
+ */
+@Slf4j
+public class PostgresRateLimiterBackend implements RateLimiterBackend {
+
+	static final String ACQUIRE_SQL = """
+		INSERT INTO rate_limit_buckets AS b (bucket_key, tat_micros, allowed, updated_at)
+		VALUES (:key, CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000000 AS BIGINT) + :interval, TRUE, now())
+		ON CONFLICT (bucket_key) DO UPDATE SET
+		    allowed = b.tat_micros - (EXCLUDED.tat_micros - :interval) <= :tolerance,
+		    tat_micros = CASE
+		        WHEN b.tat_micros - (EXCLUDED.tat_micros - :interval) <= :tolerance
+		            THEN GREATEST(b.tat_micros + :interval, EXCLUDED.tat_micros)
+		        ELSE b.tat_micros
+		    END,
+		    updated_at = now()
+		RETURNING allowed,
+		    tat_micros - CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000000 AS BIGINT) AS wait_micros
+		""";
+
+	static final String PURGE_SQL =
+		"DELETE FROM rate_limit_buckets WHERE updated_at < now() - make_interval(secs => :idleSeconds)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final RateLimiterBackend fallback;
+	private final Duration idleTimeout;
+	private final boolean localPrecheckEnabled;
+	private final Cache<RateLimitKey, Long> deniedUntilNanos;
+	private final Counter precheckRejections;
+	private final Counter databaseRoundTrips;
+
+	public PostgresRateLimiterBackend(NamedParameterJdbcTemplate jdbcTemplate, RateLimiterBackend fallback,
+		Duration idleTimeout, boolean localPrecheckEnabled, long precheckMaximumSize, MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.fallback = fallback;
+		this.idleTimeout = idleTimeout;
+		this.localPrecheckEnabled = localPrecheckEnabled;
+		this.deniedUntilNanos = Caffeine.newBuilder()
+			.maximumSize(precheckMaximumSize)
+			.expireAfterWrite(1, TimeUnit.HOURS)
+			.build();
+		this.precheckRejections = Counter.builder("rate-limiter.postgres.precheck.rejections")
+			.description("DB 조회 없이 로컬에서 거부된 요청 수")
+			.register(meterRegistry);
+		this.databaseRoundTrips = Counter.builder("rate-limiter.postgres.round-trips")
+			.description("버킷 갱신을 위한 DB 왕복 수")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public boolean tryAcquire(RateLimitKey key, double permitsPerSecond, int burst) {
+		long now = System.nanoTime();
+		if (localPrecheckEnabled && isKnownDenied(key, now)) {
+			precheckRejections.increment();
+			return false;
+		}
+
+		long intervalMicros = Math.max(1L, (long) (1_000_000L / permitsPerSecond));
+		long toleranceMicros = intervalMicros * (Math.max(1, burst) - 1);
+
+		List<Map<String, Object>> rows;
+		try {
+			databaseRoundTrips.increment();
+			rows = jdbcTemplate.queryForList(ACQUIRE_SQL, Map.of(
+				"key", key.asString(),
+				"interval", intervalMicros,
+				"tolerance", toleranceMicros));
+		} catch (DataAccessException e) {
+			log.warn("Shared rate limit bucket unavailable, using local bucket: {}", e.getMessage());
+			return fallback.tryAcquire(key, permitsPerSecond, burst);
+		}
+
+		if (rows.isEmpty()) {
+			log.warn("Rate limit bucket update returned no row for key: {}", key);
+			return true;
+		}
+
+		Map<String, Object> row = rows.get(0);
+		boolean allowed = Boolean.TRUE.equals(row.get("allowed"));
+		long waitMicros = ((Number) row.get("wait_micros")).longValue();
+
+		// 다음 요청이 허용되기까지 남은 시간: TAT - tolerance - now
+		long deniedForMicros = waitMicros - toleranceMicros;
+		if (localPrecheckEnabled && deniedForMicros > 0) {
+			deniedUntilNanos.put(key, now + TimeUnit.MICROSECONDS.toNanos(deniedForMicros));
+		}
+		return allowed;
+	}
+
+	/**
+	 * 유휴 시간이 지난 버킷 정리 (유휴 시간은 가장 느린 충전 간격보다 길어야 함)
+	 */
+	@Scheduled(fixedDelayString = "${rate-limit.store.idle-timeout:PT10M}")
+	public void purgeIdleBuckets() {
+		try {
+			int deleted = jdbcTemplate.update(PURGE_SQL, Map.of("idleSeconds", idleTimeout.toSeconds()));
+			if (deleted > 0) {
+				log.debug("Purged {} idle rate limit buckets", deleted);
+			}
+		} catch (DataAccessException e) {
+			log.warn("Failed to purge idle rate limit buckets: {}", e.getMessage());
+		}
+	}
+
+	private boolean isKnownDenied(RateLimitKey key, long now) {
+		Long deniedUntil = deniedUntilNanos.getIfPresent(key);
+		if (deniedUntil == null) {
+			return false;
+		}
+		if (deniedUntil - now > 0) {
+			return true;
+		}
+		deniedUntilNanos.invalidate(key);
+		return false;
+	}
+}
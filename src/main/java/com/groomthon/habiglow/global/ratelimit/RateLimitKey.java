@@ -0,0 +1,19 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+/**
+ * Rate Limit 버킷 키
+ * 문자열 결합 없이 정책 이름과 요청 주체 값을 그대로 담아 로컬 버킷 조회에 사용
+ *
+ * @param policy   정책 이름
+ * @param ip       클라이언트 IP (IP 기준이 아니면 null)
+ * @param memberId 회원 ID (회원 기준이 아니면 null)
+ */
+public record RateLimitKey(String policy, String ip, String memberId) {
+
+	/**
+	 * 공유 저장소(DB)용 문자열 키
+	 */
+	public String asString() {
+		return policy + ":" + (ip != null ? ip : "-") + ":" + (memberId != null ? memberId : "-");
+	}
+}
@@ -0,0 +1,36 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 시작 시점에 검증/컴파일된 경로별 Rate Limit 정책
+ */
+@Getter
+public class RateLimitPolicy {
+
+	private final String name;
+	private final String path;
+	private final double permitsPerSecond;
+	private final int burst;
+	private final KeyStrategy keyStrategy;
+
+	public RateLimitPolicy(String name, String path, double permitsPerSecond, int burst, KeyStrategy keyStrategy) {
+		if (name == null || name.isBlank()) {
+			throw new IllegalArgumentException("Rate limit policy name is required");
+		}
+		if (path == null || !path.startsWith("/")) {
+			throw new IllegalArgumentException("Rate limit policy '" + name + "' has invalid path: " + path);
+		}
+		if (!(permitsPerSecond > 0)) {
+			throw new IllegalArgumentException("Rate limit policy '" + name + "' must have a positive rate");
+		}
+		if (burst < 1) {
+			throw new IllegalArgumentException("Rate limit policy '" + name + "' must have burst >= 1");
+		}
+		this.name = name;
+		this.path = path;
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = burst;
+		this.keyStrategy = keyStrategy != null ? keyStrategy : KeyStrategy.IP;
+	}
+}
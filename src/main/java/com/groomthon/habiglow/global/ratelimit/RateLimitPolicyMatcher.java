@@ -0,0 +1,77 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 URI 에 적용할 Rate Limit 정책을 찾는 사전 컴파일된 매처
+ * 지원 패턴: 정확한 경로("/api/auth/social/login"), 하위 경로 전체("/api/dashboard/**")
+ * 정확한 경로는 HashMap 조회, 하위 경로 패턴은 긴 prefix 우선으로 비교하며 요청 시점에 객체를 만들지 않음
+ */
+public class RateLimitPolicyMatcher {
+
+	private static final String SUBTREE_SUFFIX = "/**";
+
+	private final Map<String, RateLimitPolicy> exactPolicies;
+	private final String[] prefixes;
+	private final RateLimitPolicy[] prefixPolicies;
+
+	public RateLimitPolicyMatcher(List<RateLimitPolicy> policies) {
+		Map<String, RateLimitPolicy> exact = new HashMap<>();
+		List<RateLimitPolicy> subtree = new ArrayList<>();
+
+		for (RateLimitPolicy policy : policies) {
+			String path = policy.getPath();
+			if (path.endsWith(SUBTREE_SUFFIX)) {
+				validateLiteral(policy, path.substring(0, path.length() - SUBTREE_SUFFIX.length()));
+				subtree.add(policy);
+			} else {
+				validateLiteral(policy, path);
+				// 같은 경로가 여러 번 정의되면 먼저 정의된 정책 사용
+				exact.putIfAbsent(path, policy);
+			}
+		}
+
+		subtree.sort(Comparator.comparingInt((RateLimitPolicy p) -> p.getPath().length()).reversed());
+		this.exactPolicies = Map.copyOf(exact);
+		this.prefixes = new String[subtree.size()];
+		this.prefixPolicies = new RateLimitPolicy[subtree.size()];
+		for (int i = 0; i < subtree.size(); i++) {
+			String path = subtree.get(i).getPath();
+			prefixes[i] = path.substring(0, path.length() - SUBTREE_SUFFIX.length());
+			prefixPolicies[i] = subtree.get(i);
+		}
+	}
+
+	/**
+	 * @return 적용할 정책, 없으면 null
+	 */
+	public RateLimitPolicy match(String uri) {
+		RateLimitPolicy policy = exactPolicies.get(uri);
+		if (policy != null) {
+			return policy;
+		}
+		for (int i = 0; i < prefixes.length; i++) {
+			String prefix = prefixes[i];
+			if (uri.startsWith(prefix)
+				&& (uri.length() == prefix.length() || uri.charAt(prefix.length()) == '/')) {
+				return prefixPolicies[i];
+			}
+		}
+		return null;
+	}
+
+	public boolean isEmpty() {
+		return exactPolicies.isEmpty() && prefixes.length == 0;
+	}
+
+	private static void validateLiteral(RateLimitPolicy policy, String literal) {
+		if (literal.indexOf('*') >= 0 || literal.indexOf('{') >= 0 || literal.indexOf('?') >= 0) {
+			throw new IllegalArgumentException("Rate limit policy '" + policy.getName()
+				+ "' uses unsupported path pattern: " + policy.getPath());
+		}
+	}
+}
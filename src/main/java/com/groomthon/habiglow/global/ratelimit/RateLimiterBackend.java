@@ -0,0 +1,16 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+/**
+ * Rate Limit 토큰 버킷 저장소 추상화
+ * rate-limit.backend 설정으로 구현체 선택 (memory: 인스턴스별, postgres: 클러스터 공유)
+ */
+public interface RateLimiterBackend {
+
+	/**
+	 * @param key              버킷 키
+	 * @param permitsPerSecond 초당 허용 요청 수
+	 * @param burst            연속으로 허용되는 최대 요청 수
+	 * @return 요청 허용 여부
+	 */
+	boolean tryAcquire(RateLimitKey key, double permitsPerSecond, int burst);
+}
@@ -0,0 +1,46 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 인스턴스 로컬 토큰 버킷 저장소 (기본 RateLimiterBackend)
+ * 키: RateLimitKey(정책, IP, 회원 ID)
+ * 최대 항목 수와 유휴 만료 시간으로 크기를 제한하고, 크기/축출 지표를 cache.* {cache=rate-limiter.buckets} 로 노출
+ */
+public class RateLimiterStore implements RateLimiterBackend {
+
+	static final String CACHE_NAME = "rate-limiter.buckets";
+
+	private final Cache<RateLimitKey, TokenBucket> buckets;
+
+	public RateLimiterStore(long maximumSize, Duration idleTimeout, MeterRegistry meterRegistry) {
+		this.buckets = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterAccess(idleTimeout)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, buckets, CACHE_NAME);
+	}
+
+	@Override
+	public boolean tryAcquire(RateLimitKey key, double permitsPerSecond, int burst) {
+		long now = System.nanoTime();
+		long emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+		// 기존 버킷이면 람다 캡처 없이 조회
+		TokenBucket bucket = buckets.getIfPresent(key);
+		if (bucket == null) {
+			bucket = buckets.get(key, k -> new TokenBucket(now));
+		}
+		return bucket.tryAcquire(now, emissionIntervalNanos, burst);
+	}
+
+	public long size() {
+		return buckets.estimatedSize();
+	}
+}
@@ -0,0 +1,37 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷
+ * 다음 요청이 허용되는 이론적 도착 시각(TAT) 하나만 long 으로 보관
+ */
+final class TokenBucket {
+
+	private static final AtomicLongFieldUpdater<TokenBucket> TAT =
+		AtomicLongFieldUpdater.newUpdater(TokenBucket.class, "theoreticalArrivalNanos");
+
+	private volatile long theoreticalArrivalNanos;
+
+	TokenBucket(long nowNanos) {
+		this.theoreticalArrivalNanos = nowNanos;
+	}
+
+	/**
+	 * @param emissionIntervalNanos 토큰 1개가 채워지는 간격 (1 / rate)
+	 * @param burst                 연속으로 허용되는 최대 요청 수
+	 */
+	boolean tryAcquire(long nowNanos, long emissionIntervalNanos, int burst) {
+		long burstToleranceNanos = emissionIntervalNanos * (Math.max(1, burst) - 1);
+		while (true) {
+			long tat = theoreticalArrivalNanos;
+			long base = tat - nowNanos > 0 ? tat : nowNanos;
+			if (base - nowNanos > burstToleranceNanos) {
+				return false;
+			}
+			if (TAT.compareAndSet(this, tat, base + emissionIntervalNanos)) {
+				return true;
+			}
+		}
+	}
+}
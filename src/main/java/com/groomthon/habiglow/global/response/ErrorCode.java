@@ -50,10 +50,16 @@ public enum ErrorCode implements ErrorType {
 	DAILY_RECORD_INVALID_PERFORMANCE_LEVEL("DAILY002", "올바르지 않은 수행 정도입니다", HttpStatus.BAD_REQUEST.value()),
 	DAILY_RECORD_INVALID_EMOTION_TYPE("DAILY003", "올바르지 않은 감정 타입입니다", HttpStatus.BAD_REQUEST.value()),
 	DAILY_RECORD_INVALID_ROUTINES("DAILY004", "유효하지 않은 루틴이 포함되어 있습니다", HttpStatus.BAD_REQUEST.value()),
+	DAILY_RECORD_DUPLICATE_DATE("DAILY005", "같은 날짜의 기록이 중복되어 있습니다", HttpStatus.BAD_REQUEST.value()),
+	DAILY_RECORD_EMPTY("DAILY006", "저장할 루틴 기록이나 회고가 없습니다", HttpStatus.BAD_REQUEST.value()),
 
 	// 보안 관련 오류 (SECURITY)
 	TOO_MANY_REQUESTS("SECURITY001", "너무 많은 요청입니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS.value()),
 
+	// 멱등성 키 관련 오류 (IDEMPOTENCY)
+	IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY001", "같은 멱등성 키로 다른 요청을 보낼 수 없습니다", HttpStatus.UNPROCESSABLE_ENTITY.value()),
+	IDEMPOTENCY_REQUEST_IN_PROGRESS("IDEMPOTENCY002", "같은 멱등성 키의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT.value()),
+
 	// AI 관련
 	AI_ANALYSIS_FAILED("AI001", "AI 주간 인사이트 분석에 실패했습니다.", HttpStatus.SERVICE_UNAVAILABLE.value()),
 	AI_RESPONSE_PARSE_FAILED("AI002", "AI 응답 파싱에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR.value()),
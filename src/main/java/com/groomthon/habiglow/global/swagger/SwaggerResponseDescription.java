@@ -40,6 +40,7 @@ public enum SwaggerResponseDescription {
 		ErrorCode.DAILY_RECORD_INVALID_PERFORMANCE_LEVEL,
 		ErrorCode.DAILY_RECORD_INVALID_EMOTION_TYPE,
 		ErrorCode.DAILY_RECORD_INVALID_ROUTINES,
+		ErrorCode.DAILY_RECORD_DUPLICATE_DATE,
 		ErrorCode.ROUTINE_NOT_FOUND,
 		ErrorCode.MEMBER_NOT_FOUND,
 		ErrorCode.INVALID_INPUT_VALUE,
@@ -0,0 +1,11 @@
+-- 지난 달 루틴 기록 보관 (DailyRoutineArchiveRepository 가 회원/월 단위로 압축해 옮긴 뒤 원본 행 삭제)
+-- records: [{"routineId": 1, "routineTitle": "...", ..., "days": [{"d": 15, "l": "FULL_SUCCESS", "s": 3}, ...]}, ...]
+-- 루틴 스냅샷 컬럼은 같은 값끼리 한 번만 저장하고, 날짜별로는 일/수행 정도/연속 일수만 저장
+CREATE TABLE IF NOT EXISTS daily_routine_archive (
+    member_id BIGINT NOT NULL,
+    archive_month DATE NOT NULL,
+    record_count INTEGER NOT NULL,
+    records JSONB NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (member_id, archive_month)
+);
@@ -0,0 +1,12 @@
+-- 회원/날짜별 루틴 기록 요약 (DailySummaryRepository 가 기록 저장 트랜잭션 안에서 갱신)
+-- category_counts: {"HEALTH": {"done": 2, "total": 3}, ...} (done = 완전 성공 + 부분 성공)
+CREATE TABLE IF NOT EXISTS daily_summary (
+    member_id BIGINT NOT NULL,
+    summary_date DATE NOT NULL,
+    total_count INTEGER NOT NULL,
+    full_success_count INTEGER NOT NULL,
+    partial_success_count INTEGER NOT NULL,
+    category_counts JSONB NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (member_id, summary_date)
+);
@@ -0,0 +1,7 @@
+-- 회원별 데이터 버전 (MemberDataVersionService)
+-- 기록/루틴이 바뀔 때마다 version 증가, 조회 API 의 ETag 로 사용
+CREATE TABLE IF NOT EXISTS member_data_version (
+    member_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,29 @@
+-- IDENTITY -> pooled 시퀀스 전환 (allocationSize 50, pooled-lo 최적화)
+-- 아직 IDENTITY 인 컬럼만 기본값을 제거하고, 그 시점에 한 번만 시퀀스를 기존 최대 ID 이상으로 맞춤
+-- 이미 전환된 뒤의 기동은 시퀀스를 건드리지 않으므로 다른 인스턴스가 할당한 블록과 겹치지 않음
+-- 여러 인스턴스가 동시에 기동해도 테이블 잠금 후 다시 확인하므로 전환은 한 번만 실행됨
+-- (스크립트 구분자가 ; 라서 본문은 작은따옴표 문자열로 작성)
+
+DO '
+DECLARE
+    t record;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+        (''daily_routine_table'', ''daily_routine_id'', ''daily_routine_seq''),
+        (''daily_reflection_table'', ''reflection_id'', ''daily_reflection_seq''),
+        (''routine_table'', ''routine_id'', ''routine_seq''),
+        (''notification_tokens'', ''id'', ''notification_token_seq''),
+        (''weekly_insights'', ''id'', ''weekly_insight_seq'')) AS v(table_name, column_name, sequence_name)
+    LOOP
+        IF EXISTS (SELECT 1 FROM pg_attribute
+                   WHERE attrelid = t.table_name::regclass AND attname = t.column_name AND attidentity <> '''') THEN
+            EXECUTE format(''LOCK TABLE %I IN ACCESS EXCLUSIVE MODE'', t.table_name);
+            IF EXISTS (SELECT 1 FROM pg_attribute
+                       WHERE attrelid = t.table_name::regclass AND attname = t.column_name AND attidentity <> '''') THEN
+                EXECUTE format(''ALTER TABLE %I ALTER COLUMN %I DROP IDENTITY'', t.table_name, t.column_name);
+                EXECUTE format(''SELECT setval(%L, GREATEST((SELECT COALESCE(MAX(%I), 0) FROM %I), (SELECT last_value FROM %I)))'',
+                    t.sequence_name, t.column_name, t.table_name, t.sequence_name);
+            END IF;
+        END IF;
+    END LOOP;
+END';
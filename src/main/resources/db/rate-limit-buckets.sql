@@ -0,0 +1,10 @@
+-- 클러스터 공유 Rate Limit 버킷 (PostgresRateLimiterBackend)
+-- tat_micros: 다음 요청이 허용되는 이론적 도착 시각 (epoch microseconds, DB 시계 기준)
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key VARCHAR(255) PRIMARY KEY,
+    tat_micros BIGINT NOT NULL,
+    allowed BOOLEAN NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_limit_buckets_updated_at ON rate_limit_buckets (updated_at);
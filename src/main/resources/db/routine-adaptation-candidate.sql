@@ -0,0 +1,29 @@
+-- 루틴별 목표 조정(성장/감소) 대상 (RoutineAdaptationCandidateService 가 매일 자정 이후 전체 재평가, 루틴 변경/기록 저장 시 해당 루틴만 재평가)
+-- evaluated_for: 평가 기준일 (성장은 이 날짜 전날의 완전 성공 기록 필요), 조회는 오늘 기준 행만 사용
+CREATE TABLE IF NOT EXISTS routine_adaptation_candidate (
+    routine_id BIGINT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    adaptation_type VARCHAR(16) NOT NULL,
+    title VARCHAR(100),
+    category VARCHAR(255),
+    target_type VARCHAR(255),
+    current_target INTEGER,
+    suggested_target INTEGER,
+    target_increment INTEGER,
+    growth_cycle_days INTEGER,
+    consecutive_days INTEGER,
+    current_cycle_days INTEGER,
+    failure_cycle_days INTEGER,
+    last_performed_date DATE,
+    evaluated_for DATE NOT NULL,
+    evaluated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_routine_adaptation_candidate_member
+    ON routine_adaptation_candidate (member_id, evaluated_for);
+
+-- 전체 재평가가 끝난 기준일 (오늘 행이 없으면 조회는 실시간 분석으로 대신함)
+CREATE TABLE IF NOT EXISTS routine_adaptation_refresh (
+    evaluated_for DATE PRIMARY KEY,
+    completed_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,73 @@
+package com.groomthon.habiglow.domain.auth.service;
+
+import com.groomthon.habiglow.domain.auth.repository.BlacklistedTokenRepository;
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationPublisher;
+import com.groomthon.habiglow.global.jwt.TokenDigest;
+import com.groomthon.habiglow.global.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlacklistServiceTest {
+
+    private static final String BLACKLISTED_TOKEN = "header.blacklisted.signature";
+    private static final String ACTIVE_TOKEN = "header.active.signature";
+
+    @Mock
+    private BlacklistedTokenRepository repository;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private BlacklistService blacklistService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BlacklistFilter blacklistFilter = new BlacklistFilter(repository, 1_000, 0.001, Duration.ofSeconds(30), meterRegistry);
+        blacklistService = new BlacklistService(repository, new VerifiedTokenCache(100, meterRegistry), blacklistFilter,
+            invalidationPublisher);
+
+        when(repository.findActiveTokenHashes(any(LocalDateTime.class)))
+            .thenReturn(List.of(TokenDigest.sha256Hex(BLACKLISTED_TOKEN)));
+        blacklistFilter.warmUp();
+    }
+
+    @Test
+    void isBlacklisted_등록되지_않은_토큰은_DB_조회_없음() {
+        assertFalse(blacklistService.isBlacklisted(ACTIVE_TOKEN));
+
+        verify(repository, never()).existsByTokenHashAndExpiresAtAfter(anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void isBlacklisted_등록된_토큰은_한번만_DB_조회() {
+        String hash = TokenDigest.sha256Hex(BLACKLISTED_TOKEN);
+        when(repository.existsByTokenHashAndExpiresAtAfter(eq(hash), any(LocalDateTime.class))).thenReturn(true);
+
+        assertTrue(blacklistService.isBlacklisted(BLACKLISTED_TOKEN));
+        assertTrue(blacklistService.isBlacklisted(BLACKLISTED_TOKEN));
+
+        verify(repository, times(1)).existsByTokenHashAndExpiresAtAfter(eq(hash), any(LocalDateTime.class));
+    }
+
+    @Test
+    void addToBlacklist_등록_직후_DB_조회_없이_차단() {
+        blacklistService.addToBlacklist(ACTIVE_TOKEN, 60_000);
+
+        assertTrue(blacklistService.isBlacklisted(ACTIVE_TOKEN));
+        verify(repository, never()).existsByTokenHashAndExpiresAtAfter(anyString(), any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,121 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.daily.service.DailyRoutinePartitionManager;
+import com.groomthon.habiglow.domain.daily.service.DailyRoutinePartitionManager.RetentionAction;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+
+@Import({DailyRoutinePartitionRepository.class, DailyRoutineBulkRepository.class})
+class DailyRoutinePartitionTest extends PostgresJpaTestSupport {
+
+    // 2025-10 기준: 기존 기록은 8월, 9월
+    private static final Clock CLOCK = Clock.fixed(
+        LocalDate.of(2025, 10, 5).atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    @Autowired
+    private DailyRoutinePartitionRepository partitionRepository;
+
+    @Autowired
+    private DailyRoutineBulkRepository bulkRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MemberEntity member;
+    private RoutineEntity routine;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(MemberEntity.createSocialMember(
+            "partition@habiglow.com", "partition", SocialType.KAKAO, "partition-1", null));
+        routine = em.persist(RoutineEntity.createRoutine(
+            member, "run", null, RoutineCategory.HEALTH, false, null, null, null, null));
+        em.persist(DailyRoutineEntity.create(routine, member, PerformanceLevel.FULL_SUCCESS, LocalDate.of(2025, 8, 15), 1));
+        em.persist(DailyRoutineEntity.create(routine, member, PerformanceLevel.FULL_SUCCESS, LocalDate.of(2025, 9, 10), 1));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void migrate_기존_기록과_제약_조건을_유지한_채_월별_파티션으로_전환() {
+        assertTrue(manager(1, 0).migrate());
+        assertFalse(manager(1, 0).migrate());
+
+        assertTrue(partitionRepository.isPartitioned());
+        assertEquals(List.of(YearMonth.of(2025, 8), YearMonth.of(2025, 9), YearMonth.of(2025, 10),
+            YearMonth.of(2025, 11)), List.copyOf(partitionRepository.findPartitions().keySet()));
+        assertEquals(2, count("daily_routine_table"));
+        assertEquals(1, count("daily_routine_table_p202508"));
+
+        // ON CONFLICT (member_id, routine_id, performed_date) 대상 유니크 제약 유지
+        bulkRepository.upsertAll(List.of(DailyRoutineEntity.create(
+            routine, member, PerformanceLevel.NOT_PERFORMED, LocalDate.of(2025, 9, 10), 0)));
+        assertEquals(2, count("daily_routine_table"));
+        assertEquals("NOT_PERFORMED", jdbcTemplate.queryForObject(
+            "SELECT performance_level FROM daily_routine_table WHERE performed_date = '2025-09-10'", String.class));
+    }
+
+    @Test
+    void 날짜_조건_조회는_해당_월_파티션만_탐색() {
+        manager(1, 0).migrate();
+
+        String plan = explain("SELECT * FROM daily_routine_table WHERE member_id = " + member.getId()
+            + " AND performed_date BETWEEN '2025-09-01' AND '2025-09-30'");
+        assertTrue(plan.contains("daily_routine_table_p202509"), plan);
+        assertFalse(plan.contains("daily_routine_table_p202508"), plan);
+        assertFalse(plan.contains("daily_routine_table_default"), plan);
+
+        String streakPlan = explain("SELECT * FROM daily_routine_table WHERE member_id = " + member.getId()
+            + " AND routine_id = ANY('{1}') AND performed_date >= '2025-09-10'");
+        assertFalse(streakPlan.contains("daily_routine_table_p202508"), streakPlan);
+    }
+
+    @Test
+    void 파티션_관리_미래_파티션_생성과_보관_기간_지난_파티션_분리() {
+        manager(1, 0).migrate();
+
+        assertEquals(2, manager(3, 0).ensureFuturePartitions());
+        assertEquals(0, manager(3, 0).ensureFuturePartitions());
+
+        assertEquals(List.of("daily_routine_table_p202508"), manager(1, 1).applyRetention());
+        assertEquals(1, count("daily_routine_table"));
+        // 분리된 파티션은 독립 테이블로 남음
+        assertEquals(1, count("daily_routine_table_p202508"));
+    }
+
+    private DailyRoutinePartitionManager manager(int premakeMonths, int retentionMonths) {
+        return new DailyRoutinePartitionManager(partitionRepository, CLOCK, premakeMonths, retentionMonths,
+            RetentionAction.DETACH);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.common.TargetType;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+
+/**
+ * 버전 도입 전 DB (스냅샷 컬럼이 남아 있고 버전 ID 가 없는 기록) 를 만들어 이관 확인
+ */
+@Import(DailyRoutineVersionMigrationRepository.class)
+class DailyRoutineVersionMigrationRepositoryTest extends PostgresJpaTestSupport {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 1);
+
+    @Autowired
+    private DailyRoutineVersionMigrationRepository migrationRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long routineId;
+    private Long routineVersionId;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "version@habiglow.com", "version", SocialType.KAKAO, "version-1", null));
+        RoutineEntity routine = em.persist(RoutineEntity.createRoutine(
+            member, "run", null, RoutineCategory.HEALTH, false, null, null, null, null));
+        em.flush();
+        memberId = member.getId();
+        routineId = routine.getRoutineId();
+        routineVersionId = routine.getCurrentVersion().getVersionId();
+        em.clear();
+
+        jdbcTemplate.execute("""
+            ALTER TABLE daily_routine_table
+                ADD COLUMN routine_title varchar(100), ADD COLUMN routine_category varchar(255),
+                ADD COLUMN is_growth_mode boolean, ADD COLUMN target_type varchar(255),
+                ADD COLUMN target_value integer, ADD COLUMN growth_cycle_days integer,
+                ADD COLUMN target_increment integer
+            """);
+        jdbcTemplate.update("UPDATE routine_table SET current_version_id = NULL WHERE routine_id = ?", routineId);
+
+        // 같은 스냅샷 3일 + 성장 모드로 바꾼 뒤 1일
+        for (int i = 0; i < 3; i++) {
+            insertLegacyRecord(DATE.plusDays(i), false, null, null);
+        }
+        insertLegacyRecord(DATE.plusDays(3), true, TargetType.NUMBER, 10);
+    }
+
+    @Test
+    void linkRecords_같은_스냅샷은_하나의_버전으로_합쳐_연결() {
+        assertTrue(migrationRepository.hasLegacyColumns());
+
+        assertEquals(4, migrationRepository.linkRecords());
+        assertEquals(1, migrationRepository.linkRoutines());
+
+        // 루틴의 기존 버전과 같은 값이면 새로 만들지 않음
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM routine_version", Long.class));
+        List<Long> versionIds = jdbcTemplate.queryForList(
+            "SELECT routine_version_id FROM daily_routine_table WHERE member_id = ? ORDER BY performed_date",
+            Long.class, memberId);
+        assertEquals(List.of(routineVersionId, routineVersionId, routineVersionId), versionIds.subList(0, 3));
+        assertNotEquals(routineVersionId, versionIds.get(3));
+        assertEquals(routineVersionId, jdbcTemplate.queryForObject(
+            "SELECT current_version_id FROM routine_table WHERE routine_id = ?", Long.class, routineId));
+
+        // 다시 실행해도 추가로 연결하거나 만들지 않음
+        assertEquals(0, migrationRepository.linkRecords());
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM routine_version", Long.class));
+    }
+
+    @Test
+    void linkRecords_스냅샷_없는_기록은_루틴의_현재_버전으로_연결() {
+        // 루틴 버전 연결 전에 저장되어 스냅샷 컬럼이 모두 비어 있는 기록
+        jdbcTemplate.update("""
+            INSERT INTO daily_routine_table (daily_routine_id, member_id, routine_id, performance_level,
+                consecutive_days, performed_date, created_at)
+            VALUES (nextval('daily_routine_seq'), ?, ?, 'FULL_SUCCESS', 0, ?, now())
+            """, memberId, routineId, DATE.plusDays(10));
+
+        assertEquals(4, migrationRepository.linkRecords());
+        migrationRepository.linkRoutines();
+        assertEquals(1, migrationRepository.linkRecordsToRoutines());
+
+        // 모두 NULL 인 스냅샷으로 버전을 만들지 않음
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM routine_version", Long.class));
+        assertEquals(routineVersionId, jdbcTemplate.queryForObject(
+            "SELECT routine_version_id FROM daily_routine_table WHERE performed_date = ?", Long.class,
+            DATE.plusDays(10)));
+    }
+
+    @Test
+    void dropLegacyColumns_스냅샷_컬럼_삭제() {
+        migrationRepository.linkRecords();
+
+        migrationRepository.dropLegacyColumns();
+
+        assertFalse(migrationRepository.hasLegacyColumns());
+        assertTrue(migrationRepository.measureSize().tableBytes() > 0);
+    }
+
+    private void insertLegacyRecord(LocalDate date, boolean growthMode, TargetType targetType, Integer targetValue) {
+        jdbcTemplate.update("""
+            INSERT INTO daily_routine_table (daily_routine_id, member_id, routine_id, performance_level,
+                consecutive_days, performed_date, created_at,
+                routine_title, routine_category, is_growth_mode, target_type, target_value)
+            VALUES (nextval('daily_routine_seq'), ?, ?, 'FULL_SUCCESS', 0, ?, now(), 'run', 'HEALTH', ?, ?, ?)
+            """, memberId, routineId, date, growthMode, targetType != null ? targetType.name() : null, targetValue);
+    }
+}
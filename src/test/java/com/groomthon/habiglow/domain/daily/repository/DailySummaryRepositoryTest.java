@@ -0,0 +1,139 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+
+@Import({DailySummaryRepository.class, JacksonAutoConfiguration.class})
+class DailySummaryRepositoryTest extends PostgresJpaTestSupport {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 10);
+
+    @Autowired
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "summary@habiglow.com", "summary", SocialType.KAKAO, "summary-1", null));
+        RoutineEntity run = em.persist(RoutineEntity.createRoutine(
+            member, "run", null, RoutineCategory.HEALTH, false, null, null, null, null));
+        RoutineEntity stretch = em.persist(RoutineEntity.createRoutine(
+            member, "stretch", null, RoutineCategory.HEALTH, false, null, null, null, null));
+        RoutineEntity read = em.persist(RoutineEntity.createRoutine(
+            member, "read", null, RoutineCategory.LEARNING, false, null, null, null, null));
+
+        em.persist(DailyRoutineEntity.create(run, member, PerformanceLevel.FULL_SUCCESS, DATE, 1));
+        em.persist(DailyRoutineEntity.create(stretch, member, PerformanceLevel.PARTIAL_SUCCESS, DATE, 0));
+        em.persist(DailyRoutineEntity.create(read, member, PerformanceLevel.NOT_PERFORMED, DATE, 0));
+        em.persist(DailyRoutineEntity.create(run, member, PerformanceLevel.FULL_SUCCESS, DATE.plusDays(1), 2));
+        em.flush();
+        memberId = member.getId();
+    }
+
+    @Test
+    void refresh_하루치_기록을_카테고리별로_집계() {
+        dailySummaryRepository.refresh(memberId, DATE);
+
+        List<DailySummary> summaries = dailySummaryRepository.findByMemberIdAndDateRange(memberId, DATE, DATE);
+
+        assertEquals(1, summaries.size());
+        DailySummary summary = summaries.get(0);
+        assertEquals(3, summary.totalCount());
+        assertEquals(1, summary.fullSuccessCount());
+        assertEquals(1, summary.partialSuccessCount());
+        assertEquals(2, summary.doneCount());
+        assertEquals(new DailySummary.CategoryCount(2, 2), summary.categoryCounts().get(RoutineCategory.HEALTH.name()));
+        assertEquals(new DailySummary.CategoryCount(0, 1), summary.categoryCounts().get(RoutineCategory.LEARNING.name()));
+    }
+
+    @Test
+    void refresh_카테고리_없는_기록은_미분류로_집계() {
+        jdbcTemplate.update("""
+            UPDATE daily_routine_table SET routine_version_id = NULL
+            WHERE member_id = ? AND performed_date = ? AND performance_level = 'NOT_PERFORMED'
+            """, memberId, DATE);
+
+        dailySummaryRepository.refresh(memberId, DATE);
+
+        DailySummary summary = dailySummaryRepository.findByMemberIdAndDateRange(memberId, DATE, DATE).get(0);
+        assertEquals(3, summary.totalCount());
+        assertEquals(new DailySummary.CategoryCount(2, 2), summary.categoryCounts().get(RoutineCategory.HEALTH.name()));
+        assertEquals(new DailySummary.CategoryCount(0, 1), summary.categoryCounts().get(DailySummary.UNCATEGORIZED));
+        assertFalse(summary.categoryCounts().containsKey(RoutineCategory.LEARNING.name()));
+    }
+
+    @Test
+    void refresh_기록_변경과_삭제_반영() {
+        dailySummaryRepository.refresh(memberId, DATE);
+
+        jdbcTemplate.update("UPDATE daily_routine_table SET performance_level = 'NOT_PERFORMED' WHERE member_id = ?",
+            memberId);
+        dailySummaryRepository.refresh(memberId, DATE);
+        assertEquals(0, dailySummaryRepository.findByMemberIdAndDateRange(memberId, DATE, DATE).get(0).doneCount());
+
+        jdbcTemplate.update("DELETE FROM daily_routine_table WHERE member_id = ? AND performed_date = ?", memberId, DATE);
+        dailySummaryRepository.refresh(memberId, DATE);
+        assertTrue(dailySummaryRepository.findByMemberIdAndDateRange(memberId, DATE, DATE).isEmpty());
+    }
+
+    @Test
+    void rebuildMembers_원본_기록과_동일한_집계() {
+        int rows = dailySummaryRepository.rebuildMembers(dailySummaryRepository.findMemberIdsWithRecords());
+
+        List<DailySummary> summaries = dailySummaryRepository
+            .findByMemberIdAndDateRange(memberId, DATE, DATE.plusDays(1));
+        // 원본 기록을 직접 집계한 값 (날짜, 전체 수, 완전 성공 수)
+        List<List<Object>> expected = jdbcTemplate.query("""
+            SELECT performed_date, COUNT(*) AS total_count,
+                COUNT(*) FILTER (WHERE performance_level = 'FULL_SUCCESS') AS full_success_count
+            FROM daily_routine_table
+            WHERE member_id = ? AND performed_date BETWEEN ? AND ?
+            GROUP BY performed_date
+            ORDER BY performed_date
+            """, (rs, rowNum) -> List.of(rs.getObject("performed_date", LocalDate.class),
+            rs.getInt("total_count"), rs.getInt("full_success_count")), memberId, DATE, DATE.plusDays(1));
+
+        assertEquals(2, rows);
+        assertEquals(expected, summaries.stream()
+            .map(summary -> List.<Object>of(summary.summaryDate(), summary.totalCount(), summary.fullSuccessCount()))
+            .toList());
+    }
+
+    @Test
+    void deleteOrphans_보관_기간_이전_요약은_원본이_없어도_유지() {
+        dailySummaryRepository.rebuildMembers(List.of(memberId));
+        // DATE 가 속한 달의 파티션이 분리되어 원본이 사라진 상태
+        jdbcTemplate.update("DELETE FROM daily_routine_table WHERE member_id = ?", memberId);
+
+        assertEquals(0, dailySummaryRepository.deleteOrphans(DATE.withDayOfMonth(1).plusMonths(1)));
+        assertEquals(2, dailySummaryRepository.findByMemberIdAndDateRange(memberId, DATE, DATE.plusDays(1)).size());
+
+        assertEquals(2, dailySummaryRepository.deleteOrphans(null));
+    }
+}
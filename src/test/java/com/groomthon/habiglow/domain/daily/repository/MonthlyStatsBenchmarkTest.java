@@ -0,0 +1,166 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+
+/**
+ * 월별 통계 쿼리 비교 (루틴 10개 x 3년 기록을 가진 회원)
+ * 기존: EXTRACT(YEAR/MONTH) 조건으로 회원의 전체 기록을 읽은 뒤 필터
+ * 변경: performedDate 범위 조건으로 (member_id, performed_date) 인덱스 범위만 조회, 연간은 쿼리 1회
+ * (현재 월별/연간 통계는 daily_summary 를 읽으므로 두 쿼리 모두 비교용으로만 유지)
+ */
+@Tag("benchmark")
+class MonthlyStatsBenchmarkTest extends PostgresJpaTestSupport {
+
+    private static final String LEGACY_QUERY = "SELECT dr.performedDate, " +
+        "COUNT(*) as totalRoutines, " +
+        "COUNT(CASE WHEN dr.performanceLevel = 'FULL_SUCCESS' THEN 1 END) as successfulRoutines " +
+        "FROM DailyRoutineEntity dr " +
+        "WHERE dr.member.id = :memberId " +
+        "AND EXTRACT(YEAR FROM dr.performedDate) = :year " +
+        "AND EXTRACT(MONTH FROM dr.performedDate) = :month " +
+        "GROUP BY dr.performedDate " +
+        "ORDER BY dr.performedDate";
+
+    private static final String RANGE_QUERY = "SELECT dr.performedDate, " +
+        "COUNT(dr), " +
+        "SUM(CASE WHEN dr.performanceLevel = 'FULL_SUCCESS' THEN 1L ELSE 0L END) " +
+        "FROM DailyRoutineEntity dr " +
+        "WHERE dr.member.id = :memberId " +
+        "AND dr.performedDate BETWEEN :startDate AND :endDate " +
+        "GROUP BY dr.performedDate " +
+        "ORDER BY dr.performedDate";
+
+    private static final int ROUTINE_COUNT = 10;
+    private static final int YEAR = 2024;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "stats@habiglow.com", "stats", SocialType.KAKAO, "stats-1", null));
+        List<Long> routineIds = new ArrayList<>();
+        for (int i = 0; i < ROUTINE_COUNT; i++) {
+            routineIds.add(em.persist(RoutineEntity.createRoutine(
+                member, "routine-" + i, null, RoutineCategory.HEALTH, false, null, null, null, null)).getRoutineId());
+        }
+        em.flush();
+        memberId = member.getId();
+
+        jdbcTemplate.update("""
+            INSERT INTO daily_routine_table (daily_routine_id, member_id, routine_id, performance_level,
+                consecutive_days, performed_date, created_at)
+            SELECT nextval('daily_routine_seq'), ?, r.id,
+                CASE WHEN random() < 0.6 THEN 'FULL_SUCCESS' ELSE 'NOT_PERFORMED' END, 0, d::date, now()
+            FROM generate_series(DATE '2022-01-01', DATE '2024-12-31', INTERVAL '1 day') d,
+                unnest(?::bigint[]) AS r(id)
+            """, memberId, routineIds.toArray(new Long[0]));
+        jdbcTemplate.execute("ANALYZE daily_routine_table");
+    }
+
+    @Test
+    void 월별_통계_쿼리_비교() {
+        runLegacyYear();
+        runRangeMonths();
+        runRangeYear();
+
+        long legacyNanos = 0;
+        long rangeNanos = 0;
+        long yearNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            runLegacyYear();
+            legacyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            runRangeMonths();
+            rangeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            runRangeYear();
+            yearNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("legacy EXTRACT x12 : %,d us/year%n", legacyNanos / ITERATIONS / 1_000);
+        System.out.printf("date range x12     : %,d us/year%n", rangeNanos / ITERATIONS / 1_000);
+        System.out.printf("date range (1 query): %,d us/year%n", yearNanos / ITERATIONS / 1_000);
+
+        assertTrue(rangeNanos < legacyNanos);
+        assertTrue(yearNanos < rangeNanos);
+    }
+
+    @Test
+    void 기간_조회_결과가_기존_쿼리와_동일() {
+        for (int month = 1; month <= 12; month++) {
+            List<Object[]> legacy = legacyMonth(month);
+            LocalDate start = LocalDate.of(YEAR, month, 1);
+            List<Object[]> counts = rangeQuery(start, start.withDayOfMonth(start.lengthOfMonth()));
+
+            assertEquals(legacy.size(), counts.size());
+            for (int i = 0; i < legacy.size(); i++) {
+                assertArrayEquals(legacy.get(i), counts.get(i));
+            }
+        }
+    }
+
+    private int runLegacyYear() {
+        int rows = 0;
+        for (int month = 1; month <= 12; month++) {
+            rows += legacyMonth(month).size();
+        }
+        return rows;
+    }
+
+    private int runRangeMonths() {
+        int rows = 0;
+        for (int month = 1; month <= 12; month++) {
+            LocalDate start = LocalDate.of(YEAR, month, 1);
+            rows += rangeQuery(start, start.withDayOfMonth(start.lengthOfMonth())).size();
+        }
+        return rows;
+    }
+
+    private int runRangeYear() {
+        return rangeQuery(LocalDate.of(YEAR, 1, 1), LocalDate.of(YEAR, 12, 31)).size();
+    }
+
+    private List<Object[]> rangeQuery(LocalDate startDate, LocalDate endDate) {
+        return em.getEntityManager().createQuery(RANGE_QUERY, Object[].class)
+            .setParameter("memberId", memberId)
+            .setParameter("startDate", startDate)
+            .setParameter("endDate", endDate)
+            .getResultList();
+    }
+
+    private List<Object[]> legacyMonth(int month) {
+        return em.getEntityManager().createQuery(LEGACY_QUERY, Object[].class)
+            .setParameter("memberId", memberId)
+            .setParameter("year", YEAR)
+            .setParameter("month", month)
+            .getResultList();
+    }
+}
@@ -0,0 +1,164 @@
+package com.groomthon.habiglow.domain.daily.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.groomthon.habiglow.domain.daily.dto.response.DailyRecordResponse;
+import com.groomthon.habiglow.domain.daily.dto.response.RoutineRecordResponse;
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.member.repository.MemberRepository;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.dto.response.RoutineResponse;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+import com.groomthon.habiglow.support.QueryCountingDataSource;
+
+/**
+ * 당일 화면 조회 비교 (루틴 15개 중 10개 기록, 삭제된 루틴의 기록 1개)
+ * 기존: 루틴 조회 + 기록 fetch join 조회 + 회원 조회 + 엔티티로 가상 기록 생성
+ * 변경: routine_table LEFT JOIN daily_routine_table projection 1회
+ */
+@Tag("benchmark")
+@Import(TodayRoutineViewRepository.class)
+class TodayRoutineViewBenchmarkTest extends PostgresJpaTestSupport {
+
+    private static final int ROUTINE_COUNT = 15;
+    private static final int RECORDED_COUNT = 10;
+    private static final int ITERATIONS = 200;
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 10);
+
+    @Autowired
+    private TodayRoutineViewRepository todayRoutineViewRepository;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private DailyRoutineRepository dailyRoutineRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "today@habiglow.com", "today", SocialType.KAKAO, "today-1", null));
+        for (int i = 0; i < ROUTINE_COUNT; i++) {
+            RoutineEntity routine = em.persist(RoutineEntity.createRoutine(
+                member, "routine-" + i, null, RoutineCategory.HEALTH, false, null, null, null, null));
+            if (i < RECORDED_COUNT) {
+                em.persist(DailyRoutineEntity.create(routine, member,
+                    i % 2 == 0 ? PerformanceLevel.FULL_SUCCESS : PerformanceLevel.PARTIAL_SUCCESS, DATE, i % 2));
+            }
+        }
+        RoutineEntity deleted = em.persist(RoutineEntity.createRoutine(
+            member, "deleted", null, RoutineCategory.SLEEP, false, null, null, null, null));
+        em.persist(DailyRoutineEntity.create(deleted, member, PerformanceLevel.FULL_SUCCESS, DATE, 1));
+        em.flush();
+        dailyRoutineRepository.nullifyRoutineReferenceForMember(deleted.getRoutineId(), member.getId());
+        em.remove(em.find(RoutineEntity.class, deleted.getRoutineId()));
+        em.flush();
+        em.clear();
+        memberId = member.getId();
+    }
+
+    @Test
+    void 당일_화면_조회_비교() {
+        QueryCountingDataSource counter = (QueryCountingDataSource) dataSource;
+
+        counter.reset();
+        legacyTodayView();
+        long legacyRoundTrips = counter.getRoundTrips();
+        em.clear();
+
+        counter.reset();
+        todayRoutineViewRepository.findTodayView(memberId, DATE);
+        long projectionRoundTrips = counter.getRoundTrips();
+
+        long legacyNanos = 0;
+        long projectionNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            legacyTodayView();
+            em.clear();
+            legacyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            todayRoutineViewRepository.findTodayView(memberId, DATE);
+            projectionNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("legacy (entities) : %d round trips, %,d us/op%n",
+            legacyRoundTrips, legacyNanos / ITERATIONS / 1_000);
+        System.out.printf("projection        : %d round trips, %,d us/op%n",
+            projectionRoundTrips, projectionNanos / ITERATIONS / 1_000);
+
+        assertEquals(1, projectionRoundTrips);
+        assertTrue(projectionRoundTrips < legacyRoundTrips);
+    }
+
+    @Test
+    void projection_결과가_기존_응답과_동일() {
+        DailyRecordResponse legacy = legacyTodayView();
+        TodayRoutineView view = todayRoutineViewRepository.findTodayView(memberId, DATE);
+
+        assertEquals(ROUTINE_COUNT + 1, view.routineRecords().size());
+        assertEquals(recordKeys(legacy.getRoutineRecords()), recordKeys(view.routineRecords()));
+        assertEquals(legacy.getAllRoutines().stream().map(RoutineResponse::getRoutineId).collect(Collectors.toSet()),
+            view.allRoutines().stream().map(RoutineResponse::getRoutineId).collect(Collectors.toSet()));
+    }
+
+    /**
+     * 변경 전 getTodayRecord 와 동일한 흐름 (회고 조회 제외)
+     */
+    private DailyRecordResponse legacyTodayView() {
+        List<RoutineEntity> routines = routineRepository.findByMember_Id(memberId);
+        List<DailyRoutineEntity> records = new ArrayList<>(
+            dailyRoutineRepository.findByMemberIdAndPerformedDateWithRoutine(memberId, DATE));
+
+        Set<Long> recordedRoutineIds = records.stream()
+            .filter(r -> r.getRoutine() != null)
+            .map(r -> r.getRoutine().getRoutineId())
+            .collect(Collectors.toSet());
+        MemberEntity member = memberRepository.findById(memberId).orElseThrow();
+        routines.stream()
+            .filter(routine -> !recordedRoutineIds.contains(routine.getRoutineId()))
+            .map(routine -> DailyRoutineEntity.create(routine, member, PerformanceLevel.NOT_PERFORMED, DATE, 0))
+            .forEach(records::add);
+
+        return DailyRecordResponse.of(null, records, routines);
+    }
+
+    private static Set<String> recordKeys(List<RoutineRecordResponse> records) {
+        return records.stream()
+            .map(r -> r.getRoutineId() + ":" + r.getRoutineTitle() + ":" + r.getPerformanceLevel()
+                + ":" + r.getConsecutiveDays())
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,107 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineRepository;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsecutiveDaysCacheTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 10);
+
+    @Mock
+    private DailyRoutineRepository repository;
+
+    private ConsecutiveDaysCache consecutiveDaysCache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(ConsecutiveDaysCache.CACHE_NAME);
+        consecutiveDaysCache = new ConsecutiveDaysCache(cacheManager, repository);
+    }
+
+    @Test
+    void getStreaks_미스만_조회하고_결과를_캐시() {
+        DailyRoutineEntity success = record(10L, true, 3);
+        when(repository.findByMemberIdAndPerformedDateAndRoutineIds(eq(MEMBER_ID), eq(DATE), anyCollection()))
+            .thenReturn(List.of(success));
+
+        Map<Long, Integer> first = consecutiveDaysCache.getStreaks(MEMBER_ID, DATE, List.of(10L, 20L));
+        Map<Long, Integer> second = consecutiveDaysCache.getStreaks(MEMBER_ID, DATE, List.of(10L, 20L));
+
+        assertEquals(Map.of(10L, 3, 20L, 0), first);
+        assertEquals(first, second);
+        verify(repository, times(1)).findByMemberIdAndPerformedDateAndRoutineIds(any(), any(), anyCollection());
+    }
+
+    @Test
+    void putAll_재저장시_캐시값_갱신() {
+        when(repository.findByMemberIdAndPerformedDateAndRoutineIds(any(), any(), anyCollection()))
+            .thenReturn(List.of(record(10L, true, 3)));
+        consecutiveDaysCache.getStreaks(MEMBER_ID, DATE, List.of(10L));
+
+        consecutiveDaysCache.putAll(List.of(record(10L, false, 0)));
+
+        assertEquals(0, consecutiveDaysCache.getStreaks(MEMBER_ID, DATE, List.of(10L)).get(10L));
+        verify(repository, times(1)).findByMemberIdAndPerformedDateAndRoutineIds(any(), any(), anyCollection());
+    }
+
+    @Test
+    void evictRoutine_삭제된_루틴만_제거() {
+        consecutiveDaysCache.putAll(List.of(record(10L, true, 3), record(20L, true, 5)));
+
+        consecutiveDaysCache.evictRoutine(10L);
+
+        when(repository.findByMemberIdAndPerformedDateAndRoutineIds(any(), any(), anyCollection()))
+            .thenReturn(List.of());
+        Map<Long, Integer> streaks = consecutiveDaysCache.getStreaks(MEMBER_ID, DATE, List.of(10L, 20L));
+
+        assertEquals(0, streaks.get(10L));
+        assertEquals(5, streaks.get(20L));
+        verify(repository).findByMemberIdAndPerformedDateAndRoutineIds(MEMBER_ID, DATE, List.of(10L));
+    }
+
+    @Test
+    void getStreaks_조회_중_반영된_저장_값을_덮어쓰지_않음() {
+        when(repository.findByMemberIdAndPerformedDateAndRoutineIds(any(), any(), anyCollection()))
+            .thenAnswer(invocation -> {
+                // 조회 이후 다른 요청의 저장이 커밋되어 캐시에 반영됨
+                consecutiveDaysCache.put(10L, MEMBER_ID, DATE, 4);
+                return List.of();
+            });
+
+        assertEquals(0, consecutiveDaysCache.getStreaks(MEMBER_ID, DATE, List.of(10L)).get(10L));
+        assertEquals(4, consecutiveDaysCache.getStreaks(MEMBER_ID, DATE, List.of(10L)).get(10L));
+    }
+
+    private DailyRoutineEntity record(Long routineId, boolean fullSuccess, int consecutiveDays) {
+        RoutineEntity routine = mock(RoutineEntity.class);
+        lenient().when(routine.getRoutineId()).thenReturn(routineId);
+        MemberEntity member = mock(MemberEntity.class);
+        lenient().when(member.getId()).thenReturn(MEMBER_ID);
+
+        DailyRoutineEntity record = mock(DailyRoutineEntity.class);
+        lenient().when(record.getRoutine()).thenReturn(routine);
+        lenient().when(record.getMember()).thenReturn(member);
+        lenient().when(record.getPerformedDate()).thenReturn(DATE);
+        lenient().when(record.isFullSuccess()).thenReturn(fullSuccess);
+        lenient().when(record.getConsecutiveDays()).thenReturn(consecutiveDays);
+        return record;
+    }
+}
@@ -0,0 +1,106 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineStreakRepository;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+
+@Import({ConsecutiveDaysRecalculator.class, DailyRoutineStreakRepository.class, ConsecutiveDaysCalculator.class,
+    ConsecutiveDaysCache.class})
+class ConsecutiveDaysRecalculatorTest extends PostgresJpaTestSupport {
+
+    private static final LocalDate START = LocalDate.of(2025, 9, 1);
+    private static final int DAYS = 5;
+
+    @Autowired
+    private ConsecutiveDaysRecalculator recalculator;
+
+    @Autowired
+    private DailyRoutineStreakRepository streakRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long routineId;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "streak@habiglow.com", "streak", SocialType.KAKAO, "streak-1", null));
+        RoutineEntity routine = em.persist(RoutineEntity.createRoutine(
+            member, "run", null, RoutineCategory.HEALTH, false, null, null, null, null));
+
+        // 9/1 ~ 9/5 5일 연속 성공 (1, 2, 3, 4, 5)
+        for (int i = 0; i < DAYS; i++) {
+            em.persist(DailyRoutineEntity.create(
+                routine, member, PerformanceLevel.FULL_SUCCESS, START.plusDays(i), i + 1));
+        }
+        em.flush();
+        memberId = member.getId();
+        routineId = routine.getRoutineId();
+    }
+
+    @Test
+    void recalculateAfter_과거_실패로_수정하면_이후_연속_일수_재계산() {
+        LocalDate edited = START.plusDays(1);
+        setRecord(edited, PerformanceLevel.NOT_PERFORMED, 0);
+
+        int changed = recalculator.recalculateAfter(memberId, List.of(routineId), edited);
+
+        assertEquals(3, changed);
+        assertEquals(List.of(1, 0, 1, 2, 3), streaks());
+    }
+
+    @Test
+    void recalculateAfter_과거_성공으로_수정하면_끊겼던_연속_일수_연결() {
+        setRecord(START.plusDays(2), PerformanceLevel.NOT_PERFORMED, 0);
+        recalculator.recalculateAfter(memberId, List.of(routineId), START.plusDays(2));
+
+        setRecord(START.plusDays(2), PerformanceLevel.FULL_SUCCESS, 3);
+        int changed = recalculator.recalculateAfter(memberId, List.of(routineId), START.plusDays(2));
+
+        assertEquals(2, changed);
+        assertEquals(List.of(1, 2, 3, 4, 5), streaks());
+    }
+
+    @Test
+    void recomputeMembers_어긋난_연속_일수_일괄_복구() {
+        jdbcTemplate.update("UPDATE daily_routine_table SET consecutive_days = 9 WHERE member_id = ?", memberId);
+        setRecord(START.plusDays(3), PerformanceLevel.PARTIAL_SUCCESS, 9);
+
+        int updated = streakRepository.recomputeMembers(List.of(memberId));
+
+        assertEquals(DAYS, updated);
+        assertEquals(List.of(1, 2, 3, 0, 1), streaks());
+    }
+
+    private void setRecord(LocalDate date, PerformanceLevel level, int consecutiveDays) {
+        jdbcTemplate.update("UPDATE daily_routine_table SET performance_level = ?, consecutive_days = ? " +
+            "WHERE member_id = ? AND performed_date = ?", level.name(), consecutiveDays, memberId, date);
+    }
+
+    private List<Integer> streaks() {
+        return jdbcTemplate.queryForList("SELECT consecutive_days FROM daily_routine_table " +
+            "WHERE member_id = ? ORDER BY performed_date", Integer.class, memberId);
+    }
+}
@@ -0,0 +1,138 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.groomthon.habiglow.domain.daily.dto.response.RoutineRecordResponse;
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineArchiveRepository;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineBulkRepository;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
+import com.groomthon.habiglow.domain.routine.repository.RoutineVersionRepository;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+
+@Import({DailyRoutineArchiveRepository.class, DailyRoutineBulkRepository.class, JacksonAutoConfiguration.class})
+class DailyRecordArchiveServiceTest extends PostgresJpaTestSupport {
+
+    // 2025-10 기준 6개월 전(4월)보다 오래된 3월만 보관 대상
+    private static final Clock CLOCK = Clock.fixed(
+        LocalDate.of(2025, 10, 5).atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+    private static final LocalDate MARCH_10 = LocalDate.of(2025, 3, 10);
+    private static final LocalDate MARCH_11 = LocalDate.of(2025, 3, 11);
+    private static final LocalDate SEPTEMBER_1 = LocalDate.of(2025, 9, 1);
+
+    @Autowired
+    private DailyRoutineArchiveRepository archiveRepository;
+
+    @Autowired
+    private DailyRoutineBulkRepository bulkRepository;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private RoutineVersionRepository routineVersionRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DailyRecordArchiveService archiveService;
+    private Long memberId;
+    private Long runId;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new DailyRecordArchiveService(archiveRepository, bulkRepository, routineRepository,
+            routineVersionRepository, em.getEntityManager(), CLOCK, true, 6);
+
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "archive@habiglow.com", "archive", SocialType.KAKAO, "archive-1", null));
+        RoutineEntity run = em.persist(RoutineEntity.createRoutine(
+            member, "run", null, RoutineCategory.HEALTH, false, null, null, null, null));
+        RoutineEntity read = em.persist(RoutineEntity.createRoutine(
+            member, "read", null, RoutineCategory.LEARNING, false, null, null, null, null));
+
+        em.persist(DailyRoutineEntity.create(run, member, PerformanceLevel.FULL_SUCCESS, MARCH_10, 1));
+        em.persist(DailyRoutineEntity.create(run, member, PerformanceLevel.FULL_SUCCESS, MARCH_11, 2));
+        em.persist(DailyRoutineEntity.create(read, member, PerformanceLevel.NOT_PERFORMED, MARCH_10, 0));
+        em.persist(DailyRoutineEntity.create(run, member, PerformanceLevel.FULL_SUCCESS, SEPTEMBER_1, 1));
+        em.flush();
+        em.clear();
+        memberId = member.getId();
+        runId = run.getRoutineId();
+    }
+
+    @Test
+    void archiveClosedMonths_오래된_달만_회원_월_단위로_보관하고_원본_삭제() {
+        assertEquals(3, archiveService.archiveClosedMonths());
+
+        assertEquals(1, hotCount());
+        assertEquals(1, (long) jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM daily_routine_archive WHERE member_id = ?", Long.class, memberId));
+
+        List<RoutineRecordResponse> archived = archiveService.findArchivedRecords(memberId, MARCH_11);
+        assertEquals(1, archived.size());
+        assertEquals(runId, archived.get(0).getRoutineId());
+        assertEquals("run", archived.get(0).getRoutineTitle());
+        assertEquals(PerformanceLevel.FULL_SUCCESS, archived.get(0).getPerformanceLevel());
+        assertEquals(2, archived.get(0).getConsecutiveDays());
+
+        assertEquals(2, archiveService.findArchivedRecords(memberId, MARCH_10).size());
+        assertTrue(archiveService.findArchivedRecords(memberId, SEPTEMBER_1).isEmpty());
+    }
+
+    @Test
+    void restoreIfArchived_보관된_달을_수정하면_원본_행으로_복원() {
+        archiveService.archiveClosedMonths();
+
+        archiveService.restoreIfArchived(memberId, List.of(MARCH_11));
+
+        assertEquals(4, hotCount());
+        assertEquals(List.of(1, 2), jdbcTemplate.queryForList(
+            "SELECT consecutive_days FROM daily_routine_table WHERE routine_id = ? AND performed_date < ? " +
+                "ORDER BY performed_date", Integer.class, runId, SEPTEMBER_1));
+        // 복원된 행도 보관 전과 같은 스냅샷 버전을 참조
+        assertEquals(List.of("run", "run"), jdbcTemplate.queryForList(
+            "SELECT v.title FROM daily_routine_table d JOIN routine_version v ON v.version_id = d.routine_version_id " +
+                "WHERE d.routine_id = ? AND d.performed_date < ?", String.class, runId, SEPTEMBER_1));
+        assertTrue(archiveRepository.findArchivedMonths(memberId,
+            YearMonth.of(2025, 1), YearMonth.of(2025, 12)).isEmpty());
+    }
+
+    @Test
+    void restoreIfArchived_첫_날짜_전날이_보관된_달이면_함께_복원() {
+        archiveService.archiveClosedMonths();
+
+        // 4월 1일 연속 일수는 보관된 3월 31일 기록에서 이어 계산
+        archiveService.restoreIfArchived(memberId, List.of(LocalDate.of(2025, 4, 1)));
+
+        assertEquals(4, hotCount());
+        assertTrue(archiveService.findArchivedRecords(memberId, MARCH_11).isEmpty());
+    }
+
+    private long hotCount() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM daily_routine_table WHERE member_id = ?", Long.class, memberId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.groomthon.habiglow.domain.daily.dto.error.InvalidRoutineError;
+import com.groomthon.habiglow.domain.daily.exception.DailyRecordValidationException;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.member.repository.MemberRepository;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.service.RoutineService;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+import com.groomthon.habiglow.support.QueryCountingDataSource;
+
+@Import(RoutineService.class)
+class DailyRecordContextTest extends PostgresJpaTestSupport {
+
+    private static final long UNKNOWN_ROUTINE_ID = 999_999L;
+
+    @Autowired
+    private RoutineService routineService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long memberId;
+    private Long runId;
+    private Long readId;
+    private Long stretchId;
+    private Long otherMemberRoutineId;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "context@habiglow.com", "context", SocialType.KAKAO, "context-1", null));
+        MemberEntity other = em.persist(MemberEntity.createSocialMember(
+            "other@habiglow.com", "other", SocialType.KAKAO, "context-2", null));
+        runId = em.persist(RoutineEntity.createRoutine(
+            member, "run", null, RoutineCategory.HEALTH, false, null, null, null, null)).getRoutineId();
+        readId = em.persist(RoutineEntity.createRoutine(
+            member, "read", null, RoutineCategory.LEARNING, false, null, null, null, null)).getRoutineId();
+        stretchId = em.persist(RoutineEntity.createRoutine(
+            member, "stretch", null, RoutineCategory.HEALTH, false, null, null, null, null)).getRoutineId();
+        otherMemberRoutineId = em.persist(RoutineEntity.createRoutine(
+            other, "walk", null, RoutineCategory.HEALTH, false, null, null, null, null)).getRoutineId();
+        em.flush();
+        em.clear();
+        memberId = member.getId();
+    }
+
+    @Test
+    void load_회원_조회_없이_루틴만_한_번_조회() {
+        QueryCountingDataSource counter = (QueryCountingDataSource) dataSource;
+        counter.reset();
+
+        DailyRecordContext context = DailyRecordContext.load(
+            memberId, memberRepository.getReferenceById(memberId), List.of(runId, readId, runId), routineService);
+
+        assertEquals(1, counter.getRoundTrips());
+        assertEquals(memberId, context.member().getId());
+        assertEquals(1, counter.getRoundTrips());
+
+        // 스냅샷 대상은 요청에 없던 루틴만 추가로 한 번 조회
+        List<RoutineEntity> unrecorded = context.routinesExcept(Set.of(runId));
+        context.routinesExcept(Set.of(runId, readId));
+        assertEquals(Set.of(readId, stretchId),
+            Set.copyOf(unrecorded.stream().map(RoutineEntity::getRoutineId).toList()));
+        assertEquals(2, counter.getRoundTrips());
+    }
+
+    @Test
+    void load_없는_루틴과_다른_회원_루틴을_구분해_거부() {
+        DailyRecordValidationException exception = assertThrows(DailyRecordValidationException.class,
+            () -> DailyRecordContext.load(memberId, memberRepository.getReferenceById(memberId),
+                List.of(runId, otherMemberRoutineId, UNKNOWN_ROUTINE_ID), routineService));
+
+        List<InvalidRoutineError> errors = exception.getInvalidRoutines();
+        assertEquals(List.of(otherMemberRoutineId, UNKNOWN_ROUTINE_ID),
+            errors.stream().map(InvalidRoutineError::getRoutineId).toList());
+        assertEquals(InvalidRoutineError.accessDenied(otherMemberRoutineId).getReason(), errors.get(0).getReason());
+        assertEquals(InvalidRoutineError.notFound(UNKNOWN_ROUTINE_ID).getReason(), errors.get(1).getReason());
+    }
+}
@@ -0,0 +1,166 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.groomthon.habiglow.domain.daily.dto.request.RoutinePerformanceRequest;
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineBulkRepository;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineRepository;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineStreakRepository;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.global.config.TimeConfig;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+import com.groomthon.habiglow.support.QueryCountingDataSource;
+
+/**
+ * 루틴 15개 저장 시 DB 왕복 수 비교
+ * 기존: 루틴마다 당일 기록 조회 + 전날 기록 조회 (15 x 2) + saveAll INSERT
+ * 변경: 전날 기록 일괄 조회 + ID 블록 할당 + 네이티브 upsert batch + 저장 결과 조회
+ */
+@Tag("benchmark")
+@Import({DailyRoutineService.class, DailyRoutineBulkRepository.class, ConsecutiveDaysCalculator.class,
+    ConsecutiveDaysCache.class, ConsecutiveDaysRecalculator.class, DailyRoutineStreakRepository.class,
+    TimeConfig.class})
+class DailyRoutineSaveBenchmarkTest extends PostgresJpaTestSupport {
+
+    private static final int ROUTINE_COUNT = 15;
+    // 당일 저장 경로 측정 (과거 날짜는 이후 기록 연속 일수 재계산 조회가 추가됨)
+    private static final LocalDate BULK_DATE = LocalDate.now();
+    private static final LocalDate LEGACY_DATE = BULK_DATE.minusDays(10);
+
+    @Autowired
+    private DailyRoutineService dailyRoutineService;
+
+    @Autowired
+    private DailyRoutineRepository dailyRoutineRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long memberId;
+    private List<Long> routineIds;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "bench@habiglow.com", "bench", SocialType.KAKAO, "bench-1", null));
+        memberId = member.getId();
+        routineIds = new ArrayList<>();
+
+        for (int i = 0; i < ROUTINE_COUNT; i++) {
+            RoutineEntity routine = em.persist(RoutineEntity.createRoutine(
+                member, "routine-" + i, null, RoutineCategory.HEALTH, false, null, null, null, null));
+            routineIds.add(routine.getRoutineId());
+
+            // 전날 3일 연속 성공 기록
+            em.persist(DailyRoutineEntity.create(
+                routine, member, PerformanceLevel.FULL_SUCCESS, LEGACY_DATE.minusDays(1), 3));
+            em.persist(DailyRoutineEntity.create(
+                routine, member, PerformanceLevel.FULL_SUCCESS, BULK_DATE.minusDays(1), 3));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 루틴_기록_저장_DB_왕복_수_비교() {
+        QueryCountingDataSource counter = (QueryCountingDataSource) dataSource;
+
+        List<RoutinePerformanceRequest> legacyRequests = loadRequests();
+        counter.reset();
+        List<DailyRoutineEntity> legacySaved = saveLegacy(legacyRequests, LEGACY_DATE);
+        em.flush();
+        long legacyRoundTrips = counter.getRoundTrips();
+        em.clear();
+
+        List<RoutinePerformanceRequest> bulkRequests = loadRequests();
+        counter.reset();
+        List<DailyRoutineEntity> bulkSaved = dailyRoutineService.saveRoutineRecords(memberId, BULK_DATE, bulkRequests);
+        long bulkRoundTrips = counter.getRoundTrips();
+
+        System.out.printf("legacy (per routine): %d round trips%n", legacyRoundTrips);
+        System.out.printf("bulk upsert         : %d round trips%n", bulkRoundTrips);
+
+        assertEquals(ROUTINE_COUNT, legacySaved.size());
+        assertEquals(ROUTINE_COUNT, bulkSaved.size());
+        assertTrue(legacySaved.stream().allMatch(r -> r.getConsecutiveDays() == 4));
+        assertTrue(bulkSaved.stream().allMatch(r -> r.getConsecutiveDays() == 4));
+        assertTrue(bulkRoundTrips <= 4);
+        assertTrue(bulkRoundTrips < legacyRoundTrips);
+    }
+
+    @Test
+    void saveRoutineRecords_기존_기록은_갱신() {
+        dailyRoutineService.saveRoutineRecords(memberId, BULK_DATE, loadRequests());
+        em.clear();
+
+        List<RoutinePerformanceRequest> retry = loadRequests().stream()
+            .map(r -> RoutinePerformanceRequest.of(r.getRoutine(), r.getMember(), PerformanceLevel.PARTIAL_SUCCESS))
+            .toList();
+        List<DailyRoutineEntity> saved = dailyRoutineService.saveRoutineRecords(memberId, BULK_DATE, retry);
+
+        assertEquals(ROUTINE_COUNT, saved.size());
+        assertTrue(saved.stream().allMatch(r -> r.getPerformanceLevel() == PerformanceLevel.PARTIAL_SUCCESS));
+        assertTrue(saved.stream().allMatch(r -> r.getConsecutiveDays() == 0));
+        assertEquals(ROUTINE_COUNT,
+            dailyRoutineRepository.findByMemberIdAndPerformedDateWithRoutine(memberId, BULK_DATE).size());
+    }
+
+    private List<RoutinePerformanceRequest> loadRequests() {
+        MemberEntity member = em.find(MemberEntity.class, memberId);
+        return routineIds.stream()
+            .map(id -> RoutinePerformanceRequest.of(
+                em.find(RoutineEntity.class, id), member, PerformanceLevel.FULL_SUCCESS))
+            .toList();
+    }
+
+    /**
+     * 변경 전 saveRoutineRecords 와 동일한 흐름
+     */
+    private List<DailyRoutineEntity> saveLegacy(List<RoutinePerformanceRequest> records, LocalDate date) {
+        List<DailyRoutineEntity> entities = new ArrayList<>();
+        for (RoutinePerformanceRequest record : records) {
+            Optional<DailyRoutineEntity> existing = dailyRoutineRepository
+                .findByRoutine_RoutineIdAndMemberIdAndPerformedDate(record.getRoutineId(), memberId, date);
+            int consecutiveDays = legacyConsecutiveDays(record, date);
+
+            DailyRoutineEntity entity = existing.orElseGet(() -> DailyRoutineEntity.create(
+                record.getRoutine(), record.getMember(), record.getPerformanceLevel(), date, consecutiveDays));
+            entity.updatePerformance(record.getPerformanceLevel(), consecutiveDays);
+            entities.add(entity);
+        }
+        return dailyRoutineRepository.saveAll(entities);
+    }
+
+    private int legacyConsecutiveDays(RoutinePerformanceRequest record, LocalDate date) {
+        if (record.getPerformanceLevel() != PerformanceLevel.FULL_SUCCESS) {
+            return 0;
+        }
+        return dailyRoutineRepository
+            .findByRoutine_RoutineIdAndMemberIdAndPerformedDate(record.getRoutineId(), memberId, date.minusDays(1))
+            .filter(DailyRoutineEntity::isFullSuccess)
+            .map(yesterday -> yesterday.getConsecutiveDays() + 1)
+            .orElse(1);
+    }
+}
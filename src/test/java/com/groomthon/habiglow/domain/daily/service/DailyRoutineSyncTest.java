@@ -0,0 +1,108 @@
+package com.groomthon.habiglow.domain.daily.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.groomthon.habiglow.domain.daily.dto.request.RoutinePerformanceRequest;
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineBulkRepository;
+import com.groomthon.habiglow.domain.daily.repository.DailyRoutineStreakRepository;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.global.config.TimeConfig;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+
+@Import({DailyRoutineService.class, DailyRoutineBulkRepository.class, ConsecutiveDaysCalculator.class,
+    ConsecutiveDaysCache.class, ConsecutiveDaysRecalculator.class, DailyRoutineStreakRepository.class,
+    TimeConfig.class})
+class DailyRoutineSyncTest extends PostgresJpaTestSupport {
+
+    private static final LocalDate START = LocalDate.of(2025, 9, 1);
+
+    @Autowired
+    private DailyRoutineService dailyRoutineService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MemberEntity member;
+    private RoutineEntity routine;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(MemberEntity.createSocialMember(
+            "sync@habiglow.com", "sync", SocialType.KAKAO, "sync-1", null));
+        routine = em.persist(RoutineEntity.createRoutine(
+            member, "run", null, RoutineCategory.HEALTH, false, null, null, null, null));
+        em.flush();
+    }
+
+    @Test
+    void saveRoutineRecordsForDates_여러_날짜를_날짜_순으로_이어_계산() {
+        NavigableMap<LocalDate, List<RoutinePerformanceRequest>> records = new TreeMap<>();
+        records.put(START.plusDays(2), List.of(request(PerformanceLevel.FULL_SUCCESS)));
+        records.put(START, List.of(request(PerformanceLevel.FULL_SUCCESS)));
+        records.put(START.plusDays(1), List.of(request(PerformanceLevel.FULL_SUCCESS)));
+        records.put(START.plusDays(3), List.of(request(PerformanceLevel.NOT_PERFORMED)));
+
+        dailyRoutineService.saveRoutineRecordsForDates(member.getId(), records);
+
+        assertEquals(List.of(1, 2, 3, 0), streaks());
+    }
+
+    @Test
+    void saveRoutineRecordsForDates_요청에_없는_기존_기록을_사이에_두고_재계산() {
+        em.persist(DailyRoutineEntity.create(routine, member, PerformanceLevel.FULL_SUCCESS, START.plusDays(1), 1));
+        em.flush();
+
+        NavigableMap<LocalDate, List<RoutinePerformanceRequest>> records = new TreeMap<>();
+        records.put(START, List.of(request(PerformanceLevel.FULL_SUCCESS)));
+        records.put(START.plusDays(2), List.of(request(PerformanceLevel.FULL_SUCCESS)));
+
+        dailyRoutineService.saveRoutineRecordsForDates(member.getId(), records);
+
+        assertEquals(List.of(1, 2, 3), streaks());
+    }
+
+    @Test
+    void saveRoutineRecords_바뀐_기록만_분리하고_나머지는_관리_상태_유지() {
+        DailyRoutineEntity existing = em.persist(
+            DailyRoutineEntity.create(routine, member, PerformanceLevel.NOT_PERFORMED, START, 0));
+        em.flush();
+
+        List<DailyRoutineEntity> saved = dailyRoutineService.saveRoutineRecords(
+            member.getId(), START, List.of(request(PerformanceLevel.FULL_SUCCESS)));
+
+        assertFalse(em.getEntityManager().contains(existing));
+        assertTrue(em.getEntityManager().contains(member));
+        assertTrue(em.getEntityManager().contains(routine));
+        assertEquals(PerformanceLevel.FULL_SUCCESS, saved.get(0).getPerformanceLevel());
+        assertEquals(1, saved.get(0).getConsecutiveDays());
+    }
+
+    private RoutinePerformanceRequest request(PerformanceLevel level) {
+        return RoutinePerformanceRequest.of(routine, member, level);
+    }
+
+    private List<Integer> streaks() {
+        return jdbcTemplate.queryForList("SELECT consecutive_days FROM daily_routine_table " +
+            "WHERE member_id = ? ORDER BY performed_date", Integer.class, member.getId());
+    }
+}
@@ -0,0 +1,86 @@
+package com.groomthon.habiglow.domain.member.service;
+
+import com.groomthon.habiglow.domain.member.repository.MemberDataVersionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberDataVersionServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 10);
+
+    @Mock
+    private MemberDataVersionRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberDataVersionService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new MemberDataVersionService(repository, meterRegistry);
+    }
+
+    @Test
+    void checkNotModified_같은_버전이면_304() {
+        when(repository.findVersion(MEMBER_ID)).thenReturn(3L);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertFalse(service.checkNotModified(request(null, first), "today", MEMBER_ID, TODAY));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals("private, no-cache", first.getHeader(HttpHeaders.CACHE_CONTROL));
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertTrue(service.checkNotModified(request(etag, second), "today", MEMBER_ID, TODAY));
+        assertEquals(304, second.getStatus());
+
+        assertEquals(1.0, counter("today", "miss"));
+        assertEquals(1.0, counter("today", "hit"));
+    }
+
+    @Test
+    void checkNotModified_버전이나_범위가_바뀌면_다시_조회() {
+        when(repository.findVersion(MEMBER_ID)).thenReturn(3L, 4L, 4L);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        service.checkNotModified(request(null, first), "today", MEMBER_ID, TODAY);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        // 저장으로 버전 증가
+        assertFalse(service.checkNotModified(
+            request(etag, new MockHttpServletResponse()), "today", MEMBER_ID, TODAY));
+        // 날짜가 바뀜
+        assertFalse(service.checkNotModified(
+            request(etag, new MockHttpServletResponse()), "today", MEMBER_ID, TODAY.plusDays(1)));
+
+        assertEquals(3.0, counter("today", "miss"));
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/daily-records/today");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private double counter(String endpoint, String result) {
+        return meterRegistry.get(MemberDataVersionService.METRIC_NAME)
+            .tag("endpoint", endpoint).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,58 @@
+package com.groomthon.habiglow.domain.routine.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+import com.groomthon.habiglow.support.QueryCountingDataSource;
+
+/**
+ * 시퀀스 ID 엔티티의 INSERT 가 JDBC batch 로 전송되는지 확인
+ * 120건 = 시퀀스 조회 3회(50개 블록) + executeBatch 3회, 함께 저장되는 첫 스냅샷 버전(routine_version)도 같은 횟수
+ */
+class RoutineBatchInsertTest extends PostgresJpaTestSupport {
+
+    private static final int COUNT = 120;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void saveAll_INSERT_batch_전송() {
+        MemberEntity member = em.persistAndFlush(MemberEntity.createSocialMember(
+            "batch@habiglow.com", "batch", SocialType.KAKAO, "batch-1", null));
+        List<RoutineEntity> routines = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            routines.add(RoutineEntity.createRoutine(
+                member, "routine-" + i, null, RoutineCategory.HEALTH, false, null, null, null, null));
+        }
+
+        QueryCountingDataSource counter = (QueryCountingDataSource) dataSource;
+        counter.reset();
+        routineRepository.saveAll(routines);
+        em.flush();
+
+        assertTrue(counter.getRoundTrips() <= 12,
+            "expected batched inserts but got " + counter.getRoundTrips() + " round trips");
+        assertEquals(COUNT, routines.stream().map(RoutineEntity::getRoutineId).distinct().count());
+        assertEquals(COUNT, routines.stream().map(r -> r.getCurrentVersion().getVersionId()).distinct().count());
+    }
+}
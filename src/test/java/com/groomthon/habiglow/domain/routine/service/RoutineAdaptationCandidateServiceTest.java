@@ -0,0 +1,163 @@
+package com.groomthon.habiglow.domain.routine.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groomthon.habiglow.domain.daily.entity.DailyRoutineEntity;
+import com.groomthon.habiglow.domain.daily.entity.PerformanceLevel;
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.common.TargetType;
+import com.groomthon.habiglow.domain.routine.dto.response.adaptation.AdaptationType;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.repository.RoutineAdaptationCandidate;
+import com.groomthon.habiglow.domain.routine.repository.RoutineAdaptationCandidateRepository;
+import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
+import com.groomthon.habiglow.domain.routine.service.strategy.GrowthStrategy;
+import com.groomthon.habiglow.domain.routine.service.strategy.ReductionStrategy;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+import com.groomthon.habiglow.support.QueryCountingDataSource;
+
+@Import({RoutineAdaptationCandidateRepository.class, RoutineDataAccessService.class, GrowthStrategy.class,
+    ReductionStrategy.class, GrowthConfigurationService.class})
+class RoutineAdaptationCandidateServiceTest extends PostgresJpaTestSupport {
+
+    // 한국 시간 2025-10-05 00:10 (UTC 로는 전날)
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final Clock CLOCK = Clock.fixed(
+        LocalDate.of(2025, 10, 5).atTime(0, 10).atZone(KST).toInstant(), KST);
+    private static final LocalDate YESTERDAY = LocalDate.of(2025, 10, 4);
+
+    @Autowired
+    private RoutineDataAccessService routineDataAccessService;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private RoutineAdaptationCandidateRepository candidateRepository;
+
+    @Autowired
+    private GrowthStrategy growthStrategy;
+
+    @Autowired
+    private ReductionStrategy reductionStrategy;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private RoutineAdaptationCandidateService candidateService;
+    private Long memberId;
+    private Long growId;
+    private Long reduceId;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 크기 1 로 청크 경계마다 다음 루틴부터 이어서 평가하는지 함께 확인
+        candidateService = new RoutineAdaptationCandidateService(routineDataAccessService, routineRepository,
+            candidateRepository, growthStrategy, reductionStrategy, new TransactionTemplate(transactionManager),
+            em.getEntityManager(), CLOCK, 1);
+
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "adaptation@habiglow.com", "adaptation", SocialType.KAKAO, "adaptation-1", null));
+        // 성장 주기 완료 + 어제 완전 성공 → 성장 대상
+        RoutineEntity grow = em.persist(growthRoutine(member, "run"));
+        for (int i = 0; i < 3; i++) {
+            grow.updateGrowthConfiguration(grow.getGrowthConfiguration().withIncrementedCycle());
+        }
+        em.persist(DailyRoutineEntity.create(grow, member, PerformanceLevel.FULL_SUCCESS, YESTERDAY, 3));
+        // 성장 주기는 완료했지만 어제 기록이 없음 → 대상 아님
+        RoutineEntity waiting = em.persist(growthRoutine(member, "read"));
+        for (int i = 0; i < 3; i++) {
+            waiting.updateGrowthConfiguration(waiting.getGrowthConfiguration().withIncrementedCycle());
+        }
+        // 실패 주기 완료 → 감소 대상
+        RoutineEntity reduce = em.persist(growthRoutine(member, "stretch"));
+        for (int i = 0; i < 3; i++) {
+            reduce.updateGrowthConfiguration(reduce.getGrowthConfiguration().withIncrementedFailureCycle());
+        }
+        em.persist(RoutineEntity.createRoutine(
+            member, "walk", null, RoutineCategory.HEALTH, false, null, null, null, null));
+        em.flush();
+        em.clear();
+        memberId = member.getId();
+        growId = grow.getRoutineId();
+        reduceId = reduce.getRoutineId();
+    }
+
+    @Test
+    void refreshAll_성장_모드_루틴을_청크로_평가하고_이전_날짜_행은_삭제() {
+        // 어제 평가 이후 삭제된 루틴의 행
+        jdbcTemplate.update("""
+            INSERT INTO routine_adaptation_candidate (routine_id, member_id, adaptation_type, evaluated_for, evaluated_at)
+            VALUES (999999, ?, 'GROWTH', ?, now())
+            """, memberId, YESTERDAY);
+
+        // 오늘 전체 재평가 전에는 조회 결과 없음 (호출 측이 실시간 분석으로 대신함)
+        assertTrue(candidateService.findCandidates(memberId).isEmpty());
+
+        assertEquals(3, candidateService.refreshAll());
+
+        QueryCountingDataSource counter = (QueryCountingDataSource) dataSource;
+        counter.reset();
+        List<RoutineAdaptationCandidate> candidates = candidateService.findCandidates(memberId).orElseThrow();
+        assertEquals(1, counter.getRoundTrips());
+
+        assertEquals(List.of(growId, reduceId), candidates.stream().map(RoutineAdaptationCandidate::routineId).toList());
+        RoutineAdaptationCandidate growth = candidates.get(0);
+        assertEquals(AdaptationType.GROWTH, growth.type());
+        assertEquals(12, growth.suggestedTarget());
+        assertEquals(3, growth.consecutiveDays());
+        assertEquals(YESTERDAY, growth.lastPerformedDate());
+        RoutineAdaptationCandidate reduction = candidates.get(1);
+        assertEquals(AdaptationType.REDUCTION, reduction.type());
+        assertEquals(9, reduction.suggestedTarget());
+        assertEquals(0L, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM routine_adaptation_candidate WHERE evaluated_for < ?", Long.class,
+            LocalDate.now(CLOCK)));
+    }
+
+    @Test
+    void refreshRoutines_바뀐_루틴만_다시_평가() {
+        candidateService.refreshAll();
+
+        RoutineEntity reduce = em.find(RoutineEntity.class, reduceId);
+        reduce.updateGrowthConfiguration(reduce.getGrowthConfiguration().withResetFailureCycle());
+        em.flush();
+        candidateService.refreshRoutines(List.of(reduceId));
+
+        assertEquals(List.of(growId), candidateService.findCandidates(memberId).orElseThrow().stream()
+            .map(RoutineAdaptationCandidate::routineId)
+            .toList());
+    }
+
+    private RoutineEntity growthRoutine(MemberEntity member, String title) {
+        return RoutineEntity.createRoutine(
+            member, title, null, RoutineCategory.HEALTH, true, TargetType.NUMBER, 10, 3, 2);
+    }
+}
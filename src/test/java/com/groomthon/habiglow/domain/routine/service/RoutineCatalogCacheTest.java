@@ -0,0 +1,118 @@
+package com.groomthon.habiglow.domain.routine.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.domain.routine.common.TargetType;
+import com.groomthon.habiglow.domain.routine.dto.response.RoutineResponse;
+import com.groomthon.habiglow.domain.routine.entity.RoutineEntity;
+import com.groomthon.habiglow.domain.routine.event.RoutineUpdatedEvent;
+import com.groomthon.habiglow.domain.routine.repository.RoutineRepository;
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationPublisher;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+import com.groomthon.habiglow.support.QueryCountingDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RoutineCatalogCacheTest extends PostgresJpaTestSupport {
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoutineCatalogCache cache;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity member = em.persist(MemberEntity.createSocialMember(
+            "catalog@habiglow.com", "catalog", SocialType.KAKAO, "catalog-1", null));
+        em.persist(RoutineEntity.createRoutine(
+            member, "run", null, RoutineCategory.HEALTH, false, null, null, null, null));
+        em.persist(RoutineEntity.createRoutine(
+            member, "read", null, RoutineCategory.LEARNING, false, null, null, null, null));
+        em.flush();
+        em.clear();
+        memberId = member.getId();
+
+        meterRegistry = new SimpleMeterRegistry();
+        CacheInvalidationPublisher publisher =
+            new CacheInvalidationPublisher(jdbcTemplate, true, "cache_invalidation", meterRegistry);
+        cache = new RoutineCatalogCache(routineRepository, em.getEntityManager(), publisher, meterRegistry,
+            DataSize.ofMegabytes(1), Duration.ofMinutes(5));
+    }
+
+    @Test
+    void getRoutines_두번째_조회는_캐시된_같은_목록() {
+        QueryCountingDataSource counter = (QueryCountingDataSource) dataSource;
+        counter.reset();
+
+        List<RoutineResponse> first = cache.getRoutines(memberId);
+        List<RoutineResponse> second = cache.getRoutines(memberId);
+
+        assertEquals(1, counter.getRoundTrips());
+        assertSame(first, second);
+        assertEquals(2, first.size());
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", RoutineCatalogCache.CACHE_NAME)
+            .tag("result", "hit").functionCounter().count());
+        assertTrue(meterRegistry.get(RoutineCatalogCache.MEMORY_METRIC).gauge().value() > 0);
+    }
+
+    @Test
+    void 루틴_수정_이벤트로_무효화되면_다시_조회() {
+        cache.getRoutines(memberId);
+        em.persist(RoutineEntity.createRoutine(em.find(MemberEntity.class, memberId),
+            "stretch", null, RoutineCategory.HEALTH, false, null, null, null, null));
+        em.flush();
+        assertEquals(2, cache.getRoutines(memberId).size());
+
+        cache.onRoutineChanged(RoutineUpdatedEvent.of(null, "stretch", memberId));
+
+        assertEquals(3, cache.getRoutines(memberId).size());
+    }
+
+    @Test
+    void 성장_주기_카운트는_무효화_없이_현재_값으로_조회() {
+        RoutineEntity growth = em.persist(RoutineEntity.createRoutine(em.find(MemberEntity.class, memberId),
+            "walk", null, RoutineCategory.HEALTH, true, TargetType.NUMBER, 10, 3, 2));
+        em.flush();
+        assertEquals(0, currentCycleDays(cache.getRoutines(memberId), growth.getRoutineId()));
+
+        growth.updateGrowthConfiguration(growth.getGrowthConfiguration().withIncrementedCycle());
+        em.flush();
+
+        assertEquals(1, currentCycleDays(cache.getRoutines(memberId), growth.getRoutineId()));
+    }
+
+    private int currentCycleDays(List<RoutineResponse> routines, Long routineId) {
+        return routines.stream()
+            .filter(routine -> routine.getRoutineId().equals(routineId))
+            .findFirst()
+            .orElseThrow()
+            .getCurrentCycleDays();
+    }
+}
@@ -0,0 +1,141 @@
+package com.groomthon.habiglow.global.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groomthon.habiglow.domain.member.entity.MemberEntity;
+import com.groomthon.habiglow.domain.member.repository.MemberRepository;
+import com.groomthon.habiglow.domain.member.service.MemberInterestService;
+import com.groomthon.habiglow.domain.routine.common.RoutineCategory;
+import com.groomthon.habiglow.global.config.properties.EntityCacheProperties;
+import com.groomthon.habiglow.global.entity.EntityCacheRegions;
+import com.groomthon.habiglow.global.invalidation.CacheInvalidationPublisher;
+import com.groomthon.habiglow.global.invalidation.EntityCacheInvalidationHandler;
+import com.groomthon.habiglow.global.oauth2.entity.SocialType;
+import com.groomthon.habiglow.support.PostgresJpaTestSupport;
+import com.groomthon.habiglow.support.QueryCountingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 2차 캐시는 커밋된 값만 다른 트랜잭션에 보이므로 테스트 트랜잭션 없이 호출마다 커밋
+ */
+@Import({EntityCacheConfig.class, MemberInterestService.class, EntityCacheInvalidationHandler.class,
+    CacheInvalidationPublisher.class, EntityCacheConfigTest.MeterRegistryConfig.class})
+@EnableConfigurationProperties(EntityCacheProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheConfigTest extends PostgresJpaTestSupport {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberInterestService memberInterestService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long memberId;
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(MemberEntity.createSocialMember(
+            "cache@habiglow.com", "cache", SocialType.KAKAO, "cache-1", null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findById_커밋된_회원은_DB_조회_없이_캐시에서() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        QueryCountingDataSource counter = (QueryCountingDataSource) dataSource;
+        counter.reset();
+
+        memberRepository.findById(memberId).orElseThrow();
+        memberRepository.findById(memberId).orElseThrow();
+
+        assertEquals(0, counter.getRoundTrips());
+        assertEquals(2, statistics.getDomainDataRegionStatistics(EntityCacheRegions.MEMBER).getHitCount());
+    }
+
+    @Test
+    void updateInterests_일괄_삭제_후_캐시된_관심사_대신_새_관심사() {
+        memberInterestService.updateInterests(memberId, List.of(RoutineCategory.HEALTH));
+        assertEquals(List.of(RoutineCategory.HEALTH), interestsOf(memberId));
+        // 두 번째 조회는 캐시된 컬렉션
+        assertEquals(List.of(RoutineCategory.HEALTH), interestsOf(memberId));
+
+        memberInterestService.updateInterests(memberId, List.of(RoutineCategory.LEARNING));
+
+        assertEquals(List.of(RoutineCategory.LEARNING), interestsOf(memberId));
+    }
+
+    @Nested
+    @TestPropertySource(properties = "entity-cache.enabled=false")
+    class Disabled {
+
+        @Autowired
+        private MemberRepository disabledMemberRepository;
+
+        @Autowired
+        private DataSource disabledDataSource;
+
+        @Test
+        void findById_캐시를_끄면_매번_DB_조회() {
+            QueryCountingDataSource counter = (QueryCountingDataSource) disabledDataSource;
+            counter.reset();
+
+            disabledMemberRepository.findById(memberId).orElseThrow();
+            disabledMemberRepository.findById(memberId).orElseThrow();
+
+            assertEquals(2, counter.getRoundTrips());
+        }
+    }
+
+    private List<RoutineCategory> interestsOf(Long id) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+            memberRepository.findById(id).orElseThrow().getInterestCategories());
+    }
+}
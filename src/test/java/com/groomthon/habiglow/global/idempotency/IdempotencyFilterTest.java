@@ -0,0 +1,152 @@
+package com.groomthon.habiglow.global.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groomthon.habiglow.global.jwt.JWTUtil;
+import com.groomthon.habiglow.global.jwt.VerifiedToken;
+import com.groomthon.habiglow.global.util.SecurityResponseUtils;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class IdempotencyFilterTest {
+
+    private static final String URI = "/api/daily-records/2025-09-10";
+    private static final String BODY = "{\"routineRecords\":[{\"routineId\":1,\"performanceLevel\":\"FULL_SUCCESS\"}]}";
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private volatile CountDownLatch release = new CountDownLatch(0);
+    private volatile int status = 200;
+
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        IdempotencyStore store = new IdempotencyStore(1024 * 1024, Duration.ofMinutes(10), meterRegistry);
+        filter = new IdempotencyFilter(store, List.of("/api/daily-records/*"), Duration.ofSeconds(5),
+            new SecurityResponseUtils(new ObjectMapper()), meterRegistry);
+    }
+
+    @Test
+    void 같은_키의_재요청은_저장된_응답으로_재전송() throws Exception {
+        MockHttpServletResponse first = send("key-1", BODY);
+        MockHttpServletResponse second = send("key-1", BODY);
+
+        assertEquals(1, executions.get());
+        assertEquals(200, second.getStatus());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void 같은_키에_다른_본문이면_422() throws Exception {
+        send("key-1", BODY);
+        MockHttpServletResponse second = send("key-1", BODY.replace("FULL_SUCCESS", "NOT_PERFORMED"));
+
+        assertEquals(1, executions.get());
+        assertEquals(422, second.getStatus());
+    }
+
+    @Test
+    void 실패_응답은_저장하지_않아_다시_실행() throws Exception {
+        status = 500;
+        send("key-1", BODY);
+        status = 200;
+        MockHttpServletResponse retry = send("key-1", BODY);
+
+        assertEquals(2, executions.get());
+        assertEquals(200, retry.getStatus());
+    }
+
+    @Test
+    void 동시_중복_요청은_첫_요청을_기다린_후_재전송() throws Exception {
+        release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> send("key-1", BODY));
+            while (executions.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<MockHttpServletResponse> duplicate = executor.submit(() -> send("key-1", BODY));
+
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertFalse(duplicate.isDone());
+            release.countDown();
+
+            assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals("true", duplicate.get(5, TimeUnit.SECONDS).getHeader(IdempotencyFilter.REPLAYED_HEADER));
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 키가_없거나_대상_경로가_아니면_매번_실행() throws Exception {
+        send(null, BODY);
+        send(null, BODY);
+        sendTo("/api/routines", "key-1", BODY);
+        sendTo("/api/routines", "key-1", BODY);
+
+        assertEquals(4, executions.get());
+    }
+
+    private MockHttpServletResponse send(String key, String body) throws Exception {
+        return sendTo(URI, key, body);
+    }
+
+    private MockHttpServletResponse sendTo(String uri, String key, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, VerifiedToken.of("token", "digest",
+            Jwts.claims().add(JWTUtil.CLAIM_ID, "1").build()));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new CountingServlet()));
+        return response;
+    }
+
+    private class CountingServlet extends HttpServlet {
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            int execution = executions.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            response.setStatus(status);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"execution\":" + execution + ",\"length\":" + body.length() + "}");
+        }
+    }
+}
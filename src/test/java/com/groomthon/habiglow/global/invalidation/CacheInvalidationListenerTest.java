@@ -0,0 +1,138 @@
+package com.groomthon.habiglow.global.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class CacheInvalidationListenerTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String CHANNEL = "cache_invalidation_test";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private DriverManagerDataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheInvalidationPublisher publisherA;
+    private RecordingHandler handlerA;
+    private RecordingHandler handlerB;
+    private CacheInvalidationListener listenerA;
+    private CacheInvalidationListener listenerB;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        meterRegistry = new SimpleMeterRegistry();
+        publisherA = new CacheInvalidationPublisher(new JdbcTemplate(dataSource), true, CHANNEL, meterRegistry);
+        CacheInvalidationPublisher publisherB =
+            new CacheInvalidationPublisher(new JdbcTemplate(dataSource), true, CHANNEL, meterRegistry);
+
+        handlerA = new RecordingHandler();
+        handlerB = new RecordingHandler();
+        listenerA = listener(publisherA, handlerA);
+        listenerB = listener(publisherB, handlerB);
+        listenerA.start();
+        listenerB.start();
+
+        // 연결 직후 전체 무효화(재동기화)가 끝난 뒤부터 확인
+        awaitUntil(() -> listenerA.isConnected() && listenerB.isConnected()
+            && handlerA.resyncs.get() > 0 && handlerB.resyncs.get() > 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listenerA.stop();
+        listenerB.stop();
+    }
+
+    @Test
+    void publish_다른_인스턴스에만_전달() {
+        publisherA.publish(RecordingHandler.NAME, 42L);
+        publisherA.publish("unknown.cache", 1L);
+        publisherA.publish(RecordingHandler.NAME, "key|with|separator");
+
+        awaitUntil(() -> handlerB.keys.size() == 2);
+        assertEquals(List.of("42", "key|with|separator"), handlerB.keys);
+        assertTrue(handlerA.keys.isEmpty());
+        assertEquals(2, meterRegistry.get("cache.invalidation.lag").timer().count());
+    }
+
+    @Test
+    void publish_트랜잭션_안에서는_커밋될_때만_한_번_전달() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publisherA.publish(RecordingHandler.NAME, 1L);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            publisherA.publish(RecordingHandler.NAME, 2L);
+            publisherA.publish(RecordingHandler.NAME, 2L);
+        });
+        publisherA.publish(RecordingHandler.NAME, 3L);
+
+        awaitUntil(() -> handlerB.keys.contains("3"));
+        assertEquals(List.of("2", "3"), handlerB.keys);
+    }
+
+    private CacheInvalidationListener listener(CacheInvalidationPublisher publisher, RecordingHandler handler) {
+        return new CacheInvalidationListener(dataSource, CHANNEL, publisher.getInstanceId(), List.of(handler), 100,
+            Duration.ofMillis(100), Duration.ofSeconds(1), meterRegistry);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within " + TIMEOUT);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+
+    private static class RecordingHandler implements CacheInvalidationHandler {
+
+        static final String NAME = "test.cache";
+
+        final List<String> keys = new CopyOnWriteArrayList<>();
+        final AtomicInteger resyncs = new AtomicInteger();
+
+        @Override
+        public String cacheName() {
+            return NAME;
+        }
+
+        @Override
+        public void invalidate(String key) {
+            keys.add(key);
+        }
+
+        @Override
+        public void invalidateAll() {
+            resyncs.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.groomthon.habiglow.global.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 요청당 JWT 파싱 비용 비교
+ * 기존: 필터(isAccessToken, getEmail, getId) + TokenValidator(isAccessToken, getId, getEmail, getSocialUniqueId) = 7회 검증
+ * 변경: 필터에서 verifyAccessToken 1회 후 재사용, 이후 요청은 VerifiedTokenCache 에서 조회
+ */
+@Tag("benchmark")
+class JwtParseBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private JWTUtil jwtUtil;
+    private JWTUtil cachedJwtUtil;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = createJwtUtil(0);
+        cachedJwtUtil = createJwtUtil(10_000);
+        token = jwtUtil.createAccessToken("1", "user@habiglow.com", "kakao_1234");
+    }
+
+    private JWTUtil createJwtUtil(long cacheSize) {
+        JWTUtil util = new JWTUtil(new VerifiedTokenCache(cacheSize, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(util, "secret", "benchmark-secret-key-benchmark-secret-key-0123456789");
+        ReflectionTestUtils.setField(util, "accessTokenExpiration", 3_600_000L);
+        util.init();
+        return util;
+    }
+
+    @Test
+    void 요청당_파싱_횟수_비교() {
+        runLegacy(WARMUP);
+        runParseOnce(jwtUtil, WARMUP);
+        runParseOnce(cachedJwtUtil, WARMUP);
+
+        long legacyNanos = runLegacy(ITERATIONS);
+        long parseOnceNanos = runParseOnce(jwtUtil, ITERATIONS);
+        long cachedNanos = runParseOnce(cachedJwtUtil, ITERATIONS);
+
+        System.out.printf("legacy (7 parses)   : %,d ns/request%n", legacyNanos / ITERATIONS);
+        System.out.printf("parse-once (1 parse): %,d ns/request%n", parseOnceNanos / ITERATIONS);
+        System.out.printf("cached (digest only): %,d ns/request%n", cachedNanos / ITERATIONS);
+        System.out.printf("saved per request   : %,d ns (%.1fx)%n",
+            (legacyNanos - parseOnceNanos) / ITERATIONS, (double) legacyNanos / parseOnceNanos);
+
+        assertTrue(parseOnceNanos < legacyNanos);
+        assertTrue(cachedNanos < parseOnceNanos);
+    }
+
+    private long runLegacy(int iterations) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            // JwtAuthenticationFilter
+            jwtUtil.isAccessToken(token);
+            jwtUtil.getEmail(token);
+            jwtUtil.getId(token);
+            // JwtMemberExtractor -> TokenValidator.validateAccessToken
+            jwtUtil.isAccessToken(token);
+            sink += jwtUtil.getId(token).map(String::length).orElse(0);
+            jwtUtil.getEmail(token);
+            jwtUtil.getSocialUniqueId(token);
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(sink > 0);
+        return elapsed;
+    }
+
+    private long runParseOnce(JWTUtil util, int iterations) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            VerifiedToken verified = util.verifyAccessToken(token).orElseThrow();
+            sink += verified.getMemberId().length() + verified.getEmail().length();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(sink > 0);
+        return elapsed;
+    }
+}
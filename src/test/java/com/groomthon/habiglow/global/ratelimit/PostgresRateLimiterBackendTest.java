@@ -0,0 +1,99 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresRateLimiterBackendTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final double ONE_PER_TEN_SECONDS = 0.1;
+    private static final RateLimitKey KEY = new RateLimitKey("weekly-insight", null, "1");
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/rate-limit-buckets.sql")).execute(dataSource);
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute("TRUNCATE rate_limit_buckets");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private PostgresRateLimiterBackend backend(boolean localPrecheck) {
+        RateLimiterStore fallback = new RateLimiterStore(1_000, Duration.ofMinutes(10), meterRegistry);
+        return new PostgresRateLimiterBackend(jdbcTemplate, fallback, Duration.ofMinutes(10), localPrecheck, 1_000,
+            meterRegistry);
+    }
+
+    @Test
+    void tryAcquire_간격_내_재요청은_DB에서_거부() {
+        PostgresRateLimiterBackend backend = backend(false);
+
+        assertTrue(backend.tryAcquire(new RateLimitKey("social-login", "1.1.1.1", null), ONE_PER_TEN_SECONDS, 1));
+        assertFalse(backend.tryAcquire(new RateLimitKey("social-login", "1.1.1.1", null), ONE_PER_TEN_SECONDS, 1));
+        assertTrue(backend.tryAcquire(new RateLimitKey("social-login", "2.2.2.2", null), ONE_PER_TEN_SECONDS, 1));
+    }
+
+    @Test
+    void tryAcquire_인스턴스간_버킷_공유() {
+        PostgresRateLimiterBackend instanceA = backend(false);
+        PostgresRateLimiterBackend instanceB = backend(false);
+
+        assertTrue(instanceA.tryAcquire(new RateLimitKey("token-refresh", "1.1.1.1", null), ONE_PER_TEN_SECONDS, 1));
+        assertFalse(instanceB.tryAcquire(new RateLimitKey("token-refresh", "1.1.1.1", null), ONE_PER_TEN_SECONDS, 1));
+    }
+
+    @Test
+    void tryAcquire_burst_만큼_허용() {
+        PostgresRateLimiterBackend backend = backend(false);
+
+        assertTrue(backend.tryAcquire(KEY, ONE_PER_TEN_SECONDS, 3));
+        assertTrue(backend.tryAcquire(KEY, ONE_PER_TEN_SECONDS, 3));
+        assertTrue(backend.tryAcquire(KEY, ONE_PER_TEN_SECONDS, 3));
+        assertFalse(backend.tryAcquire(KEY, ONE_PER_TEN_SECONDS, 3));
+    }
+
+    @Test
+    void tryAcquire_거부_구간은_로컬에서_처리() {
+        PostgresRateLimiterBackend backend = backend(true);
+
+        assertTrue(backend.tryAcquire(KEY, ONE_PER_TEN_SECONDS, 1));
+        assertFalse(backend.tryAcquire(KEY, ONE_PER_TEN_SECONDS, 1));
+        assertFalse(backend.tryAcquire(KEY, ONE_PER_TEN_SECONDS, 1));
+
+        assertEquals(1.0, meterRegistry.get("rate-limiter.postgres.round-trips").counter().count());
+        assertEquals(2.0, meterRegistry.get("rate-limiter.postgres.precheck.rejections").counter().count());
+    }
+
+    @Test
+    void purgeIdleBuckets_유휴_버킷_삭제() {
+        PostgresRateLimiterBackend backend = backend(false);
+        backend.tryAcquire(KEY, ONE_PER_TEN_SECONDS, 1);
+        jdbcTemplate.getJdbcTemplate().update(
+            "UPDATE rate_limit_buckets SET updated_at = now() - interval '1 hour'");
+
+        backend.purgeIdleBuckets();
+
+        Integer remaining = jdbcTemplate.getJdbcTemplate()
+            .queryForObject("SELECT COUNT(*) FROM rate_limit_buckets", Integer.class);
+        assertEquals(0, remaining);
+    }
+}
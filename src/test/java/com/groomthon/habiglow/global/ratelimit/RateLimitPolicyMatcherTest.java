@@ -0,0 +1,49 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitPolicyMatcherTest {
+
+    private final RateLimitPolicy login =
+        new RateLimitPolicy("social-login", "/api/auth/social/login", 0.1, 1, KeyStrategy.IP);
+    private final RateLimitPolicy dashboard =
+        new RateLimitPolicy("dashboard", "/api/dashboard/**", 1.0, 5, KeyStrategy.MEMBER);
+    private final RateLimitPolicy insight =
+        new RateLimitPolicy("weekly-insight", "/api/dashboard/weekly/insight/**", 0.1, 3, KeyStrategy.MEMBER);
+
+    private final RateLimitPolicyMatcher matcher = new RateLimitPolicyMatcher(List.of(login, dashboard, insight));
+
+    @Test
+    void match_정확한_경로() {
+        assertSame(login, matcher.match("/api/auth/social/login"));
+        assertNull(matcher.match("/api/auth/social/login/extra"));
+        assertNull(matcher.match("/api/auth/token/refresh"));
+    }
+
+    @Test
+    void match_하위_경로는_긴_prefix_우선() {
+        assertSame(insight, matcher.match("/api/dashboard/weekly/insight"));
+        assertSame(insight, matcher.match("/api/dashboard/weekly/insight/last-week"));
+        assertSame(dashboard, matcher.match("/api/dashboard/weekly/stats"));
+        assertSame(dashboard, matcher.match("/api/dashboard"));
+    }
+
+    @Test
+    void match_경로_세그먼트_경계_확인() {
+        assertNull(matcher.match("/api/dashboardx"));
+        assertSame(dashboard, matcher.match("/api/dashboard/weekly/insights"));
+    }
+
+    @Test
+    void 생성_지원하지_않는_패턴은_기동_실패() {
+        RateLimitPolicy wildcard = new RateLimitPolicy("bad", "/api/*/login", 1.0, 1, KeyStrategy.IP);
+
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitPolicyMatcher(List.of(wildcard)));
+        assertThrows(IllegalArgumentException.class,
+            () -> new RateLimitPolicy("bad", "/api/login", 0, 1, KeyStrategy.IP));
+    }
+}
@@ -0,0 +1,40 @@
+package com.groomthon.habiglow.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_간격_내_재요청_거부() {
+        TokenBucket bucket = new TokenBucket(0);
+
+        assertTrue(bucket.tryAcquire(0, 10 * SECOND, 1));
+        assertFalse(bucket.tryAcquire(5 * SECOND, 10 * SECOND, 1));
+        assertTrue(bucket.tryAcquire(10 * SECOND, 10 * SECOND, 1));
+    }
+
+    @Test
+    void tryAcquire_burst_만큼_연속_허용() {
+        TokenBucket bucket = new TokenBucket(0);
+
+        assertTrue(bucket.tryAcquire(0, SECOND, 3));
+        assertTrue(bucket.tryAcquire(0, SECOND, 3));
+        assertTrue(bucket.tryAcquire(0, SECOND, 3));
+        assertFalse(bucket.tryAcquire(0, SECOND, 3));
+        assertTrue(bucket.tryAcquire(SECOND, SECOND, 3));
+    }
+
+    @Test
+    void tryAcquire_음수_nanoTime_에서도_동작() {
+        long start = Long.MIN_VALUE / 2;
+        TokenBucket bucket = new TokenBucket(start);
+
+        assertTrue(bucket.tryAcquire(start, SECOND, 1));
+        assertFalse(bucket.tryAcquire(start + SECOND / 2, SECOND, 1));
+        assertTrue(bucket.tryAcquire(start + SECOND, SECOND, 1));
+    }
+}
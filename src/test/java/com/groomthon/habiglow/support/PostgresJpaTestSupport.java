@@ -0,0 +1,48 @@
+package com.groomthon.habiglow.support;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 실제 PostgreSQL(Testcontainers) 기반 JPA 테스트 공통 설정
+ * Docker 가 없으면 테스트를 건너뛰고, DataSource 는 QueryCountingDataSource 로 감싸 DB 왕복 수를 측정
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(PostgresJpaTestSupport.QueryCountingConfig.class)
+public abstract class PostgresJpaTestSupport {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TestConfiguration
+    static class QueryCountingConfig {
+
+        @Bean
+        static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                        return new QueryCountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.groomthon.habiglow.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 실행된 SQL 문 수(DB 왕복 수)를 세는 DataSource
+ * execute / executeQuery / executeUpdate / executeBatch 각 호출을 1회 왕복으로 계산
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private final AtomicLong roundTrips = new AtomicLong();
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public long getRoundTrips() {
+        return roundTrips.get();
+    }
+
+    public void reset() {
+        roundTrips.set(0);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof Statement statement) {
+                    return wrap(statement, method.getReturnType());
+                }
+                return result;
+            });
+    }
+
+    private Object wrap(Statement statement, Class<?> statementType) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {statementType},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    roundTrips.incrementAndGet();
+                }
+                return invoke(statement, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}